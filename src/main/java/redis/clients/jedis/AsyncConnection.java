@@ -0,0 +1,141 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * A single connection shared by many threads. Commands are written under a lock and their replies
+ * are read by a dedicated thread, which completes the futures in the order the commands were
+ * written. Writers arriving while another one holds the lock leave the flush to the last of them,
+ * so concurrent commands are sent together.
+ * <p>
+ * Futures are completed on the reader thread, dependent stages which block must use one of the
+ * {@code *Async} methods of {@link CompletableFuture}.
+ */
+class AsyncConnection implements Closeable {
+
+  private final Client client;
+  private final Queue<PendingReply<?>> pendingReplies = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final AtomicInteger writers = new AtomicInteger();
+  private final Thread reader;
+  private volatile JedisException failure;
+
+  AsyncConnection(final HostAndPort hostAndPort, final JedisClientConfig clientConfig) {
+    // Jedis authenticates, selects the database and names the connection as configured
+    this.client = new Jedis(hostAndPort, clientConfig).getClient();
+    client.setTimeoutInfinite();
+    reader = new Thread(this::readReplies, "jedis-async-" + hostAndPort);
+    reader.setDaemon(true);
+    reader.start();
+  }
+
+  <T> CompletableFuture<T> submit(ProtocolCommand cmd, byte[][] args, Builder<T> builder) {
+    PendingReply<T> reply = new PendingReply<>(builder);
+    writers.incrementAndGet();
+    writeLock.lock();
+    try {
+      boolean lastWriter = writers.decrementAndGet() == 0;
+      if (failure != null) {
+        reply.completeExceptionally(failure);
+        return reply;
+      }
+      pendingReplies.add(reply);
+      client.sendCommand(cmd, args);
+      if (lastWriter) {
+        client.flush();
+      }
+    } catch (JedisConnectionException e) {
+      fail(e);
+    } finally {
+      writeLock.unlock();
+    }
+    return reply;
+  }
+
+  boolean isBroken() {
+    return failure != null;
+  }
+
+  @Override
+  public void close() {
+    fail(new JedisConnectionException("Connection closed."));
+  }
+
+  /**
+   * Stops writing, closes the socket so that the reader stops as well, and fails the replies still
+   * expected. Only the first failure is kept.
+   */
+  private void fail(JedisException e) {
+    writeLock.lock();
+    try {
+      if (failure != null) {
+        return;
+      }
+      failure = e;
+      try {
+        client.close();
+      } catch (JedisConnectionException ignored) {
+        // the socket is closed anyway
+      }
+    } finally {
+      writeLock.unlock();
+    }
+    failPendingReplies();
+  }
+
+  private void readReplies() {
+    while (failure == null) {
+      Object data;
+      try {
+        data = client.readProtocolWithCheckingBroken();
+      } catch (JedisDataException e) {
+        data = e;
+      } catch (JedisException e) {
+        fail(e);
+        break;
+      }
+      PendingReply<?> reply = pendingReplies.poll();
+      if (reply != null) {
+        reply.set(data);
+      }
+    }
+    failPendingReplies();
+  }
+
+  private void failPendingReplies() {
+    PendingReply<?> reply;
+    while ((reply = pendingReplies.poll()) != null) {
+      reply.completeExceptionally(failure);
+    }
+  }
+
+  private static class PendingReply<T> extends CompletableFuture<T> {
+    private final Builder<T> builder;
+
+    PendingReply(Builder<T> builder) {
+      this.builder = builder;
+    }
+
+    void set(Object data) {
+      if (data instanceof JedisDataException) {
+        completeExceptionally((JedisDataException) data);
+        return;
+      }
+      try {
+        complete(builder.build(data));
+      } catch (RuntimeException e) {
+        completeExceptionally(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,1882 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import redis.clients.jedis.commands.BinaryJedisCommands;
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.params.*;
+import redis.clients.jedis.resps.*;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Asynchronous counterpart of {@link Jedis} for the commands of {@link JedisCommands} and
+ * {@link BinaryJedisCommands}. Every method returns at once with a future of the reply. All callers
+ * share one connection: commands are pipelined as they are issued and a dedicated reader thread
+ * completes the futures in the order the commands were sent, so thousands of requests in flight
+ * need neither a thread nor a connection each.
+ * <p>
+ * Instances are thread-safe. Blocking commands are left out since they would hold up every other
+ * command on the connection. Futures are completed on the reader thread, dependent stages which
+ * block have to use the {@code *Async} methods of {@link CompletableFuture}. A broken connection
+ * fails all pending futures with a {@link redis.clients.jedis.exceptions.JedisConnectionException}
+ * and is not reconnected; see {@link #isBroken()}.
+ */
+public class AsyncJedis implements Closeable {
+
+  private static final Builder<ScanResult<String>> STRING_SCAN_RESULT
+      = scanResult(false, items -> SafeEncoder.encode(items.next()));
+  private static final Builder<ScanResult<byte[]>> BINARY_SCAN_RESULT
+      = scanResult(true, Iterator::next);
+  private static final Builder<ScanResult<Map.Entry<String, String>>> STRING_HASH_SCAN_RESULT
+      = scanResult(false, items -> new AbstractMap.SimpleEntry<>(
+          SafeEncoder.encode(items.next()), SafeEncoder.encode(items.next())));
+  private static final Builder<ScanResult<Map.Entry<byte[], byte[]>>> BINARY_HASH_SCAN_RESULT
+      = scanResult(true, items -> new AbstractMap.SimpleEntry<>(items.next(), items.next()));
+  private static final Builder<ScanResult<Tuple>> STRING_TUPLE_SCAN_RESULT
+      = scanResult(false, items -> new Tuple(items.next(), BuilderFactory.DOUBLE.build(items.next())));
+  private static final Builder<ScanResult<Tuple>> BINARY_TUPLE_SCAN_RESULT
+      = scanResult(true, items -> new Tuple(items.next(), BuilderFactory.DOUBLE.build(items.next())));
+
+  private final AsyncConnection connection;
+  private final ThreadLocal<CommandCollector> collectors = ThreadLocal
+      .withInitial(CommandCollector::new);
+
+  public AsyncJedis() {
+    this(Protocol.DEFAULT_HOST, Protocol.DEFAULT_PORT);
+  }
+
+  public AsyncJedis(final String host, final int port) {
+    this(new HostAndPort(host, port));
+  }
+
+  public AsyncJedis(final HostAndPort hostAndPort) {
+    this(hostAndPort, DefaultJedisClientConfig.builder().build());
+  }
+
+  public AsyncJedis(final HostAndPort hostAndPort, final JedisClientConfig clientConfig) {
+    this.connection = new AsyncConnection(hostAndPort, clientConfig);
+  }
+
+  public boolean isBroken() {
+    return connection.isBroken();
+  }
+
+  /**
+   * Closes the connection. Futures still waiting for their reply are failed.
+   */
+  @Override
+  public void close() {
+    connection.close();
+  }
+
+  public CompletableFuture<String> set(final String key, final String value) {
+    return execute(pipeline -> pipeline.set(key, value));
+  }
+
+  public CompletableFuture<String> set(final String key, final String value,
+      final SetParams params) {
+    return execute(pipeline -> pipeline.set(key, value, params));
+  }
+
+  public CompletableFuture<String> get(final String key) {
+    return execute(pipeline -> pipeline.get(key));
+  }
+
+  public CompletableFuture<String> getDel(final String key) {
+    return execute(pipeline -> pipeline.getDel(key));
+  }
+
+  public CompletableFuture<String> getEx(final String key, final GetExParams params) {
+    return execute(pipeline -> pipeline.getEx(key, params));
+  }
+
+  public CompletableFuture<Boolean> exists(final String key) {
+    return execute(pipeline -> pipeline.exists(key));
+  }
+
+  public CompletableFuture<Long> persist(final String key) {
+    return execute(pipeline -> pipeline.persist(key));
+  }
+
+  public CompletableFuture<String> type(final String key) {
+    return execute(pipeline -> pipeline.type(key));
+  }
+
+  public CompletableFuture<byte[]> dump(final String key) {
+    return execute(pipeline -> pipeline.dump(key));
+  }
+
+  public CompletableFuture<String> restore(final String key, final long ttl,
+      final byte[] serializedValue) {
+    return execute(pipeline -> pipeline.restore(key, ttl, serializedValue));
+  }
+
+  public CompletableFuture<String> restore(final String key, final long ttl,
+      final byte[] serializedValue, final RestoreParams params) {
+    return execute(pipeline -> pipeline.restore(key, ttl, serializedValue, params));
+  }
+
+  public CompletableFuture<Long> expire(final String key, final long seconds) {
+    return execute(pipeline -> pipeline.expire(key, seconds));
+  }
+
+  public CompletableFuture<Long> pexpire(final String key, final long milliseconds) {
+    return execute(pipeline -> pipeline.pexpire(key, milliseconds));
+  }
+
+  public CompletableFuture<Long> expireAt(final String key, final long unixTime) {
+    return execute(pipeline -> pipeline.expireAt(key, unixTime));
+  }
+
+  public CompletableFuture<Long> pexpireAt(final String key, final long millisecondsTimestamp) {
+    return execute(pipeline -> pipeline.pexpireAt(key, millisecondsTimestamp));
+  }
+
+  public CompletableFuture<Long> ttl(final String key) {
+    return execute(pipeline -> pipeline.ttl(key));
+  }
+
+  public CompletableFuture<Long> pttl(final String key) {
+    return execute(pipeline -> pipeline.pttl(key));
+  }
+
+  public CompletableFuture<Long> touch(final String key) {
+    return execute(pipeline -> pipeline.touch(key));
+  }
+
+  public CompletableFuture<Boolean> setbit(final String key, final long offset,
+      final boolean value) {
+    return execute(pipeline -> pipeline.setbit(key, offset, value));
+  }
+
+  public CompletableFuture<Boolean> getbit(final String key, final long offset) {
+    return execute(pipeline -> pipeline.getbit(key, offset));
+  }
+
+  public CompletableFuture<Long> setrange(final String key, final long offset, final String value) {
+    return execute(pipeline -> pipeline.setrange(key, offset, value));
+  }
+
+  public CompletableFuture<String> getrange(final String key, final long startOffset,
+      final long endOffset) {
+    return execute(pipeline -> pipeline.getrange(key, startOffset, endOffset));
+  }
+
+  public CompletableFuture<String> getSet(final String key, final String value) {
+    return execute(pipeline -> pipeline.getSet(key, value));
+  }
+
+  public CompletableFuture<Long> setnx(final String key, final String value) {
+    return execute(pipeline -> pipeline.setnx(key, value));
+  }
+
+  public CompletableFuture<String> setex(final String key, final long seconds, final String value) {
+    return execute(pipeline -> pipeline.setex(key, seconds, value));
+  }
+
+  public CompletableFuture<String> psetex(final String key, final long milliseconds,
+      final String value) {
+    return execute(pipeline -> pipeline.psetex(key, milliseconds, value));
+  }
+
+  public CompletableFuture<Long> decrBy(final String key, final long decrement) {
+    return execute(pipeline -> pipeline.decrBy(key, decrement));
+  }
+
+  public CompletableFuture<Long> decr(final String key) {
+    return execute(pipeline -> pipeline.decr(key));
+  }
+
+  public CompletableFuture<Long> incrBy(final String key, final long increment) {
+    return execute(pipeline -> pipeline.incrBy(key, increment));
+  }
+
+  public CompletableFuture<Double> incrByFloat(final String key, final double increment) {
+    return execute(pipeline -> pipeline.incrByFloat(key, increment));
+  }
+
+  public CompletableFuture<Long> incr(final String key) {
+    return execute(pipeline -> pipeline.incr(key));
+  }
+
+  public CompletableFuture<Long> append(final String key, final String value) {
+    return execute(pipeline -> pipeline.append(key, value));
+  }
+
+  public CompletableFuture<String> substr(final String key, final int start, final int end) {
+    return execute(pipeline -> pipeline.substr(key, start, end));
+  }
+
+  public CompletableFuture<Long> hset(final String key, final String field, final String value) {
+    return execute(pipeline -> pipeline.hset(key, field, value));
+  }
+
+  public CompletableFuture<Long> hset(final String key, final Map<String, String> hash) {
+    return execute(pipeline -> pipeline.hset(key, hash));
+  }
+
+  public CompletableFuture<String> hget(final String key, final String field) {
+    return execute(pipeline -> pipeline.hget(key, field));
+  }
+
+  public CompletableFuture<Long> hsetnx(final String key, final String field, final String value) {
+    return execute(pipeline -> pipeline.hsetnx(key, field, value));
+  }
+
+  public CompletableFuture<String> hmset(final String key, final Map<String, String> hash) {
+    return execute(pipeline -> pipeline.hmset(key, hash));
+  }
+
+  public CompletableFuture<List<String>> hmget(final String key, final String... fields) {
+    return execute(pipeline -> pipeline.hmget(key, fields));
+  }
+
+  public CompletableFuture<Long> hincrBy(final String key, final String field, final long value) {
+    return execute(pipeline -> pipeline.hincrBy(key, field, value));
+  }
+
+  public CompletableFuture<Double> hincrByFloat(final String key, final String field,
+      final double value) {
+    return execute(pipeline -> pipeline.hincrByFloat(key, field, value));
+  }
+
+  public CompletableFuture<Boolean> hexists(final String key, final String field) {
+    return execute(pipeline -> pipeline.hexists(key, field));
+  }
+
+  public CompletableFuture<Long> hdel(final String key, final String... field) {
+    return execute(pipeline -> pipeline.hdel(key, field));
+  }
+
+  public CompletableFuture<Long> hlen(final String key) {
+    return execute(pipeline -> pipeline.hlen(key));
+  }
+
+  public CompletableFuture<Set<String>> hkeys(final String key) {
+    return execute(pipeline -> pipeline.hkeys(key));
+  }
+
+  public CompletableFuture<List<String>> hvals(final String key) {
+    return execute(pipeline -> pipeline.hvals(key));
+  }
+
+  public CompletableFuture<Map<String, String>> hgetAll(final String key) {
+    return execute(pipeline -> pipeline.hgetAll(key));
+  }
+
+  public CompletableFuture<String> hrandfield(final String key) {
+    return execute(pipeline -> pipeline.hrandfield(key));
+  }
+
+  public CompletableFuture<List<String>> hrandfield(final String key, final long count) {
+    return execute(pipeline -> pipeline.hrandfield(key, count));
+  }
+
+  public CompletableFuture<Map<String, String>> hrandfieldWithValues(final String key,
+      final long count) {
+    return execute(pipeline -> pipeline.hrandfieldWithValues(key, count));
+  }
+
+  public CompletableFuture<Long> rpush(final String key, final String... string) {
+    return execute(pipeline -> pipeline.rpush(key, string));
+  }
+
+  public CompletableFuture<Long> lpush(final String key, final String... string) {
+    return execute(pipeline -> pipeline.lpush(key, string));
+  }
+
+  public CompletableFuture<Long> llen(final String key) {
+    return execute(pipeline -> pipeline.llen(key));
+  }
+
+  public CompletableFuture<List<String>> lrange(final String key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.lrange(key, start, stop));
+  }
+
+  public CompletableFuture<String> ltrim(final String key, final long start, final long stop) {
+    return execute(pipeline -> pipeline.ltrim(key, start, stop));
+  }
+
+  public CompletableFuture<String> lindex(final String key, final long index) {
+    return execute(pipeline -> pipeline.lindex(key, index));
+  }
+
+  public CompletableFuture<String> lset(final String key, final long index, final String value) {
+    return execute(pipeline -> pipeline.lset(key, index, value));
+  }
+
+  public CompletableFuture<Long> lrem(final String key, final long count, final String value) {
+    return execute(pipeline -> pipeline.lrem(key, count, value));
+  }
+
+  public CompletableFuture<String> lpop(final String key) {
+    return execute(pipeline -> pipeline.lpop(key));
+  }
+
+  public CompletableFuture<List<String>> lpop(final String key, final int count) {
+    return execute(pipeline -> pipeline.lpop(key, count));
+  }
+
+  public CompletableFuture<Long> lpos(final String key, final String element) {
+    return execute(pipeline -> pipeline.lpos(key, element));
+  }
+
+  public CompletableFuture<Long> lpos(final String key, final String element,
+      final LPosParams params) {
+    return execute(pipeline -> pipeline.lpos(key, element, params));
+  }
+
+  public CompletableFuture<List<Long>> lpos(final String key, final String element,
+      final LPosParams params, final long count) {
+    return execute(pipeline -> pipeline.lpos(key, element, params, count));
+  }
+
+  public CompletableFuture<String> rpop(final String key) {
+    return execute(pipeline -> pipeline.rpop(key));
+  }
+
+  public CompletableFuture<List<String>> rpop(final String key, final int count) {
+    return execute(pipeline -> pipeline.rpop(key, count));
+  }
+
+  public CompletableFuture<Long> sadd(final String key, final String... member) {
+    return execute(pipeline -> pipeline.sadd(key, member));
+  }
+
+  public CompletableFuture<Set<String>> smembers(final String key) {
+    return execute(pipeline -> pipeline.smembers(key));
+  }
+
+  public CompletableFuture<Long> srem(final String key, final String... member) {
+    return execute(pipeline -> pipeline.srem(key, member));
+  }
+
+  public CompletableFuture<String> spop(final String key) {
+    return execute(pipeline -> pipeline.spop(key));
+  }
+
+  public CompletableFuture<Set<String>> spop(final String key, final long count) {
+    return execute(pipeline -> pipeline.spop(key, count));
+  }
+
+  public CompletableFuture<Long> scard(final String key) {
+    return execute(pipeline -> pipeline.scard(key));
+  }
+
+  public CompletableFuture<Boolean> sismember(final String key, final String member) {
+    return execute(pipeline -> pipeline.sismember(key, member));
+  }
+
+  public CompletableFuture<List<Boolean>> smismember(final String key, final String... members) {
+    return execute(pipeline -> pipeline.smismember(key, members));
+  }
+
+  public CompletableFuture<String> srandmember(final String key) {
+    return execute(pipeline -> pipeline.srandmember(key));
+  }
+
+  public CompletableFuture<List<String>> srandmember(final String key, final int count) {
+    return execute(pipeline -> pipeline.srandmember(key, count));
+  }
+
+  public CompletableFuture<Long> strlen(final String key) {
+    return execute(pipeline -> pipeline.strlen(key));
+  }
+
+  public CompletableFuture<Long> zadd(final String key, final double score, final String member) {
+    return execute(pipeline -> pipeline.zadd(key, score, member));
+  }
+
+  public CompletableFuture<Long> zadd(final String key, final double score, final String member,
+      final ZAddParams params) {
+    return execute(pipeline -> pipeline.zadd(key, score, member, params));
+  }
+
+  public CompletableFuture<Long> zadd(final String key, final Map<String, Double> scoreMembers) {
+    return execute(pipeline -> pipeline.zadd(key, scoreMembers));
+  }
+
+  public CompletableFuture<Long> zadd(final String key, final Map<String, Double> scoreMembers,
+      final ZAddParams params) {
+    return execute(pipeline -> pipeline.zadd(key, scoreMembers, params));
+  }
+
+  public CompletableFuture<Double> zaddIncr(final String key, final double score,
+      final String member, final ZAddParams params) {
+    return execute(pipeline -> pipeline.zaddIncr(key, score, member, params));
+  }
+
+  public CompletableFuture<Set<String>> zrange(final String key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrange(key, start, stop));
+  }
+
+  public CompletableFuture<Long> zrem(final String key, final String... members) {
+    return execute(pipeline -> pipeline.zrem(key, members));
+  }
+
+  public CompletableFuture<Double> zincrby(final String key, final double increment,
+      final String member) {
+    return execute(pipeline -> pipeline.zincrby(key, increment, member));
+  }
+
+  public CompletableFuture<Double> zincrby(final String key, final double increment,
+      final String member, final ZIncrByParams params) {
+    return execute(pipeline -> pipeline.zincrby(key, increment, member, params));
+  }
+
+  public CompletableFuture<Long> zrank(final String key, final String member) {
+    return execute(pipeline -> pipeline.zrank(key, member));
+  }
+
+  public CompletableFuture<Long> zrevrank(final String key, final String member) {
+    return execute(pipeline -> pipeline.zrevrank(key, member));
+  }
+
+  public CompletableFuture<Set<String>> zrevrange(final String key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrevrange(key, start, stop));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeWithScores(final String key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrangeWithScores(key, start, stop));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeWithScores(final String key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrevrangeWithScores(key, start, stop));
+  }
+
+  public CompletableFuture<String> zrandmember(final String key) {
+    return execute(pipeline -> pipeline.zrandmember(key));
+  }
+
+  public CompletableFuture<Set<String>> zrandmember(final String key, final long count) {
+    return execute(pipeline -> pipeline.zrandmember(key, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrandmemberWithScores(final String key, final long count) {
+    return execute(pipeline -> pipeline.zrandmemberWithScores(key, count));
+  }
+
+  public CompletableFuture<Long> zcard(final String key) {
+    return execute(pipeline -> pipeline.zcard(key));
+  }
+
+  public CompletableFuture<Double> zscore(final String key, final String member) {
+    return execute(pipeline -> pipeline.zscore(key, member));
+  }
+
+  public CompletableFuture<List<Double>> zmscore(final String key, final String... members) {
+    return execute(pipeline -> pipeline.zmscore(key, members));
+  }
+
+  public CompletableFuture<Tuple> zpopmax(final String key) {
+    return execute(pipeline -> pipeline.zpopmax(key));
+  }
+
+  public CompletableFuture<Set<Tuple>> zpopmax(final String key, final int count) {
+    return execute(pipeline -> pipeline.zpopmax(key, count));
+  }
+
+  public CompletableFuture<Tuple> zpopmin(final String key) {
+    return execute(pipeline -> pipeline.zpopmin(key));
+  }
+
+  public CompletableFuture<Set<Tuple>> zpopmin(final String key, final int count) {
+    return execute(pipeline -> pipeline.zpopmin(key, count));
+  }
+
+  public CompletableFuture<List<String>> sort(final String key) {
+    return execute(pipeline -> pipeline.sort(key));
+  }
+
+  public CompletableFuture<List<String>> sort(final String key,
+      final SortingParams sortingParameters) {
+    return execute(pipeline -> pipeline.sort(key, sortingParameters));
+  }
+
+  public CompletableFuture<Long> zcount(final String key, final double min, final double max) {
+    return execute(pipeline -> pipeline.zcount(key, min, max));
+  }
+
+  public CompletableFuture<Long> zcount(final String key, final String min, final String max) {
+    return execute(pipeline -> pipeline.zcount(key, min, max));
+  }
+
+  public CompletableFuture<Set<String>> zrangeByScore(final String key, final double min,
+      final double max) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Set<String>> zrangeByScore(final String key, final String min,
+      final String max) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Set<String>> zrevrangeByScore(final String key, final double max,
+      final double min) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min));
+  }
+
+  public CompletableFuture<Set<String>> zrangeByScore(final String key, final double min,
+      final double max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<String>> zrevrangeByScore(final String key, final String max,
+      final String min) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min));
+  }
+
+  public CompletableFuture<Set<String>> zrangeByScore(final String key, final String min,
+      final String max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<String>> zrevrangeByScore(final String key, final double max,
+      final double min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final double min,
+      final double max) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key,
+      final double max, final double min) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final double min,
+      final double max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<String>> zrevrangeByScore(final String key, final String max,
+      final String min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final String min,
+      final String max) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key,
+      final String max, final String min) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final String key, final String min,
+      final String max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key,
+      final double max, final double min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final String key,
+      final String max, final String min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Long> zremrangeByRank(final String key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zremrangeByRank(key, start, stop));
+  }
+
+  public CompletableFuture<Long> zremrangeByScore(final String key, final double min,
+      final double max) {
+    return execute(pipeline -> pipeline.zremrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Long> zremrangeByScore(final String key, final String min,
+      final String max) {
+    return execute(pipeline -> pipeline.zremrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Long> zlexcount(final String key, final String min, final String max) {
+    return execute(pipeline -> pipeline.zlexcount(key, min, max));
+  }
+
+  public CompletableFuture<Set<String>> zrangeByLex(final String key, final String min,
+      final String max) {
+    return execute(pipeline -> pipeline.zrangeByLex(key, min, max));
+  }
+
+  public CompletableFuture<Set<String>> zrangeByLex(final String key, final String min,
+      final String max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByLex(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<String>> zrevrangeByLex(final String key, final String max,
+      final String min) {
+    return execute(pipeline -> pipeline.zrevrangeByLex(key, max, min));
+  }
+
+  public CompletableFuture<Set<String>> zrevrangeByLex(final String key, final String max,
+      final String min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByLex(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Long> zremrangeByLex(final String key, final String min,
+      final String max) {
+    return execute(pipeline -> pipeline.zremrangeByLex(key, min, max));
+  }
+
+  public CompletableFuture<Long> linsert(final String key, final ListPosition where,
+      final String pivot, final String value) {
+    return execute(pipeline -> pipeline.linsert(key, where, pivot, value));
+  }
+
+  public CompletableFuture<Long> lpushx(final String key, final String... string) {
+    return execute(pipeline -> pipeline.lpushx(key, string));
+  }
+
+  public CompletableFuture<Long> rpushx(final String key, final String... string) {
+    return execute(pipeline -> pipeline.rpushx(key, string));
+  }
+
+  public CompletableFuture<Long> del(final String key) {
+    return execute(pipeline -> pipeline.del(key));
+  }
+
+  public CompletableFuture<Long> unlink(final String key) {
+    return execute(pipeline -> pipeline.unlink(key));
+  }
+
+  public CompletableFuture<String> echo(final String string) {
+    return execute(pipeline -> pipeline.echo(string));
+  }
+
+  public CompletableFuture<Long> bitcount(final String key) {
+    return execute(pipeline -> pipeline.bitcount(key));
+  }
+
+  public CompletableFuture<Long> bitcount(final String key, final long start, final long end) {
+    return execute(pipeline -> pipeline.bitcount(key, start, end));
+  }
+
+  public CompletableFuture<Long> bitpos(final String key, final boolean value) {
+    return execute(pipeline -> pipeline.bitpos(key, value));
+  }
+
+  public CompletableFuture<Long> bitpos(final String key, final boolean value,
+      final BitPosParams params) {
+    return execute(pipeline -> pipeline.bitpos(key, value, params));
+  }
+
+  public CompletableFuture<ScanResult<Map.Entry<String, String>>> hscan(final String key,
+      final String cursor, final ScanParams params) {
+    return execute(client -> client.hscan(key, cursor, params), STRING_HASH_SCAN_RESULT);
+  }
+
+  public CompletableFuture<ScanResult<String>> sscan(final String key, final String cursor,
+      final ScanParams params) {
+    return execute(client -> client.sscan(key, cursor, params), STRING_SCAN_RESULT);
+  }
+
+  public CompletableFuture<ScanResult<Tuple>> zscan(final String key, final String cursor,
+      final ScanParams params) {
+    return execute(client -> client.zscan(key, cursor, params), STRING_TUPLE_SCAN_RESULT);
+  }
+
+  public CompletableFuture<Long> pfadd(final String key, final String... elements) {
+    return execute(pipeline -> pipeline.pfadd(key, elements));
+  }
+
+  public CompletableFuture<Long> pfcount(final String key) {
+    return execute(pipeline -> pipeline.pfcount(key));
+  }
+
+  public CompletableFuture<Long> geoadd(final String key, final double longitude,
+      final double latitude, final String member) {
+    return execute(pipeline -> pipeline.geoadd(key, longitude, latitude, member));
+  }
+
+  public CompletableFuture<Long> geoadd(final String key,
+      final Map<String, GeoCoordinate> memberCoordinateMap) {
+    return execute(pipeline -> pipeline.geoadd(key, memberCoordinateMap));
+  }
+
+  public CompletableFuture<Long> geoadd(final String key, final GeoAddParams params,
+      final Map<String, GeoCoordinate> memberCoordinateMap) {
+    return execute(pipeline -> pipeline.geoadd(key, params, memberCoordinateMap));
+  }
+
+  public CompletableFuture<Double> geodist(final String key, final String member1,
+      final String member2) {
+    return execute(pipeline -> pipeline.geodist(key, member1, member2));
+  }
+
+  public CompletableFuture<Double> geodist(final String key, final String member1,
+      final String member2, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.geodist(key, member1, member2, unit));
+  }
+
+  public CompletableFuture<List<String>> geohash(final String key, final String... members) {
+    return execute(pipeline -> pipeline.geohash(key, members));
+  }
+
+  public CompletableFuture<List<GeoCoordinate>> geopos(final String key, final String... members) {
+    return execute(pipeline -> pipeline.geopos(key, members));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadius(final String key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadius(key, longitude, latitude, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusReadonly(final String key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadiusReadonly(key, longitude, latitude, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadius(final String key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit,
+      final GeoRadiusParam param) {
+    return execute(pipeline -> pipeline.georadius(key, longitude, latitude, radius, unit, param));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusReadonly(final String key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit,
+      final GeoRadiusParam param) {
+    return execute(
+      pipeline -> pipeline.georadiusReadonly(key, longitude, latitude, radius, unit, param));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMember(final String key,
+      final String member, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadiusByMember(key, member, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final String key,
+      final String member, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadiusByMemberReadonly(key, member, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMember(final String key,
+      final String member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return execute(pipeline -> pipeline.georadiusByMember(key, member, radius, unit, param));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final String key,
+      final String member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return execute(
+      pipeline -> pipeline.georadiusByMemberReadonly(key, member, radius, unit, param));
+  }
+
+  public CompletableFuture<List<Long>> bitfield(final String key, final String... arguments) {
+    return execute(pipeline -> pipeline.bitfield(key, arguments));
+  }
+
+  public CompletableFuture<List<Long>> bitfieldReadonly(final String key,
+      final String... arguments) {
+    return execute(pipeline -> pipeline.bitfieldReadonly(key, arguments));
+  }
+
+  public CompletableFuture<Long> hstrlen(final String key, final String field) {
+    return execute(pipeline -> pipeline.hstrlen(key, field));
+  }
+
+  public CompletableFuture<StreamEntryID> xadd(final String key, final StreamEntryID id,
+      final Map<String, String> hash) {
+    return execute(pipeline -> pipeline.xadd(key, id, hash));
+  }
+
+  public CompletableFuture<StreamEntryID> xadd(final String key, final StreamEntryID id,
+      final Map<String, String> hash, final long maxLen, final boolean approximateLength) {
+    return execute(pipeline -> pipeline.xadd(key, id, hash, maxLen, approximateLength));
+  }
+
+  public CompletableFuture<StreamEntryID> xadd(final String key, final Map<String, String> hash,
+      final XAddParams params) {
+    return execute(pipeline -> pipeline.xadd(key, hash, params));
+  }
+
+  public CompletableFuture<Long> xlen(final String key) {
+    return execute(pipeline -> pipeline.xlen(key));
+  }
+
+  public CompletableFuture<List<StreamEntry>> xrange(final String key, final StreamEntryID start,
+      final StreamEntryID end) {
+    return execute(pipeline -> pipeline.xrange(key, start, end));
+  }
+
+  public CompletableFuture<List<StreamEntry>> xrange(final String key, final StreamEntryID start,
+      final StreamEntryID end, final int count) {
+    return execute(pipeline -> pipeline.xrange(key, start, end, count));
+  }
+
+  public CompletableFuture<List<StreamEntry>> xrevrange(final String key, final StreamEntryID end,
+      final StreamEntryID start) {
+    return execute(pipeline -> pipeline.xrevrange(key, end, start));
+  }
+
+  public CompletableFuture<List<StreamEntry>> xrevrange(final String key, final StreamEntryID end,
+      final StreamEntryID start, final int count) {
+    return execute(pipeline -> pipeline.xrevrange(key, end, start, count));
+  }
+
+  public CompletableFuture<Long> xack(final String key, final String group,
+      final StreamEntryID... ids) {
+    return execute(pipeline -> pipeline.xack(key, group, ids));
+  }
+
+  public CompletableFuture<String> xgroupCreate(final String key, final String groupname,
+      final StreamEntryID id, final boolean makeStream) {
+    return execute(pipeline -> pipeline.xgroupCreate(key, groupname, id, makeStream));
+  }
+
+  public CompletableFuture<String> xgroupSetID(final String key, final String groupname,
+      final StreamEntryID id) {
+    return execute(pipeline -> pipeline.xgroupSetID(key, groupname, id));
+  }
+
+  public CompletableFuture<Long> xgroupDestroy(final String key, final String groupname) {
+    return execute(pipeline -> pipeline.xgroupDestroy(key, groupname));
+  }
+
+  public CompletableFuture<Long> xgroupDelConsumer(final String key, final String groupname,
+      final String consumername) {
+    return execute(pipeline -> pipeline.xgroupDelConsumer(key, groupname, consumername));
+  }
+
+  public CompletableFuture<StreamPendingSummary> xpending(final String key,
+      final String groupname) {
+    return execute(pipeline -> pipeline.xpending(key, groupname));
+  }
+
+  public CompletableFuture<List<StreamPendingEntry>> xpending(final String key,
+      final String groupname, final StreamEntryID start, final StreamEntryID end, final int count,
+      final String consumername) {
+    return execute(pipeline -> pipeline.xpending(key, groupname, start, end, count, consumername));
+  }
+
+  public CompletableFuture<List<StreamPendingEntry>> xpending(final String key,
+      final String groupname, final XPendingParams params) {
+    return execute(pipeline -> pipeline.xpending(key, groupname, params));
+  }
+
+  public CompletableFuture<Long> xdel(final String key, final StreamEntryID... ids) {
+    return execute(pipeline -> pipeline.xdel(key, ids));
+  }
+
+  public CompletableFuture<Long> xtrim(final String key, final long maxLen,
+      final boolean approximate) {
+    return execute(pipeline -> pipeline.xtrim(key, maxLen, approximate));
+  }
+
+  public CompletableFuture<Long> xtrim(final String key, final XTrimParams params) {
+    return execute(pipeline -> pipeline.xtrim(key, params));
+  }
+
+  public CompletableFuture<List<StreamEntry>> xclaim(final String key, final String group,
+      final String consumername, final long minIdleTime, final long newIdleTime, final int retries,
+      final boolean force, final StreamEntryID... ids) {
+    return execute(
+      pipeline -> pipeline.xclaim(key, group, consumername, minIdleTime, newIdleTime, retries, force, ids));
+  }
+
+  public CompletableFuture<List<StreamEntry>> xclaim(final String key, final String group,
+      final String consumername, final long minIdleTime, final XClaimParams params,
+      final StreamEntryID... ids) {
+    return execute(pipeline -> pipeline.xclaim(key, group, consumername, minIdleTime, params, ids));
+  }
+
+  public CompletableFuture<List<StreamEntryID>> xclaimJustId(final String key, final String group,
+      final String consumername, final long minIdleTime, final XClaimParams params,
+      final StreamEntryID... ids) {
+    return execute(
+      pipeline -> pipeline.xclaimJustId(key, group, consumername, minIdleTime, params, ids));
+  }
+
+  public CompletableFuture<Map.Entry<StreamEntryID, List<StreamEntry>>> xautoclaim(final String key,
+      final String group, final String consumerName, final long minIdleTime,
+      final StreamEntryID start, final XAutoClaimParams params) {
+    return execute(
+      pipeline -> pipeline.xautoclaim(key, group, consumerName, minIdleTime, start, params));
+  }
+
+  public CompletableFuture<Map.Entry<StreamEntryID, List<StreamEntryID>>> xautoclaimJustId(final String key,
+      final String group, final String consumerName, final long minIdleTime,
+      final StreamEntryID start, final XAutoClaimParams params) {
+    return execute(
+      pipeline -> pipeline.xautoclaimJustId(key, group, consumerName, minIdleTime, start, params));
+  }
+
+  public CompletableFuture<StreamInfo> xinfoStream(final String key) {
+    return execute(client -> client.xinfoStream(key), BuilderFactory.STREAM_INFO);
+  }
+
+  public CompletableFuture<List<StreamGroupInfo>> xinfoGroup(final String key) {
+    return execute(client -> client.xinfoGroup(key), BuilderFactory.STREAM_GROUP_INFO_LIST);
+  }
+
+  public CompletableFuture<List<StreamConsumersInfo>> xinfoConsumers(final String key,
+      final String group) {
+    return execute(client -> client.xinfoConsumers(key, group),
+      BuilderFactory.STREAM_CONSUMERS_INFO_LIST);
+  }
+
+  public CompletableFuture<Long> memoryUsage(final String key) {
+    return execute(client -> client.memoryUsage(key), BuilderFactory.LONG);
+  }
+
+  public CompletableFuture<Long> memoryUsage(final String key, final int samples) {
+    return execute(client -> client.memoryUsage(key, samples), BuilderFactory.LONG);
+  }
+
+  public CompletableFuture<LCSMatchResult> strAlgoLCSStrings(final String strA, final String strB,
+      final StrAlgoLCSParams params) {
+    return execute(pipeline -> pipeline.strAlgoLCSStrings(strA, strB, params));
+  }
+
+  public CompletableFuture<String> set(final byte[] key, final byte[] value) {
+    return execute(pipeline -> pipeline.set(key, value));
+  }
+
+  public CompletableFuture<String> set(final byte[] key, final byte[] value,
+      final SetParams params) {
+    return execute(pipeline -> pipeline.set(key, value, params));
+  }
+
+  public CompletableFuture<byte[]> get(final byte[] key) {
+    return execute(pipeline -> pipeline.get(key));
+  }
+
+  public CompletableFuture<byte[]> getDel(final byte[] key) {
+    return execute(pipeline -> pipeline.getDel(key));
+  }
+
+  public CompletableFuture<byte[]> getEx(final byte[] key, final GetExParams params) {
+    return execute(pipeline -> pipeline.getEx(key, params));
+  }
+
+  public CompletableFuture<Boolean> exists(final byte[] key) {
+    return execute(pipeline -> pipeline.exists(key));
+  }
+
+  public CompletableFuture<Long> persist(final byte[] key) {
+    return execute(pipeline -> pipeline.persist(key));
+  }
+
+  public CompletableFuture<String> type(final byte[] key) {
+    return execute(pipeline -> pipeline.type(key));
+  }
+
+  public CompletableFuture<byte[]> dump(final byte[] key) {
+    return execute(pipeline -> pipeline.dump(key));
+  }
+
+  public CompletableFuture<String> restore(final byte[] key, final long ttl,
+      final byte[] serializedValue) {
+    return execute(pipeline -> pipeline.restore(key, ttl, serializedValue));
+  }
+
+  public CompletableFuture<String> restore(final byte[] key, final long ttl,
+      final byte[] serializedValue, final RestoreParams params) {
+    return execute(pipeline -> pipeline.restore(key, ttl, serializedValue, params));
+  }
+
+  public CompletableFuture<Long> expire(final byte[] key, final long seconds) {
+    return execute(pipeline -> pipeline.expire(key, seconds));
+  }
+
+  public CompletableFuture<Long> pexpire(final byte[] key, final long milliseconds) {
+    return execute(pipeline -> pipeline.pexpire(key, milliseconds));
+  }
+
+  public CompletableFuture<Long> expireAt(final byte[] key, final long unixTime) {
+    return execute(pipeline -> pipeline.expireAt(key, unixTime));
+  }
+
+  public CompletableFuture<Long> pexpireAt(final byte[] key, final long millisecondsTimestamp) {
+    return execute(pipeline -> pipeline.pexpireAt(key, millisecondsTimestamp));
+  }
+
+  public CompletableFuture<Long> ttl(final byte[] key) {
+    return execute(pipeline -> pipeline.ttl(key));
+  }
+
+  public CompletableFuture<Long> pttl(final byte[] key) {
+    return execute(pipeline -> pipeline.pttl(key));
+  }
+
+  public CompletableFuture<Long> touch(final byte[] key) {
+    return execute(pipeline -> pipeline.touch(key));
+  }
+
+  public CompletableFuture<Boolean> setbit(final byte[] key, final long offset,
+      final boolean value) {
+    return execute(client -> client.setbit(key, offset, value), BuilderFactory.BOOLEAN);
+  }
+
+  public CompletableFuture<Boolean> getbit(final byte[] key, final long offset) {
+    return execute(pipeline -> pipeline.getbit(key, offset));
+  }
+
+  public CompletableFuture<Long> setrange(final byte[] key, final long offset, final byte[] value) {
+    return execute(pipeline -> pipeline.setrange(key, offset, value));
+  }
+
+  public CompletableFuture<byte[]> getrange(final byte[] key, final long startOffset,
+      final long endOffset) {
+    return execute(pipeline -> pipeline.getrange(key, startOffset, endOffset));
+  }
+
+  public CompletableFuture<byte[]> getSet(final byte[] key, final byte[] value) {
+    return execute(pipeline -> pipeline.getSet(key, value));
+  }
+
+  public CompletableFuture<Long> setnx(final byte[] key, final byte[] value) {
+    return execute(pipeline -> pipeline.setnx(key, value));
+  }
+
+  public CompletableFuture<String> setex(final byte[] key, final long seconds, final byte[] value) {
+    return execute(pipeline -> pipeline.setex(key, seconds, value));
+  }
+
+  public CompletableFuture<String> psetex(final byte[] key, final long milliseconds,
+      final byte[] value) {
+    return execute(pipeline -> pipeline.psetex(key, milliseconds, value));
+  }
+
+  public CompletableFuture<Long> decrBy(final byte[] key, final long decrement) {
+    return execute(pipeline -> pipeline.decrBy(key, decrement));
+  }
+
+  public CompletableFuture<Long> decr(final byte[] key) {
+    return execute(pipeline -> pipeline.decr(key));
+  }
+
+  public CompletableFuture<Long> incrBy(final byte[] key, final long increment) {
+    return execute(pipeline -> pipeline.incrBy(key, increment));
+  }
+
+  public CompletableFuture<Double> incrByFloat(final byte[] key, final double increment) {
+    return execute(pipeline -> pipeline.incrByFloat(key, increment));
+  }
+
+  public CompletableFuture<Long> incr(final byte[] key) {
+    return execute(pipeline -> pipeline.incr(key));
+  }
+
+  public CompletableFuture<Long> append(final byte[] key, final byte[] value) {
+    return execute(pipeline -> pipeline.append(key, value));
+  }
+
+  public CompletableFuture<byte[]> substr(final byte[] key, final int start, final int end) {
+    return execute(client -> client.substr(key, start, end), BuilderFactory.BYTE_ARRAY);
+  }
+
+  public CompletableFuture<Long> hset(final byte[] key, final byte[] field, final byte[] value) {
+    return execute(pipeline -> pipeline.hset(key, field, value));
+  }
+
+  public CompletableFuture<Long> hset(final byte[] key, final Map<byte[], byte[]> hash) {
+    return execute(pipeline -> pipeline.hset(key, hash));
+  }
+
+  public CompletableFuture<byte[]> hget(final byte[] key, final byte[] field) {
+    return execute(pipeline -> pipeline.hget(key, field));
+  }
+
+  public CompletableFuture<Long> hsetnx(final byte[] key, final byte[] field, final byte[] value) {
+    return execute(pipeline -> pipeline.hsetnx(key, field, value));
+  }
+
+  public CompletableFuture<String> hmset(final byte[] key, final Map<byte[], byte[]> hash) {
+    return execute(pipeline -> pipeline.hmset(key, hash));
+  }
+
+  public CompletableFuture<List<byte[]>> hmget(final byte[] key, final byte[]... fields) {
+    return execute(pipeline -> pipeline.hmget(key, fields));
+  }
+
+  public CompletableFuture<Long> hincrBy(final byte[] key, final byte[] field, final long value) {
+    return execute(pipeline -> pipeline.hincrBy(key, field, value));
+  }
+
+  public CompletableFuture<Double> hincrByFloat(final byte[] key, final byte[] field,
+      final double value) {
+    return execute(pipeline -> pipeline.hincrByFloat(key, field, value));
+  }
+
+  public CompletableFuture<Boolean> hexists(final byte[] key, final byte[] field) {
+    return execute(pipeline -> pipeline.hexists(key, field));
+  }
+
+  public CompletableFuture<Long> hdel(final byte[] key, final byte[]... field) {
+    return execute(pipeline -> pipeline.hdel(key, field));
+  }
+
+  public CompletableFuture<Long> hlen(final byte[] key) {
+    return execute(pipeline -> pipeline.hlen(key));
+  }
+
+  public CompletableFuture<Set<byte[]>> hkeys(final byte[] key) {
+    return execute(pipeline -> pipeline.hkeys(key));
+  }
+
+  public CompletableFuture<List<byte[]>> hvals(final byte[] key) {
+    return execute(pipeline -> pipeline.hvals(key));
+  }
+
+  public CompletableFuture<Map<byte[], byte[]>> hgetAll(final byte[] key) {
+    return execute(pipeline -> pipeline.hgetAll(key));
+  }
+
+  public CompletableFuture<byte[]> hrandfield(final byte[] key) {
+    return execute(pipeline -> pipeline.hrandfield(key));
+  }
+
+  public CompletableFuture<List<byte[]>> hrandfield(final byte[] key, final long count) {
+    return execute(pipeline -> pipeline.hrandfield(key, count));
+  }
+
+  public CompletableFuture<Map<byte[], byte[]>> hrandfieldWithValues(final byte[] key,
+      final long count) {
+    return execute(pipeline -> pipeline.hrandfieldWithValues(key, count));
+  }
+
+  public CompletableFuture<Long> rpush(final byte[] key, final byte[]... args) {
+    return execute(pipeline -> pipeline.rpush(key, args));
+  }
+
+  public CompletableFuture<Long> lpush(final byte[] key, final byte[]... args) {
+    return execute(pipeline -> pipeline.lpush(key, args));
+  }
+
+  public CompletableFuture<Long> llen(final byte[] key) {
+    return execute(pipeline -> pipeline.llen(key));
+  }
+
+  public CompletableFuture<List<byte[]>> lrange(final byte[] key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.lrange(key, start, stop));
+  }
+
+  public CompletableFuture<String> ltrim(final byte[] key, final long start, final long stop) {
+    return execute(pipeline -> pipeline.ltrim(key, start, stop));
+  }
+
+  public CompletableFuture<byte[]> lindex(final byte[] key, final long index) {
+    return execute(pipeline -> pipeline.lindex(key, index));
+  }
+
+  public CompletableFuture<String> lset(final byte[] key, final long index, final byte[] value) {
+    return execute(pipeline -> pipeline.lset(key, index, value));
+  }
+
+  public CompletableFuture<Long> lrem(final byte[] key, final long count, final byte[] value) {
+    return execute(pipeline -> pipeline.lrem(key, count, value));
+  }
+
+  public CompletableFuture<byte[]> lpop(final byte[] key) {
+    return execute(pipeline -> pipeline.lpop(key));
+  }
+
+  public CompletableFuture<List<byte[]>> lpop(final byte[] key, final int count) {
+    return execute(pipeline -> pipeline.lpop(key, count));
+  }
+
+  public CompletableFuture<Long> lpos(final byte[] key, final byte[] element) {
+    return execute(pipeline -> pipeline.lpos(key, element));
+  }
+
+  public CompletableFuture<Long> lpos(final byte[] key, final byte[] element,
+      final LPosParams params) {
+    return execute(pipeline -> pipeline.lpos(key, element, params));
+  }
+
+  public CompletableFuture<List<Long>> lpos(final byte[] key, final byte[] element,
+      final LPosParams params, final long count) {
+    return execute(pipeline -> pipeline.lpos(key, element, params, count));
+  }
+
+  public CompletableFuture<byte[]> rpop(final byte[] key) {
+    return execute(pipeline -> pipeline.rpop(key));
+  }
+
+  public CompletableFuture<List<byte[]>> rpop(final byte[] key, final int count) {
+    return execute(pipeline -> pipeline.rpop(key, count));
+  }
+
+  public CompletableFuture<Long> sadd(final byte[] key, final byte[]... member) {
+    return execute(pipeline -> pipeline.sadd(key, member));
+  }
+
+  public CompletableFuture<Set<byte[]>> smembers(final byte[] key) {
+    return execute(pipeline -> pipeline.smembers(key));
+  }
+
+  public CompletableFuture<Long> srem(final byte[] key, final byte[]... member) {
+    return execute(pipeline -> pipeline.srem(key, member));
+  }
+
+  public CompletableFuture<byte[]> spop(final byte[] key) {
+    return execute(pipeline -> pipeline.spop(key));
+  }
+
+  public CompletableFuture<Set<byte[]>> spop(final byte[] key, final long count) {
+    return execute(pipeline -> pipeline.spop(key, count));
+  }
+
+  public CompletableFuture<Long> scard(final byte[] key) {
+    return execute(pipeline -> pipeline.scard(key));
+  }
+
+  public CompletableFuture<Boolean> sismember(final byte[] key, final byte[] member) {
+    return execute(pipeline -> pipeline.sismember(key, member));
+  }
+
+  public CompletableFuture<List<Boolean>> smismember(final byte[] key, final byte[]... members) {
+    return execute(pipeline -> pipeline.smismember(key, members));
+  }
+
+  public CompletableFuture<byte[]> srandmember(final byte[] key) {
+    return execute(pipeline -> pipeline.srandmember(key));
+  }
+
+  public CompletableFuture<List<byte[]>> srandmember(final byte[] key, final int count) {
+    return execute(pipeline -> pipeline.srandmember(key, count));
+  }
+
+  public CompletableFuture<Long> strlen(final byte[] key) {
+    return execute(pipeline -> pipeline.strlen(key));
+  }
+
+  public CompletableFuture<Long> zadd(final byte[] key, final double score, final byte[] member) {
+    return execute(pipeline -> pipeline.zadd(key, score, member));
+  }
+
+  public CompletableFuture<Long> zadd(final byte[] key, final double score, final byte[] member,
+      final ZAddParams params) {
+    return execute(pipeline -> pipeline.zadd(key, score, member, params));
+  }
+
+  public CompletableFuture<Long> zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
+    return execute(pipeline -> pipeline.zadd(key, scoreMembers));
+  }
+
+  public CompletableFuture<Long> zadd(final byte[] key, final Map<byte[], Double> scoreMembers,
+      final ZAddParams params) {
+    return execute(pipeline -> pipeline.zadd(key, scoreMembers, params));
+  }
+
+  public CompletableFuture<Double> zaddIncr(final byte[] key, final double score,
+      final byte[] member, final ZAddParams params) {
+    return execute(pipeline -> pipeline.zaddIncr(key, score, member, params));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrange(final byte[] key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrange(key, start, stop));
+  }
+
+  public CompletableFuture<Long> zrem(final byte[] key, final byte[]... members) {
+    return execute(pipeline -> pipeline.zrem(key, members));
+  }
+
+  public CompletableFuture<Double> zincrby(final byte[] key, final double increment,
+      final byte[] member) {
+    return execute(pipeline -> pipeline.zincrby(key, increment, member));
+  }
+
+  public CompletableFuture<Double> zincrby(final byte[] key, final double increment,
+      final byte[] member, final ZIncrByParams params) {
+    return execute(pipeline -> pipeline.zincrby(key, increment, member, params));
+  }
+
+  public CompletableFuture<Long> zrank(final byte[] key, final byte[] member) {
+    return execute(pipeline -> pipeline.zrank(key, member));
+  }
+
+  public CompletableFuture<Long> zrevrank(final byte[] key, final byte[] member) {
+    return execute(pipeline -> pipeline.zrevrank(key, member));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrevrange(final byte[] key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrevrange(key, start, stop));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeWithScores(final byte[] key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrangeWithScores(key, start, stop));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeWithScores(final byte[] key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zrevrangeWithScores(key, start, stop));
+  }
+
+  public CompletableFuture<byte[]> zrandmember(final byte[] key) {
+    return execute(pipeline -> pipeline.zrandmember(key));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrandmember(final byte[] key, final long count) {
+    return execute(pipeline -> pipeline.zrandmember(key, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrandmemberWithScores(final byte[] key, final long count) {
+    return execute(pipeline -> pipeline.zrandmemberWithScores(key, count));
+  }
+
+  public CompletableFuture<Long> zcard(final byte[] key) {
+    return execute(pipeline -> pipeline.zcard(key));
+  }
+
+  public CompletableFuture<Double> zscore(final byte[] key, final byte[] member) {
+    return execute(pipeline -> pipeline.zscore(key, member));
+  }
+
+  public CompletableFuture<List<Double>> zmscore(final byte[] key, final byte[]... members) {
+    return execute(pipeline -> pipeline.zmscore(key, members));
+  }
+
+  public CompletableFuture<Tuple> zpopmax(final byte[] key) {
+    return execute(pipeline -> pipeline.zpopmax(key));
+  }
+
+  public CompletableFuture<Set<Tuple>> zpopmax(final byte[] key, final int count) {
+    return execute(pipeline -> pipeline.zpopmax(key, count));
+  }
+
+  public CompletableFuture<Tuple> zpopmin(final byte[] key) {
+    return execute(pipeline -> pipeline.zpopmin(key));
+  }
+
+  public CompletableFuture<Set<Tuple>> zpopmin(final byte[] key, final int count) {
+    return execute(pipeline -> pipeline.zpopmin(key, count));
+  }
+
+  public CompletableFuture<List<byte[]>> sort(final byte[] key) {
+    return execute(pipeline -> pipeline.sort(key));
+  }
+
+  public CompletableFuture<List<byte[]>> sort(final byte[] key,
+      final SortingParams sortingParameters) {
+    return execute(pipeline -> pipeline.sort(key, sortingParameters));
+  }
+
+  public CompletableFuture<Long> zcount(final byte[] key, final double min, final double max) {
+    return execute(pipeline -> pipeline.zcount(key, min, max));
+  }
+
+  public CompletableFuture<Long> zcount(final byte[] key, final byte[] min, final byte[] max) {
+    return execute(pipeline -> pipeline.zcount(key, min, max));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrangeByScore(final byte[] key, final double min,
+      final double max) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrangeByScore(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final double max,
+      final double min) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrangeByScore(final byte[] key, final double min,
+      final double max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final byte[] max,
+      final byte[] min) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrangeByScore(final byte[] key, final byte[] min,
+      final byte[] max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScore(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final double max,
+      final double min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final double min,
+      final double max) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key,
+      final double max, final double min) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final double min,
+      final double max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrevrangeByScore(final byte[] key, final byte[] max,
+      final byte[] min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScore(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key,
+      final byte[] max, final byte[] min) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final byte[] min,
+      final byte[] max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByScoreWithScores(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key,
+      final double max, final double min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key,
+      final byte[] max, final byte[] min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Long> zremrangeByRank(final byte[] key, final long start,
+      final long stop) {
+    return execute(pipeline -> pipeline.zremrangeByRank(key, start, stop));
+  }
+
+  public CompletableFuture<Long> zremrangeByScore(final byte[] key, final double min,
+      final double max) {
+    return execute(pipeline -> pipeline.zremrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Long> zremrangeByScore(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return execute(pipeline -> pipeline.zremrangeByScore(key, min, max));
+  }
+
+  public CompletableFuture<Long> zlexcount(final byte[] key, final byte[] min, final byte[] max) {
+    return execute(pipeline -> pipeline.zlexcount(key, min, max));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrangeByLex(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return execute(pipeline -> pipeline.zrangeByLex(key, min, max));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrangeByLex(final byte[] key, final byte[] min,
+      final byte[] max, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrangeByLex(key, min, max, offset, count));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrevrangeByLex(final byte[] key, final byte[] max,
+      final byte[] min) {
+    return execute(pipeline -> pipeline.zrevrangeByLex(key, max, min));
+  }
+
+  public CompletableFuture<Set<byte[]>> zrevrangeByLex(final byte[] key, final byte[] max,
+      final byte[] min, final int offset, final int count) {
+    return execute(pipeline -> pipeline.zrevrangeByLex(key, max, min, offset, count));
+  }
+
+  public CompletableFuture<Long> zremrangeByLex(final byte[] key, final byte[] min,
+      final byte[] max) {
+    return execute(pipeline -> pipeline.zremrangeByLex(key, min, max));
+  }
+
+  public CompletableFuture<Long> linsert(final byte[] key, final ListPosition where,
+      final byte[] pivot, final byte[] value) {
+    return execute(pipeline -> pipeline.linsert(key, where, pivot, value));
+  }
+
+  public CompletableFuture<Long> lpushx(final byte[] key, final byte[]... arg) {
+    return execute(pipeline -> pipeline.lpushx(key, arg));
+  }
+
+  public CompletableFuture<Long> rpushx(final byte[] key, final byte[]... arg) {
+    return execute(pipeline -> pipeline.rpushx(key, arg));
+  }
+
+  public CompletableFuture<Long> del(final byte[] key) {
+    return execute(pipeline -> pipeline.del(key));
+  }
+
+  public CompletableFuture<Long> unlink(final byte[] key) {
+    return execute(pipeline -> pipeline.unlink(key));
+  }
+
+  public CompletableFuture<byte[]> echo(final byte[] arg) {
+    return execute(pipeline -> pipeline.echo(arg));
+  }
+
+  public CompletableFuture<Long> bitcount(final byte[] key) {
+    return execute(pipeline -> pipeline.bitcount(key));
+  }
+
+  public CompletableFuture<Long> bitcount(final byte[] key, final long start, final long end) {
+    return execute(pipeline -> pipeline.bitcount(key, start, end));
+  }
+
+  public CompletableFuture<Long> pfadd(final byte[] key, final byte[]... elements) {
+    return execute(pipeline -> pipeline.pfadd(key, elements));
+  }
+
+  public CompletableFuture<Long> pfcount(final byte[] key) {
+    return execute(pipeline -> pipeline.pfcount(key));
+  }
+
+  public CompletableFuture<Long> geoadd(final byte[] key, final double longitude,
+      final double latitude, final byte[] member) {
+    return execute(pipeline -> pipeline.geoadd(key, longitude, latitude, member));
+  }
+
+  public CompletableFuture<Long> geoadd(final byte[] key,
+      final Map<byte[], GeoCoordinate> memberCoordinateMap) {
+    return execute(pipeline -> pipeline.geoadd(key, memberCoordinateMap));
+  }
+
+  public CompletableFuture<Long> geoadd(final byte[] key, final GeoAddParams params,
+      final Map<byte[], GeoCoordinate> memberCoordinateMap) {
+    return execute(pipeline -> pipeline.geoadd(key, params, memberCoordinateMap));
+  }
+
+  public CompletableFuture<Double> geodist(final byte[] key, final byte[] member1,
+      final byte[] member2) {
+    return execute(pipeline -> pipeline.geodist(key, member1, member2));
+  }
+
+  public CompletableFuture<Double> geodist(final byte[] key, final byte[] member1,
+      final byte[] member2, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.geodist(key, member1, member2, unit));
+  }
+
+  public CompletableFuture<List<byte[]>> geohash(final byte[] key, final byte[]... members) {
+    return execute(pipeline -> pipeline.geohash(key, members));
+  }
+
+  public CompletableFuture<List<GeoCoordinate>> geopos(final byte[] key, final byte[]... members) {
+    return execute(pipeline -> pipeline.geopos(key, members));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadius(final byte[] key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadius(key, longitude, latitude, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusReadonly(final byte[] key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadiusReadonly(key, longitude, latitude, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadius(final byte[] key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit,
+      final GeoRadiusParam param) {
+    return execute(pipeline -> pipeline.georadius(key, longitude, latitude, radius, unit, param));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusReadonly(final byte[] key,
+      final double longitude, final double latitude, final double radius, final GeoUnit unit,
+      final GeoRadiusParam param) {
+    return execute(
+      pipeline -> pipeline.georadiusReadonly(key, longitude, latitude, radius, unit, param));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMember(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadiusByMember(key, member, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit) {
+    return execute(pipeline -> pipeline.georadiusByMemberReadonly(key, member, radius, unit));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMember(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return execute(pipeline -> pipeline.georadiusByMember(key, member, radius, unit, param));
+  }
+
+  public CompletableFuture<List<GeoRadiusResponse>> georadiusByMemberReadonly(final byte[] key,
+      final byte[] member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return execute(
+      pipeline -> pipeline.georadiusByMemberReadonly(key, member, radius, unit, param));
+  }
+
+  public CompletableFuture<ScanResult<Map.Entry<byte[], byte[]>>> hscan(final byte[] key,
+      final byte[] cursor, final ScanParams params) {
+    return execute(client -> client.hscan(key, cursor, params), BINARY_HASH_SCAN_RESULT);
+  }
+
+  public CompletableFuture<ScanResult<byte[]>> sscan(final byte[] key, final byte[] cursor,
+      final ScanParams params) {
+    return execute(client -> client.sscan(key, cursor, params), BINARY_SCAN_RESULT);
+  }
+
+  public CompletableFuture<ScanResult<Tuple>> zscan(final byte[] key, final byte[] cursor,
+      final ScanParams params) {
+    return execute(client -> client.zscan(key, cursor, params), BINARY_TUPLE_SCAN_RESULT);
+  }
+
+  public CompletableFuture<List<Long>> bitfield(final byte[] key, final byte[]... arguments) {
+    return execute(pipeline -> pipeline.bitfield(key, arguments));
+  }
+
+  public CompletableFuture<List<Long>> bitfieldReadonly(final byte[] key,
+      final byte[]... arguments) {
+    return execute(pipeline -> pipeline.bitfieldReadonly(key, arguments));
+  }
+
+  public CompletableFuture<Long> hstrlen(final byte[] key, final byte[] field) {
+    return execute(pipeline -> pipeline.hstrlen(key, field));
+  }
+
+  public CompletableFuture<byte[]> xadd(final byte[] key, final byte[] id,
+      final Map<byte[], byte[]> hash, final long maxLen, final boolean approximateLength) {
+    return execute(pipeline -> pipeline.xadd(key, id, hash, maxLen, approximateLength));
+  }
+
+  public CompletableFuture<byte[]> xadd(final byte[] key, final Map<byte[], byte[]> hash,
+      final XAddParams params) {
+    return execute(pipeline -> pipeline.xadd(key, hash, params));
+  }
+
+  public CompletableFuture<Long> xlen(final byte[] key) {
+    return execute(pipeline -> pipeline.xlen(key));
+  }
+
+  public CompletableFuture<List<byte[]>> xrange(final byte[] key, final byte[] start,
+      final byte[] end) {
+    return execute(pipeline -> pipeline.xrange(key, start, end));
+  }
+
+  public CompletableFuture<List<byte[]>> xrange(final byte[] key, final byte[] start,
+      final byte[] end, final int count) {
+    return execute(pipeline -> pipeline.xrange(key, start, end, count));
+  }
+
+  public CompletableFuture<List<byte[]>> xrevrange(final byte[] key, final byte[] end,
+      final byte[] start) {
+    return execute(pipeline -> pipeline.xrevrange(key, end, start));
+  }
+
+  public CompletableFuture<List<byte[]>> xrevrange(final byte[] key, final byte[] end,
+      final byte[] start, final int count) {
+    return execute(pipeline -> pipeline.xrevrange(key, end, start, count));
+  }
+
+  public CompletableFuture<Long> xack(final byte[] key, final byte[] group, final byte[]... ids) {
+    return execute(pipeline -> pipeline.xack(key, group, ids));
+  }
+
+  public CompletableFuture<String> xgroupCreate(final byte[] key, final byte[] consumer,
+      final byte[] id, final boolean makeStream) {
+    return execute(pipeline -> pipeline.xgroupCreate(key, consumer, id, makeStream));
+  }
+
+  public CompletableFuture<String> xgroupSetID(final byte[] key, final byte[] consumer,
+      final byte[] id) {
+    return execute(pipeline -> pipeline.xgroupSetID(key, consumer, id));
+  }
+
+  public CompletableFuture<Long> xgroupDestroy(final byte[] key, final byte[] consumer) {
+    return execute(pipeline -> pipeline.xgroupDestroy(key, consumer));
+  }
+
+  public CompletableFuture<Long> xgroupDelConsumer(final byte[] key, final byte[] consumer,
+      final byte[] consumerName) {
+    return execute(pipeline -> pipeline.xgroupDelConsumer(key, consumer, consumerName));
+  }
+
+  public CompletableFuture<Long> xdel(final byte[] key, final byte[]... ids) {
+    return execute(pipeline -> pipeline.xdel(key, ids));
+  }
+
+  public CompletableFuture<Long> xtrim(final byte[] key, final long maxLen,
+      final boolean approximateLength) {
+    return execute(pipeline -> pipeline.xtrim(key, maxLen, approximateLength));
+  }
+
+  public CompletableFuture<Long> xtrim(final byte[] key, final XTrimParams params) {
+    return execute(pipeline -> pipeline.xtrim(key, params));
+  }
+
+  public CompletableFuture<Object> xpending(final byte[] key, final byte[] groupname) {
+    return execute(pipeline -> pipeline.xpending(key, groupname));
+  }
+
+  public CompletableFuture<List<Object>> xpending(final byte[] key, final byte[] groupname,
+      final byte[] start, final byte[] end, final int count, final byte[] consumername) {
+    return execute(client -> client.xpending(key, groupname, start, end, count, consumername),
+      BuilderFactory.RAW_OBJECT_LIST);
+  }
+
+  public CompletableFuture<List<Object>> xpending(final byte[] key, final byte[] groupname,
+      final XPendingParams params) {
+    return execute(pipeline -> pipeline.xpending(key, groupname, params));
+  }
+
+  public CompletableFuture<List<byte[]>> xclaim(final byte[] key, final byte[] groupname,
+      final byte[] consumername, final long minIdleTime, final long newIdleTime, final int retries,
+      final boolean force, final byte[]... ids) {
+    return execute(
+      pipeline -> pipeline.xclaim(key, groupname, consumername, minIdleTime, newIdleTime, retries, force, ids));
+  }
+
+  public CompletableFuture<List<byte[]>> xclaim(final byte[] key, final byte[] group,
+      final byte[] consumername, final long minIdleTime, final XClaimParams params,
+      final byte[]... ids) {
+    return execute(pipeline -> pipeline.xclaim(key, group, consumername, minIdleTime, params, ids));
+  }
+
+  public CompletableFuture<List<byte[]>> xclaimJustId(final byte[] key, final byte[] group,
+      final byte[] consumername, final long minIdleTime, final XClaimParams params,
+      final byte[]... ids) {
+    return execute(
+      pipeline -> pipeline.xclaimJustId(key, group, consumername, minIdleTime, params, ids));
+  }
+
+  public CompletableFuture<List<Object>> xautoclaim(final byte[] key, final byte[] groupName,
+      final byte[] consumerName, final long minIdleTime, final byte[] start,
+      final XAutoClaimParams params) {
+    return execute(
+      pipeline -> pipeline.xautoclaim(key, groupName, consumerName, minIdleTime, start, params));
+  }
+
+  public CompletableFuture<List<Object>> xautoclaimJustId(final byte[] key, final byte[] groupName,
+      final byte[] consumerName, final long minIdleTime, final byte[] start,
+      final XAutoClaimParams params) {
+    return execute(
+      pipeline -> pipeline.xautoclaimJustId(key, groupName, consumerName, minIdleTime, start, params));
+  }
+
+  public CompletableFuture<Object> xinfoStreamBinary(final byte[] key) {
+    return execute(client -> client.xinfoStream(key), BuilderFactory.RAW_OBJECT);
+  }
+
+  public CompletableFuture<List<Object>> xinfoGroupBinary(final byte[] key) {
+    return execute(client -> client.xinfoGroup(key), BuilderFactory.RAW_OBJECT_LIST);
+  }
+
+  public CompletableFuture<List<Object>> xinfoConsumersBinary(final byte[] key,
+      final byte[] group) {
+    return execute(client -> client.xinfoConsumers(key, group), BuilderFactory.RAW_OBJECT_LIST);
+  }
+
+  public CompletableFuture<Long> memoryUsage(final byte[] key) {
+    return execute(client -> client.memoryUsage(key), BuilderFactory.LONG);
+  }
+
+  public CompletableFuture<Long> memoryUsage(final byte[] key, final int samples) {
+    return execute(client -> client.memoryUsage(key, samples), BuilderFactory.LONG);
+  }
+
+  public CompletableFuture<LCSMatchResult> strAlgoLCSStrings(final byte[] strA, final byte[] strB,
+      final StrAlgoLCSParams params) {
+    return execute(pipeline -> pipeline.strAlgoLCSStrings(strA, strB, params));
+  }
+
+  private <T> CompletableFuture<T> execute(Function<CommandCollector, Response<T>> command) {
+    CommandCollector collector = collectors.get();
+    command.apply(collector);
+    return collector.takeSubmitted();
+  }
+
+  /**
+   * For commands the pipeline API does not offer, or offers with another reply type.
+   */
+  <T> CompletableFuture<T> execute(Consumer<Client> command, Builder<T> builder) {
+    CommandCollector collector = collectors.get();
+    command.accept(collector.client);
+    collector.getResponse(builder);
+    return collector.takeSubmitted();
+  }
+
+  private static <T> Builder<ScanResult<T>> scanResult(final boolean binaryCursor,
+      final Function<Iterator<byte[]>, T> element) {
+    return new Builder<ScanResult<T>>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public ScanResult<T> build(Object data) {
+        List<Object> result = (List<Object>) data;
+        List<T> results = new ArrayList<>();
+        Iterator<byte[]> items = ((List<byte[]>) result.get(1)).iterator();
+        while (items.hasNext()) {
+          results.add(element.apply(items));
+        }
+        byte[] cursor = (byte[]) result.get(0);
+        return binaryCursor ? new ScanResult<>(cursor, results)
+            : new ScanResult<>(SafeEncoder.encode(cursor), results);
+      }
+    };
+  }
+
+  /**
+   * Turns a call on the pipeline API into a command submitted to the connection. The arguments are
+   * encoded by {@link Client} as usual; each thread has its own collector.
+   */
+  private class CommandCollector extends MultiKeyPipelineBase {
+    private ProtocolCommand command;
+    private byte[][] args;
+    private CompletableFuture<?> submitted;
+
+    CommandCollector() {
+      client = new Client() {
+        @Override
+        public void sendCommand(final ProtocolCommand cmd, final byte[]... args) {
+          command = cmd;
+          CommandCollector.this.args = args;
+        }
+      };
+    }
+
+    @Override
+    protected Client getClient(String key) {
+      return client;
+    }
+
+    @Override
+    protected Client getClient(byte[] key) {
+      return client;
+    }
+
+    @Override
+    protected <T> Response<T> getResponse(Builder<T> builder) {
+      submitted = connection.submit(command, args, builder);
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> takeSubmitted() {
+      CompletableFuture<T> future = (CompletableFuture<T>) submitted;
+      command = null;
+      args = null;
+      submitted = null;
+      return future;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package redis.clients.jedis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * A pipeline which reads the pending replies by itself whenever a number of commands, or a number
+ * of bytes of commands, has been written since it last did, so that bulk loads run with bounded
+ * memory. Replies are handed to the callbacks registered with
+ * {@link #onReply(Response, Consumer, Consumer)} instead of keeping every {@link Response}.
+ * <p>
+ * Replies are not read in the middle of a MULTI block, which is bounded by the caller.
+ */
+public class AutoFlushPipeline extends Pipeline {
+
+  private final int maxCommands;
+  private final long maxBytes;
+  private final List<Callback<?>> callbacks = new ArrayList<>();
+  private long bytesMark;
+  private boolean syncing;
+  // first error reply without onError read by an automatic sync, thrown by the next sync()
+  private JedisDataException pendingError;
+
+  /**
+   * @param maxCommands number of pending replies after which they are read
+   * @param maxBytes number of bytes of commands written after which the replies are read
+   */
+  public AutoFlushPipeline(int maxCommands, long maxBytes) {
+    if (maxCommands <= 0 || maxBytes <= 0) {
+      throw new IllegalArgumentException("Thresholds must be positive.");
+    }
+    this.maxCommands = maxCommands;
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public void setClient(Client client) {
+    super.setClient(client);
+    bytesMark = client.getWrittenBytes();
+  }
+
+  /**
+   * Calls {@code onValue} with the reply of {@code response} once it has been read. Error replies
+   * are thrown by the next {@link #sync()}, after the callbacks of the other replies read along
+   * were called, also when they were read by a command triggering a read.
+   */
+  public <T> void onReply(Response<T> response, Consumer<? super T> onValue) {
+    onReply(response, onValue, null);
+  }
+
+  /**
+   * Calls {@code onValue} with the reply of {@code response}, or {@code onError} with its error,
+   * once it has been read. The reply of the command which triggered a read is already there, the
+   * callback is then called right away.
+   */
+  public <T> void onReply(Response<T> response, Consumer<? super T> onValue,
+      Consumer<? super JedisDataException> onError) {
+    Callback<T> callback = new Callback<>(response, onValue, onError);
+    if (callback.isReady()) {
+      callback.call();
+    } else {
+      callbacks.add(callback);
+    }
+  }
+
+  @Override
+  protected <T> Response<T> getResponse(Builder<T> builder) {
+    Response<T> response = super.getResponse(builder);
+    if (!syncing && !isInMulti()) {
+      long written = client.getWrittenBytes() - bytesMark;
+      if (getPipelinedResponseLength() >= maxCommands || written < 0 || written >= maxBytes) {
+        // the response of this command must be returned, errors wait for the next sync()
+        JedisDataException error = readReplies();
+        if (pendingError == null) {
+          pendingError = error;
+        }
+      }
+    }
+    return response;
+  }
+
+  /**
+   * Reads the pending replies and calls their callbacks.
+   */
+  @Override
+  public void sync() {
+    throwError(readReplies());
+  }
+
+  @Override
+  public List<Object> syncAndReturnAll() {
+    List<Object> replies = super.syncAndReturnAll();
+    bytesMark = client.getWrittenBytes();
+    throwError(callBack());
+    return replies;
+  }
+
+  /**
+   * @return the first error reply of the callbacks without onError, or null
+   */
+  private JedisDataException readReplies() {
+    syncing = true;
+    try {
+      super.sync();
+    } finally {
+      syncing = false;
+      bytesMark = client.getWrittenBytes();
+    }
+    return callBack();
+  }
+
+  private void throwError(JedisDataException error) {
+    if (pendingError != null) {
+      error = pendingError;
+      pendingError = null;
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  /**
+   * Calls the callbacks of the replies read so far, callbacks registered on responses set later,
+   * e.g. inside an unfinished MULTI block, are kept.
+   * @return the first error reply of the callbacks without onError, or null
+   */
+  private JedisDataException callBack() {
+    List<Callback<?>> ready = new ArrayList<>(callbacks.size());
+    int kept = 0;
+    for (Callback<?> callback : callbacks) {
+      if (callback.isReady()) {
+        ready.add(callback);
+      } else {
+        callbacks.set(kept++, callback);
+      }
+    }
+    callbacks.subList(kept, callbacks.size()).clear();
+
+    JedisDataException firstError = null;
+    for (Callback<?> callback : ready) {
+      try {
+        callback.call();
+      } catch (JedisDataException e) {
+        if (firstError == null) {
+          firstError = e;
+        }
+      }
+    }
+    return firstError;
+  }
+
+  private static class Callback<T> {
+    private final Response<T> response;
+    private final Consumer<? super T> onValue;
+    private final Consumer<? super JedisDataException> onError;
+
+    Callback(Response<T> response, Consumer<? super T> onValue,
+        Consumer<? super JedisDataException> onError) {
+      this.response = response;
+      this.onValue = onValue;
+      this.onError = onError;
+    }
+
+    boolean isReady() {
+      return response.isSet();
+    }
+
+    void call() {
+      T value;
+      try {
+        value = response.get();
+      } catch (JedisDataException e) {
+        if (onError == null) {
+          throw e;
+        }
+        onError.accept(e);
+        return;
+      }
+      onValue.accept(value);
+    }
+  }
+}
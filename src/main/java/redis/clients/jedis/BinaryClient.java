@@ -2,6 +2,7 @@ package redis.clients.jedis;
 
 import static redis.clients.jedis.Protocol.toByteArray;
 import static redis.clients.jedis.Protocol.Command.*;
+import static redis.clients.jedis.Protocol.Command.AUTH;
 import static redis.clients.jedis.Protocol.Command.EXISTS;
 import static redis.clients.jedis.Protocol.Command.GET;
 import static redis.clients.jedis.Protocol.Command.INCR;
@@ -26,6 +27,7 @@ import javax.net.ssl.SSLSocketFactory;
 
 import redis.clients.jedis.Protocol.Keyword;
 import redis.clients.jedis.Protocol.SentinelKeyword;
+import redis.clients.jedis.args.BulkSource;
 import redis.clients.jedis.args.ClientPauseMode;
 import redis.clients.jedis.args.ClientType;
 import redis.clients.jedis.args.ListDirection;
@@ -199,6 +201,10 @@ public class BinaryClient extends Connection {
     sendCommand(SET, key, value);
   }
 
+  public void set(final byte[] key, final BulkSource value) {
+    sendCommand(SET, BulkSource.of(key), value);
+  }
+
   public void set(final byte[] key, final byte[] value, final SetParams params) {
     sendCommand(SET, params.getByteParams(key, value));
   }
@@ -364,6 +370,10 @@ public class BinaryClient extends Connection {
     sendCommand(APPEND, key, value);
   }
 
+  public void append(final byte[] key, final BulkSource value) {
+    sendCommand(APPEND, BulkSource.of(key), value);
+  }
+
   public void substr(final byte[] key, final int start, final int end) {
     sendCommand(SUBSTR, key, toByteArray(start), toByteArray(end));
   }
@@ -821,6 +831,29 @@ public class BinaryClient extends Connection {
     sendCommand(AUTH, user, password);
   }
 
+  /**
+   * Switches the connection to the given protocol, authenticating and naming it on the way when
+   * a password or a name is given. Without a user the password is checked against the default
+   * user.
+   */
+  public void hello(final RedisProtocol protocol, final String user, final String password,
+      final String clientName) {
+    List<byte[]> args = new ArrayList<>(6);
+    args.add(SafeEncoder.encode(protocol.version()));
+    if (password != null) {
+      setUser(user);
+      setPassword(password);
+      args.add(Keyword.AUTH.getRaw());
+      args.add(SafeEncoder.encode(user != null ? user : "default"));
+      args.add(SafeEncoder.encode(password));
+    }
+    if (clientName != null) {
+      args.add(Keyword.SETNAME.getRaw());
+      args.add(SafeEncoder.encode(clientName));
+    }
+    sendCommand(HELLO, args.toArray(new byte[args.size()][]));
+  }
+
   public void subscribe(final byte[]... channels) {
     sendCommand(SUBSCRIBE, channels);
   }
@@ -1285,6 +1318,10 @@ public class BinaryClient extends Connection {
     sendCommand(RESTORE, key, toByteArray(ttl), serializedValue);
   }
 
+  public void restore(final byte[] key, final long ttl, final BulkSource serializedValue) {
+    sendCommand(RESTORE, BulkSource.of(key), BulkSource.of(toByteArray(ttl)), serializedValue);
+  }
+
   /**
    * @deprecated Use {@link #restore(byte[], long, byte[], redis.clients.jedis.params.RestoreParams)}.
    */
@@ -1404,6 +1441,27 @@ public class BinaryClient extends Connection {
     sendCommand(CLIENT, Keyword.ID.getRaw());
   }
 
+  /**
+   * Turns on tracking in broadcasting mode: the server invalidates every key starting with one of
+   * the prefixes, or every key when there is none.
+   * @param redirect id of the client receiving the invalidations, {@code null} for this one
+   */
+  public void clientTrackingBcast(final Long redirect, final byte[]... prefixes) {
+    List<byte[]> args = new ArrayList<>(4 + prefixes.length * 2);
+    args.add(Keyword.TRACKING.getRaw());
+    args.add(Keyword.ON.getRaw());
+    if (redirect != null) {
+      args.add(Keyword.REDIRECT.getRaw());
+      args.add(toByteArray(redirect));
+    }
+    args.add(Keyword.BCAST.getRaw());
+    for (byte[] prefix : prefixes) {
+      args.add(Keyword.PREFIX.getRaw());
+      args.add(prefix);
+    }
+    sendCommand(CLIENT, args.toArray(new byte[args.size()][]));
+  }
+
   public void clientUnblock(final long clientId, final UnblockType unblockType) {
     if (unblockType == null) {
       sendCommand(CLIENT, Keyword.UNBLOCK.getRaw(), toByteArray(clientId));
@@ -3,19 +3,23 @@ package redis.clients.jedis;
 import static redis.clients.jedis.Protocol.toByteArray;
 
 import java.io.Closeable;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
@@ -86,6 +90,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     try {
       connect();
       String password = config.getPassword();
+      String clientName = config.getClientName();
+      if (config.getRedisProtocol() == RedisProtocol.RESP3) {
+        // HELLO authenticates and names the connection in the same round trip
+        client.hello(RedisProtocol.RESP3, config.getUser(), password, clientName);
+        client.getOne();
+        password = null;
+        clientName = null;
+      }
       if (password != null) {
         String user = config.getUser();
         if (user != null) {
@@ -98,7 +110,6 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
       if (dbIndex > 0) {
         select(dbIndex);
       }
-      String clientName = config.getClientName();
       if (clientName != null) {
         // TODO: need to figure out something without encoding
         clientSetname(redis.clients.jedis.util.SafeEncoder.encode(clientName));
@@ -406,6 +417,17 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getStatusCodeReply();
   }
 
+  /**
+   * Same as {@link #set(byte[], byte[])}, the value being written from its source, e.g.
+   * {@code BulkSource.of(fileChannel)}, so that it never has to be loaded in memory as a whole.
+   * A source which fails or ends early leaves the connection broken.
+   */
+  public String set(final byte[] key, final BulkSource value) {
+    checkIsInMultiOrPipeline();
+    client.set(key, value);
+    return client.getStatusCodeReply();
+  }
+
   /**
    * Set the string value as value of the key. The string can't be longer than 1073741824 bytes (1
    * GB).
@@ -437,6 +459,26 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();
   }
 
+  /**
+   * Same as {@link #get(byte[])}, copying the value from the socket to {@code out} one buffer at a
+   * time, so that large values are never held in memory. {@code out} is neither flushed nor closed.
+   * When it fails the rest of the value is skipped and a {@link JedisException} is thrown, the
+   * connection can still be used.
+   * @return the length of the value, -1 if the key does not exist
+   */
+  public long get(final byte[] key, final OutputStream out) {
+    checkIsInMultiOrPipeline();
+    client.get(key);
+    return client.getBulkReplyTo(out);
+  }
+
+  /**
+   * @see #get(byte[], OutputStream)
+   */
+  public long get(final byte[] key, final WritableByteChannel channel) {
+    return get(key, Channels.newOutputStream(channel));
+  }
+
   /**
    * Get the value of key and delete the key. This command is similar to GET, except for the fact
    * that it also deletes the key on success (if and only if the key's value type is a string).
@@ -483,7 +525,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long exists(final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.exists(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -497,7 +539,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public boolean exists(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.exists(key);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   /**
@@ -511,14 +553,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long del(final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.del(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long del(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.del(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -538,14 +580,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long unlink(final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.unlink(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long unlink(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.unlink(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -664,7 +706,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long renamenx(final byte[] oldkey, final byte[] newkey) {
     checkIsInMultiOrPipeline();
     client.renamenx(oldkey, newkey);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -675,7 +717,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long dbSize() {
     checkIsInMultiOrPipeline();
     client.dbSize();
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -703,7 +745,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long expire(final byte[] key, final long seconds) {
     checkIsInMultiOrPipeline();
     client.expire(key, seconds);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -733,7 +775,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long expireAt(final byte[] key, final long unixTime) {
     checkIsInMultiOrPipeline();
     client.expireAt(key, unixTime);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -749,7 +791,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long ttl(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.ttl(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -762,14 +804,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long touch(final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.touch(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long touch(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.touch(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -809,7 +851,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long move(final byte[] key, final int dbIndex) {
     checkIsInMultiOrPipeline();
     client.move(key, dbIndex);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -870,6 +912,17 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryMultiBulkReply();
   }
 
+  /**
+   * Same as {@link #mget(byte[]...)} without copying the values: each one is handed to the
+   * consumer, in the order of the keys, as a view of the input buffer which is only valid during
+   * the call. Missing keys are passed as null.
+   */
+  public void mget(final Consumer<ByteBuffer> valueConsumer, final byte[]... keys) {
+    checkIsInMultiOrPipeline();
+    client.mget(keys);
+    client.getMultiBulkReplyViews(valueConsumer);
+  }
+
   /**
    * SETNX works exactly like {@link #set(byte[], byte[]) SET} with the only difference that if the
    * key already exists no operation is performed. SETNX actually means "SET if Not eXists".
@@ -883,7 +936,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long setnx(final byte[] key, final byte[] value) {
     checkIsInMultiOrPipeline();
     client.setnx(key, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -948,7 +1001,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long msetnx(final byte[]... keysvalues) {
     checkIsInMultiOrPipeline();
     client.msetnx(keysvalues);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -973,7 +1026,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long decrBy(final byte[] key, final long decrement) {
     checkIsInMultiOrPipeline();
     client.decrBy(key, decrement);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -997,7 +1050,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long decr(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.decr(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1022,7 +1075,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long incrBy(final byte[] key, final long increment) {
     checkIsInMultiOrPipeline();
     client.incrBy(key, increment);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1072,7 +1125,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long incr(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.incr(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1091,7 +1144,16 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long append(final byte[] key, final byte[] value) {
     checkIsInMultiOrPipeline();
     client.append(key, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
+  }
+
+  /**
+   * Streaming variant of {@link #append(byte[], byte[])}, see {@link #set(byte[], BulkSource)}.
+   */
+  public long append(final byte[] key, final BulkSource value) {
+    checkIsInMultiOrPipeline();
+    client.append(key, value);
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1133,14 +1195,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long hset(final byte[] key, final byte[] field, final byte[] value) {
     checkIsInMultiOrPipeline();
     client.hset(key, field, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long hset(final byte[] key, final Map<byte[], byte[]> hash) {
     checkIsInMultiOrPipeline();
     client.hset(key, hash);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1160,6 +1222,23 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();
   }
 
+  /**
+   * Streaming variant of {@link #hget(byte[], byte[])}, see {@link #get(byte[], OutputStream)}.
+   * @return the length of the value, -1 if the key or the field does not exist
+   */
+  public long hget(final byte[] key, final byte[] field, final OutputStream out) {
+    checkIsInMultiOrPipeline();
+    client.hget(key, field);
+    return client.getBulkReplyTo(out);
+  }
+
+  /**
+   * @see #hget(byte[], byte[], OutputStream)
+   */
+  public long hget(final byte[] key, final byte[] field, final WritableByteChannel channel) {
+    return hget(key, field, Channels.newOutputStream(channel));
+  }
+
   /**
    * Set the specified hash field to the specified value if the field not exists. <b>Time
    * complexity:</b> O(1)
@@ -1173,7 +1252,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long hsetnx(final byte[] key, final byte[] field, final byte[] value) {
     checkIsInMultiOrPipeline();
     client.hsetnx(key, field, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1230,7 +1309,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long hincrBy(final byte[] key, final byte[] field, final long value) {
     checkIsInMultiOrPipeline();
     client.hincrBy(key, field, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1267,7 +1346,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public boolean hexists(final byte[] key, final byte[] field) {
     checkIsInMultiOrPipeline();
     client.hexists(key, field);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   /**
@@ -1283,7 +1362,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long hdel(final byte[] key, final byte[]... fields) {
     checkIsInMultiOrPipeline();
     client.hdel(key, fields);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1298,7 +1377,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long hlen(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.hlen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1400,7 +1479,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long rpush(final byte[] key, final byte[]... strings) {
     checkIsInMultiOrPipeline();
     client.rpush(key, strings);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1418,7 +1497,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long lpush(final byte[] key, final byte[]... strings) {
     checkIsInMultiOrPipeline();
     client.lpush(key, strings);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1434,7 +1513,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long llen(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.llen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1581,7 +1660,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long lrem(final byte[] key, final long count, final byte[] value) {
     checkIsInMultiOrPipeline();
     client.lrem(key, count, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1734,7 +1813,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long sadd(final byte[] key, final byte[]... members) {
     checkIsInMultiOrPipeline();
     client.sadd(key, members);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1766,7 +1845,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long srem(final byte[] key, final byte[]... member) {
     checkIsInMultiOrPipeline();
     client.srem(key, member);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1819,7 +1898,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long smove(final byte[] srckey, final byte[] dstkey, final byte[] member) {
     checkIsInMultiOrPipeline();
     client.smove(srckey, dstkey, member);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1833,7 +1912,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long scard(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.scard(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1849,7 +1928,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public boolean sismember(final byte[] key, final byte[] member) {
     checkIsInMultiOrPipeline();
     client.sismember(key, member);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   /**
@@ -1903,7 +1982,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long sinterstore(final byte[] dstkey, final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.sinterstore(dstkey, keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1938,7 +2017,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long sunionstore(final byte[] dstkey, final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.sunionstore(dstkey, keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1980,7 +2059,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long sdiffstore(final byte[] dstkey, final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.sdiffstore(dstkey, keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2027,7 +2106,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zadd(final byte[] key, final double score, final byte[] member) {
     checkIsInMultiOrPipeline();
     client.zadd(key, score, member);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -2035,21 +2114,21 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
       final ZAddParams params) {
     checkIsInMultiOrPipeline();
     client.zadd(key, score, member, params);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
     checkIsInMultiOrPipeline();
     client.zadd(key, scoreMembers);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zadd(final byte[] key, final Map<byte[], Double> scoreMembers, final ZAddParams params) {
     checkIsInMultiOrPipeline();
     client.zadd(key, scoreMembers, params);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -2081,7 +2160,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zrem(final byte[] key, final byte[]... members) {
     checkIsInMultiOrPipeline();
     client.zrem(key, members);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2217,7 +2296,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zcard(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.zcard(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2427,7 +2506,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long sort(final byte[] key, final SortingParams sortingParameters, final byte[] dstkey) {
     checkIsInMultiOrPipeline();
     client.sort(key, sortingParameters, dstkey);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2447,7 +2526,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long sort(final byte[] key, final byte[] dstkey) {
     checkIsInMultiOrPipeline();
     client.sort(key, dstkey);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2730,18 +2809,41 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return pipeline;
   }
 
+  /**
+   * Same as {@link #pipelined()}, reading the replies whenever {@code maxCommands} commands or
+   * {@code maxBytes} bytes of commands are pending, see {@link AutoFlushPipeline}.
+   */
+  public AutoFlushPipeline pipelined(final int maxCommands, final long maxBytes) {
+    AutoFlushPipeline autoFlushPipeline = new AutoFlushPipeline(maxCommands, maxBytes);
+    autoFlushPipeline.setClient(client);
+    pipeline = autoFlushPipeline;
+    return autoFlushPipeline;
+  }
+
+  /**
+   * Same as {@link #pipelined()}, reading the replies on another thread while commands are being
+   * sent, with at most {@code window} commands waiting for their reply, see
+   * {@link WindowedPipeline}.
+   */
+  public WindowedPipeline pipelinedWithWindow(final int window) {
+    WindowedPipeline windowedPipeline = new WindowedPipeline(window);
+    windowedPipeline.setClient(client);
+    pipeline = windowedPipeline;
+    return windowedPipeline;
+  }
+
   @Override
   public long zcount(final byte[] key, final double min, final double max) {
     checkIsInMultiOrPipeline();
     client.zcount(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zcount(final byte[] key, final byte[] min, final byte[] max) {
     checkIsInMultiOrPipeline();
     client.zcount(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -2762,7 +2864,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zdiffStore(final byte[] dstkey, final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.zdiffStore(dstkey, keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3018,7 +3120,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   }
 
   protected Set<Tuple> getTupledSet() {
-    List<byte[]> membersWithScores = client.getBinaryMultiBulkReply();
+    List<Object> membersWithScores = client.getObjectMultiBulkReply();
     // If response from Redis nil, we should return null.
     if (membersWithScores == null) {
       return null;
@@ -3026,12 +3128,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     if (membersWithScores.isEmpty()) {
       return Collections.emptySet();
     }
-    Set<Tuple> set = new LinkedHashSet<>(membersWithScores.size() / 2, 1.0f);
-    Iterator<byte[]> iterator = membersWithScores.iterator();
-    while (iterator.hasNext()) {
-      set.add(new Tuple(iterator.next(), BuilderFactory.DOUBLE.build(iterator.next())));
-    }
-    return set;
+    return BuilderFactory.TUPLE_ZSET.build(membersWithScores);
   }
 
   @Override
@@ -3111,7 +3208,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zremrangeByRank(final byte[] key, final long start, final long stop) {
     checkIsInMultiOrPipeline();
     client.zremrangeByRank(key, start, stop);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3131,14 +3228,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zremrangeByScore(final byte[] key, final double min, final double max) {
     checkIsInMultiOrPipeline();
     client.zremrangeByScore(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zremrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
     checkIsInMultiOrPipeline();
     client.zremrangeByScore(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3196,7 +3293,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zunionstore(final byte[] dstkey, final byte[]... sets) {
     checkIsInMultiOrPipeline();
     client.zunionstore(dstkey, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3229,7 +3326,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zunionstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
     checkIsInMultiOrPipeline();
     client.zunionstore(dstkey, params, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3287,7 +3384,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zinterstore(final byte[] dstkey, final byte[]... sets) {
     checkIsInMultiOrPipeline();
     client.zinterstore(dstkey, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3320,14 +3417,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zinterstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
     checkIsInMultiOrPipeline();
     client.zinterstore(dstkey, params, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zlexcount(final byte[] key, final byte[] min, final byte[] max) {
     checkIsInMultiOrPipeline();
     client.zlexcount(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3364,7 +3461,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long zremrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
     checkIsInMultiOrPipeline();
     client.zremrangeByLex(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3431,7 +3528,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   @Override
   public long lastsave() {
     client.lastsave();
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3695,7 +3792,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long strlen(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.strlen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3716,7 +3813,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long lpushx(final byte[] key, final byte[]... string) {
     checkIsInMultiOrPipeline();
     client.lpushx(key, string);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3731,14 +3828,14 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long persist(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.persist(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long rpushx(final byte[] key, final byte[]... string) {
     checkIsInMultiOrPipeline();
     client.rpushx(key, string);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3753,7 +3850,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
       final byte[] value) {
     checkIsInMultiOrPipeline();
     client.linsert(key, where, pivot, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3795,7 +3892,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public boolean setbit(final byte[] key, final long offset, final boolean value) {
     checkIsInMultiOrPipeline();
     client.setbit(key, offset, value);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   @Override
@@ -3815,7 +3912,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public boolean getbit(final byte[] key, final long offset) {
     checkIsInMultiOrPipeline();
     client.getbit(key, offset);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   public Long bitpos(final byte[] key, final boolean value) {
@@ -3832,7 +3929,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long setrange(final byte[] key, final long offset, final byte[] value) {
     checkIsInMultiOrPipeline();
     client.setrange(key, offset, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3842,6 +3939,26 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();
   }
 
+  /**
+   * Streaming variant of {@link #getrange(byte[], long, long)}, see
+   * {@link #get(byte[], OutputStream)}.
+   * @return the length of the range
+   */
+  public long getrange(final byte[] key, final long startOffset, final long endOffset,
+      final OutputStream out) {
+    checkIsInMultiOrPipeline();
+    client.getrange(key, startOffset, endOffset);
+    return client.getBulkReplyTo(out);
+  }
+
+  /**
+   * @see #getrange(byte[], long, long, OutputStream)
+   */
+  public long getrange(final byte[] key, final long startOffset, final long endOffset,
+      final WritableByteChannel channel) {
+    return getrange(key, startOffset, endOffset, Channels.newOutputStream(channel));
+  }
+
   @Override
   public Long publish(final byte[] channel, final byte[] message) {
     checkIsInMultiOrPipeline();
@@ -3976,7 +4093,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   @Override
   public long slowlogLen() {
     client.slowlogLen();
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4025,21 +4142,21 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long bitcount(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.bitcount(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long bitcount(final byte[] key, final long start, final long end) {
     checkIsInMultiOrPipeline();
     client.bitcount(key, start, end);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long bitop(final BitOP op, final byte[] destKey, final byte[]... srcKeys) {
     checkIsInMultiOrPipeline();
     client.bitop(op, destKey, srcKeys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4049,6 +4166,23 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getBinaryBulkReply();
   }
 
+  /**
+   * Streaming variant of {@link #dump(byte[])}, see {@link #get(byte[], OutputStream)}.
+   * @return the length of the serialized value, -1 if the key does not exist
+   */
+  public long dump(final byte[] key, final OutputStream out) {
+    checkIsInMultiOrPipeline();
+    client.dump(key);
+    return client.getBulkReplyTo(out);
+  }
+
+  /**
+   * @see #dump(byte[], OutputStream)
+   */
+  public long dump(final byte[] key, final WritableByteChannel channel) {
+    return dump(key, Channels.newOutputStream(channel));
+  }
+
   @Override
   public String restore(final byte[] key, final long ttl, final byte[] serializedValue) {
     checkIsInMultiOrPipeline();
@@ -4056,6 +4190,16 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return client.getStatusCodeReply();
   }
 
+  /**
+   * Streaming variant of {@link #restore(byte[], long, byte[])}, e.g. from a file written with
+   * {@link #dump(byte[], OutputStream)}, see {@link #set(byte[], BulkSource)}.
+   */
+  public String restore(final byte[] key, final long ttl, final BulkSource serializedValue) {
+    checkIsInMultiOrPipeline();
+    client.restore(key, ttl, serializedValue);
+    return client.getStatusCodeReply();
+  }
+
   @Override
   public String restoreReplace(final byte[] key, final long ttl, final byte[] serializedValue) {
     checkIsInMultiOrPipeline();
@@ -4096,21 +4240,21 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long pexpire(final byte[] key, final long milliseconds) {
     checkIsInMultiOrPipeline();
     client.pexpire(key, milliseconds);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pexpireAt(final byte[] key, final long millisecondsTimestamp) {
     checkIsInMultiOrPipeline();
     client.pexpireAt(key, millisecondsTimestamp);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pttl(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.pttl(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -4226,7 +4370,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long aclDelUser(byte[] name) {
     checkIsInMultiOrPipeline();
     client.aclDelUser(name);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4296,7 +4440,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long clientKill(ClientKillParams params) {
     checkIsInMultiOrPipeline();
     this.client.clientKill(params);
-    return this.client.getIntegerReply();
+    return this.client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4345,7 +4489,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long clientId() {
     checkIsInMultiOrPipeline();
     client.clientId();
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -4358,7 +4502,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long clientUnblock(final long clientId, final UnblockType unblockType) {
     checkIsInMultiOrPipeline();
     client.clientUnblock(clientId, unblockType);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4401,21 +4545,21 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long waitReplicas(final int replicas, final long timeout) {
     checkIsInMultiOrPipeline();
     client.waitReplicas(replicas, timeout);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pfadd(final byte[] key, final byte[]... elements) {
     checkIsInMultiOrPipeline();
     client.pfadd(key, elements);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pfcount(final byte[] key) {
     checkIsInMultiOrPipeline();
     client.pfcount(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4429,7 +4573,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long pfcount(final byte[]... keys) {
     checkIsInMultiOrPipeline();
     client.pfcount(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4452,6 +4596,19 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
     return new ScanResult<>(newcursor, rawResults);
   }
 
+  /**
+   * Same as {@link #scan(byte[], ScanParams, byte[])} without copying the keys: each one is handed
+   * to the consumer as a view of the input buffer which is only valid during the call.
+   * @param type may be null
+   * @return the cursor of the next call
+   */
+  public byte[] scan(final byte[] cursor, final ScanParams params, final byte[] type,
+      final Consumer<ByteBuffer> keyConsumer) {
+    checkIsInMultiOrPipeline();
+    client.scan(cursor, params, type);
+    return client.getScanReplyViews(keyConsumer);
+  }
+
   @Override
   public ScanResult<Map.Entry<byte[], byte[]>> hscan(final byte[] key, final byte[] cursor) {
     return hscan(key, cursor, new ScanParams());
@@ -4513,21 +4670,21 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
       final byte[] member) {
     checkIsInMultiOrPipeline();
     client.geoadd(key, longitude, latitude, member);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long geoadd(final byte[] key, final Map<byte[], GeoCoordinate> memberCoordinateMap) {
     checkIsInMultiOrPipeline();
     client.geoadd(key, memberCoordinateMap);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long geoadd(final byte[] key, final GeoAddParams params, final Map<byte[], GeoCoordinate> memberCoordinateMap) {
     checkIsInMultiOrPipeline();
     client.geoadd(key, params, memberCoordinateMap);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4589,7 +4746,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
       final GeoRadiusStoreParam storeParam) {
     checkIsInMultiOrPipeline();
     client.georadiusStore(key, longitude, latitude, radius, unit, param, storeParam);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4629,7 +4786,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
       final GeoUnit unit, final GeoRadiusParam param, final GeoRadiusStoreParam storeParam) {
     checkIsInMultiOrPipeline();
     client.georadiusByMemberStore(key, member, radius, unit, param, storeParam);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4765,7 +4922,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long hstrlen(final byte[] key, final byte[] field) {
     checkIsInMultiOrPipeline();
     client.hstrlen(key, field);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4847,7 +5004,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long xlen(byte[] key) {
     checkIsInMultiOrPipeline();
     client.xlen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4882,7 +5039,7 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long xack(byte[] key, byte[] group, byte[]... ids) {
     checkIsInMultiOrPipeline();
     client.xack(key, group, ids);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4903,35 +5060,35 @@ public class BinaryJedis implements BasicCommands, BinaryJedisCommands, MultiKey
   public long xgroupDestroy(byte[] key, byte[] consumer) {
     checkIsInMultiOrPipeline();
     client.xgroupDestroy(key, consumer);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xgroupDelConsumer(byte[] key, byte[] consumer, byte[] consumerName) {
     checkIsInMultiOrPipeline();
     client.xgroupDelConsumer(key, consumer, consumerName);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xdel(byte[] key, byte[]... ids) {
     checkIsInMultiOrPipeline();
     client.xdel(key, ids);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xtrim(byte[] key, long maxLen, boolean approximateLength) {
     checkIsInMultiOrPipeline();
     client.xtrim(key, maxLen, approximateLength);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xtrim(byte[] key, XTrimParams params) {
     checkIsInMultiOrPipeline();
     client.xtrim(key, params);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -7,16 +7,23 @@ import redis.clients.jedis.commands.MultiKeyBinaryJedisClusterCommands;
 import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.params.*;
 import redis.clients.jedis.resps.LCSMatchResult;
+import redis.clients.jedis.util.JedisClusterCRC16;
 import redis.clients.jedis.util.JedisClusterHashTagUtil;
 import redis.clients.jedis.util.KeyMergeUtil;
 import redis.clients.jedis.util.SafeEncoder;
 
 import java.io.Closeable;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
@@ -115,8 +122,25 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   public BinaryJedisCluster(Set<HostAndPort> jedisClusterNode, JedisClientConfig clientConfig,
       int maxAttempts, Duration maxTotalRetriesDuration, GenericObjectPoolConfig<Jedis> poolConfig) {
+    this(jedisClusterNode, clientConfig, maxAttempts, maxTotalRetriesDuration, poolConfig,
+        ReadFrom.MASTER);
+  }
+
+  public BinaryJedisCluster(Set<HostAndPort> jedisClusterNode, JedisClientConfig clientConfig,
+      int maxAttempts, GenericObjectPoolConfig<Jedis> poolConfig, ReadFrom readFrom) {
+    this(jedisClusterNode, clientConfig, maxAttempts,
+        Duration.ofMillis((long) clientConfig.getSocketTimeoutMillis() * maxAttempts), poolConfig,
+        readFrom);
+  }
+
+  /**
+   * @param readFrom where read-only commands are sent; writes always go to the slot's master
+   */
+  public BinaryJedisCluster(Set<HostAndPort> jedisClusterNode, JedisClientConfig clientConfig,
+      int maxAttempts, Duration maxTotalRetriesDuration, GenericObjectPoolConfig<Jedis> poolConfig,
+      ReadFrom readFrom) {
     this.connectionHandler = new JedisSlotBasedConnectionHandler(jedisClusterNode, poolConfig,
-        clientConfig);
+        clientConfig, readFrom);
     this.maxAttempts = maxAttempts;
     this.maxTotalRetriesDuration = maxTotalRetriesDuration;
   }
@@ -136,6 +160,115 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
     return this.connectionHandler.getConnectionFromSlot(slot);
   }
 
+  /**
+   * Creates a pipeline whose commands are sent to the nodes serving their keys on
+   * {@link JedisClusterPipeline#sync()}.
+   */
+  public JedisClusterPipeline pipelined() {
+    return new JedisClusterPipeline(connectionHandler, maxAttempts);
+  }
+
+  /**
+   * Groups the positions of the keys in {@code args} by hash slot, in order of first appearance.
+   * Keys are every {@code step}-th element, starting with the first.
+   * @return the groups, or an empty list if all the keys are in the same slot, the usual case,
+   *         which is then found without allocating
+   */
+  static <K> List<List<Integer>> splitBySlot(K[] args, int step, ToIntFunction<K> slotOf) {
+    if (args.length == 0) {
+      return Collections.emptyList();
+    }
+    int firstSlot = slotOf.applyAsInt(args[0]);
+    int i = step;
+    while (i < args.length && slotOf.applyAsInt(args[i]) == firstSlot) {
+      i += step;
+    }
+    if (i >= args.length) {
+      return Collections.emptyList();
+    }
+
+    Map<Integer, List<Integer>> slots = new LinkedHashMap<>();
+    List<Integer> first = new ArrayList<>();
+    for (int j = 0; j < i; j += step) {
+      first.add(j);
+    }
+    slots.put(firstSlot, first);
+    for (; i < args.length; i += step) {
+      slots.computeIfAbsent(slotOf.applyAsInt(args[i]), slot -> new ArrayList<>()).add(i);
+    }
+    return new ArrayList<>(slots.values());
+  }
+
+  /**
+   * Copies {@code step} elements of {@code args} from each of the positions.
+   */
+  static <K> K[] select(K[] args, List<Integer> positions, int step) {
+    K[] selected = Arrays.copyOf(args, positions.size() * step);
+    int i = 0;
+    for (int position : positions) {
+      for (int j = 0; j < step; j++) {
+        selected[i++] = args[position + j];
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Sends the command once per slot on one pipeline, so that every node is visited once, and sums
+   * the replies.
+   */
+  <K> long sumBySlot(K[] keys, List<List<Integer>> slots,
+      BiFunction<JedisClusterPipeline, K[], Response<Long>> command) {
+    JedisClusterPipeline pipeline = pipelined();
+    List<Response<Long>> parts = new ArrayList<>(slots.size());
+    for (List<Integer> positions : slots) {
+      parts.add(command.apply(pipeline, select(keys, positions, 1)));
+    }
+    pipeline.sync();
+
+    long sum = 0;
+    for (Response<Long> part : parts) {
+      sum += part.get();
+    }
+    return sum;
+  }
+
+  <K, V> List<V> mgetBySlot(K[] keys, List<List<Integer>> slots,
+      BiFunction<JedisClusterPipeline, K[], Response<List<V>>> command) {
+    JedisClusterPipeline pipeline = pipelined();
+    List<Response<List<V>>> parts = new ArrayList<>(slots.size());
+    for (List<Integer> positions : slots) {
+      parts.add(command.apply(pipeline, select(keys, positions, 1)));
+    }
+    pipeline.sync();
+
+    List<V> values = new ArrayList<>(Collections.nCopies(keys.length, null));
+    for (int i = 0; i < parts.size(); i++) {
+      List<Integer> positions = slots.get(i);
+      List<V> part = parts.get(i).get();
+      for (int j = 0; j < positions.size(); j++) {
+        values.set(positions.get(j), part.get(j));
+      }
+    }
+    return values;
+  }
+
+  <K> String msetBySlot(K[] keysvalues, List<List<Integer>> slots,
+      BiFunction<JedisClusterPipeline, K[], Response<String>> command) {
+    JedisClusterPipeline pipeline = pipelined();
+    List<Response<String>> parts = new ArrayList<>(slots.size());
+    for (List<Integer> positions : slots) {
+      parts.add(command.apply(pipeline, select(keysvalues, positions, 2)));
+    }
+    pipeline.sync();
+
+    String reply = null;
+    for (Response<String> part : parts) {
+      reply = part.get();
+    }
+    return reply;
+  }
+
   @Override
   public boolean copy(byte[] srcKey, byte[] dstKey, boolean replace) {
     return new JedisClusterCommand<Boolean>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
@@ -173,7 +306,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.get(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -198,12 +331,16 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public long exists(final byte[]... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::exists);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
         return connection.exists(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -213,7 +350,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Boolean execute(Jedis connection) {
         return connection.exists(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -233,7 +370,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public String execute(Jedis connection) {
         return connection.type(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -243,7 +380,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.dump(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -314,7 +451,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.ttl(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -324,7 +461,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.pttl(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -339,6 +476,10 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public long touch(final byte[]... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::touch);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
@@ -374,7 +515,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Boolean execute(Jedis connection) {
         return connection.getbit(key, offset);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -394,7 +535,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.getrange(key, startOffset, endOffset);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -504,7 +645,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.substr(key, start, end);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -534,7 +675,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.hget(key, field);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -564,7 +705,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.hmget(key, fields);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -594,7 +735,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Boolean execute(Jedis connection) {
         return connection.hexists(key, field);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -614,7 +755,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.hlen(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -624,7 +765,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.hkeys(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -634,7 +775,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.hvals(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -644,7 +785,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Map<byte[], byte[]> execute(Jedis connection) {
         return connection.hgetAll(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -654,7 +795,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.hrandfield(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -664,7 +805,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.hrandfield(key, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -674,7 +815,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Map<byte[], byte[]> execute(Jedis connection) {
         return connection.hrandfieldWithValues(key, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -704,7 +845,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.llen(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -714,7 +855,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.lrange(key, start, stop);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -734,7 +875,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.lindex(key, index);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -784,7 +925,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.lpos(key, element);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -794,7 +935,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.lpos(key, element, params);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -805,7 +946,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<Long> execute(Jedis connection) {
         return connection.lpos(key, element, params, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -845,7 +986,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.smembers(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -885,7 +1026,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.scard(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -895,7 +1036,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Boolean execute(Jedis connection) {
         return connection.sismember(key, member);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -905,7 +1046,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<Boolean> execute(Jedis connection) {
         return connection.smismember(key, members);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -915,7 +1056,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.srandmember(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -925,7 +1066,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.strlen(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -935,7 +1076,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public LCSMatchResult execute(Jedis connection) {
         return connection.strAlgoLCSKeys(keyA, keyB, params);
       }
-    }.runBinary(2, keyA, keyB);
+    }.runBinaryReadOnly(2, keyA, keyB);
   }
 
   @Override
@@ -1006,7 +1147,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zdiff(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -1016,7 +1157,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zdiffWithScores(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -1037,7 +1178,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrange(key, start, stop);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1078,7 +1219,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.zrank(key, member);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1088,7 +1229,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.zrevrank(key, member);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1098,7 +1239,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrange(key, start, stop);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1108,7 +1249,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeWithScores(key, start, stop);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1118,7 +1259,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeWithScores(key, start, stop);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1128,7 +1269,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public byte[] execute(Jedis connection) {
         return connection.zrandmember(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1138,7 +1279,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrandmember(key, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1148,7 +1289,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrandmemberWithScores(key, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1158,7 +1299,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.zcard(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1168,7 +1309,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Double execute(Jedis connection) {
         return connection.zscore(key, member);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1178,7 +1319,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<Double> execute(Jedis connection) {
         return connection.zmscore(key, members);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1248,7 +1389,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.zcount(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1258,7 +1399,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.zcount(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1268,7 +1409,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1278,7 +1419,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1288,7 +1429,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1299,7 +1440,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1309,7 +1450,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1320,7 +1461,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1331,7 +1472,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1341,7 +1482,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1351,7 +1492,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1362,7 +1503,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1373,7 +1514,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1383,7 +1524,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1393,7 +1534,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1404,7 +1545,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1415,7 +1556,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1426,7 +1567,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1512,6 +1653,10 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public long unlink(final byte[]... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::unlink);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
@@ -1538,7 +1683,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.bitcount(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1548,7 +1693,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.bitcount(key, start, end);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1568,7 +1713,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.pfcount(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1578,7 +1723,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.srandmember(key, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1588,7 +1733,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.zlexcount(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1598,7 +1743,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByLex(key, min, max);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1609,7 +1754,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrangeByLex(key, min, max, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1619,7 +1764,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByLex(key, max, min);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1630,7 +1775,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zrevrangeByLex(key, max, min, offset, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -1765,6 +1910,10 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public long del(final byte[]... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::del);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
@@ -1857,16 +2006,28 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
 
   @Override
   public List<byte[]> mget(final byte[]... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return mgetBySlot(keys, slots, JedisClusterPipeline::mget);
+    }
     return new JedisClusterCommand<List<byte[]>>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public List<byte[]> execute(Jedis connection) {
         return connection.mget(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
   public String mset(final byte[]... keysvalues) {
+    if (keysvalues.length % 2 != 0) {
+      throw new IllegalArgumentException("mset needs a value for every key.");
+    }
+    List<List<Integer>> slots = splitBySlot(keysvalues, 2, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return msetBySlot(keysvalues, slots, JedisClusterPipeline::mset);
+    }
+
     byte[][] keys = new byte[keysvalues.length / 2][];
 
     for (int keyIdx = 0; keyIdx < keys.length; keyIdx++) {
@@ -1934,7 +2095,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.sdiff(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -1956,7 +2117,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.sinter(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2008,7 +2169,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.sunion(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2030,7 +2191,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zinter(params, keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2040,7 +2201,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zinterWithScores(params, keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2074,7 +2235,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<byte[]> execute(Jedis connection) {
         return connection.zunion(params, keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2084,7 +2245,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Set<Tuple> execute(Jedis connection) {
         return connection.zunionWithScores(params, keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2184,7 +2345,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.pfcount(keys);
       }
-    }.runBinary(keys.length, keys);
+    }.runBinaryReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2225,7 +2386,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Double execute(Jedis connection) {
         return connection.geodist(key, member1, member2);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2236,7 +2397,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Double execute(Jedis connection) {
         return connection.geodist(key, member1, member2, unit);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2246,7 +2407,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.geohash(key, members);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2256,7 +2417,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<GeoCoordinate> execute(Jedis connection) {
         return connection.geopos(key, members);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2278,7 +2439,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusReadonly(key, longitude, latitude, radius, unit);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2313,7 +2474,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusReadonly(key, longitude, latitude, radius, unit, param);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2335,7 +2496,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusByMemberReadonly(key, member, radius, unit);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2369,7 +2530,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusByMemberReadonly(key, member, radius, unit, param);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2436,7 +2597,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public ScanResult<Map.Entry<byte[], byte[]>> execute(Jedis connection) {
         return connection.hscan(key, cursor);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2448,7 +2609,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public ScanResult<Map.Entry<byte[], byte[]>> execute(Jedis connection) {
         return connection.hscan(key, cursor, params);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2458,7 +2619,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public ScanResult<byte[]> execute(Jedis connection) {
         return connection.sscan(key, cursor);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2468,7 +2629,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public ScanResult<byte[]> execute(Jedis connection) {
         return connection.sscan(key, cursor, params);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2478,7 +2639,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public ScanResult<Tuple> execute(Jedis connection) {
         return connection.zscan(key, cursor);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2488,7 +2649,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public ScanResult<Tuple> execute(Jedis connection) {
         return connection.zscan(key, cursor, params);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2508,7 +2669,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<Long> execute(Jedis connection) {
         return connection.bitfieldReadonly(key, arguments);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2518,7 +2679,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.hstrlen(key, field);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2569,7 +2730,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public Long execute(Jedis connection) {
         return connection.xlen(key);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2579,7 +2740,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.xrange(key, start, end);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2590,7 +2751,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.xrange(key, start, end, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2600,7 +2761,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.xrange(key, start, end, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2610,7 +2771,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.xrevrange(key, end, start);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
@@ -2621,7 +2782,7 @@ public class BinaryJedisCluster implements BinaryJedisClusterCommands,
       public List<byte[]> execute(Jedis connection) {
         return connection.xrevrange(key, end, start, count);
       }
-    }.runBinary(key);
+    }.runBinaryReadOnly(key);
   }
 
   @Override
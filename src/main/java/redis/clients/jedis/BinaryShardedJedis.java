@@ -1,8 +1,20 @@
 package redis.clients.jedis;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import redis.clients.jedis.commands.BinaryJedisCommands;
 import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.params.GeoAddParams;
 import redis.clients.jedis.params.GeoRadiusParam;
 import redis.clients.jedis.params.GetExParams;
@@ -26,6 +39,7 @@ import redis.clients.jedis.params.ZIncrByParams;
 import redis.clients.jedis.params.LPosParams;
 import redis.clients.jedis.resps.LCSMatchResult;
 import redis.clients.jedis.util.Hashing;
+import redis.clients.jedis.util.ShardingStrategy;
 import redis.clients.jedis.util.Sharded;
 
 public class BinaryShardedJedis extends Sharded<Jedis, JedisShardInfo> implements
@@ -35,6 +49,8 @@ public class BinaryShardedJedis extends Sharded<Jedis, JedisShardInfo> implement
 
   private final byte[][] dummyArray = new byte[0][];
 
+  private Executor executor;
+
   public BinaryShardedJedis(List<JedisShardInfo> shards) {
     super(shards);
   }
@@ -51,6 +67,15 @@ public class BinaryShardedJedis extends Sharded<Jedis, JedisShardInfo> implement
     super(shards, algo, keyTagPattern);
   }
 
+  public BinaryShardedJedis(List<JedisShardInfo> shards, ShardingStrategy strategy) {
+    super(shards, strategy);
+  }
+
+  public BinaryShardedJedis(List<JedisShardInfo> shards, ShardingStrategy strategy, Hashing algo,
+      Pattern keyTagPattern) {
+    super(shards, strategy, algo, keyTagPattern);
+  }
+
   public void disconnect() {
     for (Jedis jedis : getAllShards()) {
       if (jedis.isConnected()) {
@@ -73,6 +98,176 @@ public class BinaryShardedJedis extends Sharded<Jedis, JedisShardInfo> implement
     }
   }
 
+  /**
+   * Sets the executor running the requests of the commands on keys of several shards, a shared
+   * pool of daemon threads by default.
+   */
+  public void setExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Same as {@link BinaryJedis#mget(byte[]...)}, reading the values of every shard concurrently.
+   * @return the values in the order of the keys
+   */
+  public List<byte[]> mget(final byte[]... keys) {
+    final byte[][] values = new byte[keys.length][];
+    runOnShards(groupByShard(keys), (shard, indexes) -> {
+      List<byte[]> shardValues = shard.mget(select(keys, indexes));
+      for (int i = 0; i < indexes.length; i++) {
+        values[indexes[i]] = shardValues.get(i);
+      }
+      return null;
+    });
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Same as {@link BinaryJedis#mset(byte[]...)}, writing to every shard concurrently. The keys of
+   * each shard are set atomically, not across shards.
+   * @throws IllegalArgumentException when a key has no value
+   */
+  public String mset(final byte[]... keysvalues) {
+    if (keysvalues.length % 2 != 0) {
+      throw new IllegalArgumentException("mset needs a value for every key.");
+    }
+    final byte[][] keys = new byte[keysvalues.length / 2][];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keysvalues[i * 2];
+    }
+    runOnShards(groupByShard(keys), (shard, indexes) -> shard.mset(selectPairs(keysvalues,
+      indexes)));
+    return "OK";
+  }
+
+  /**
+   * Same as {@link BinaryJedis#del(byte[]...)}, deleting from every shard concurrently.
+   */
+  public long del(final byte[]... keys) {
+    return sum(runOnShards(groupByShard(keys),
+      (shard, indexes) -> shard.del(select(keys, indexes))));
+  }
+
+  /**
+   * Same as {@link BinaryJedis#exists(byte[]...)}, asking every shard concurrently.
+   */
+  public long exists(final byte[]... keys) {
+    return sum(runOnShards(groupByShard(keys),
+      (shard, indexes) -> shard.exists(select(keys, indexes))));
+  }
+
+  /**
+   * @return the indexes of the keys of every shard
+   */
+  protected Map<Jedis, int[]> groupByShard(final Object[] keys) {
+    Map<Jedis, List<Integer>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      Jedis shard = keys[i] instanceof byte[] ? getShard((byte[]) keys[i])
+          : getShard((String) keys[i]);
+      groups.computeIfAbsent(shard, k -> new ArrayList<>()).add(i);
+    }
+    Map<Jedis, int[]> indexes = new LinkedHashMap<>(groups.size() * 2);
+    for (Map.Entry<Jedis, List<Integer>> group : groups.entrySet()) {
+      indexes.put(group.getKey(), group.getValue().stream().mapToInt(Integer::intValue).toArray());
+    }
+    return indexes;
+  }
+
+  /**
+   * Runs one request per shard, concurrently when there are several shards. Every request is run
+   * even if some fail, the first failure is then thrown.
+   * @return the results of the requests, in the order of the shards, empty without keys
+   */
+  protected <T> List<T> runOnShards(final Map<Jedis, int[]> groups,
+      final BiFunction<Jedis, int[], T> request) {
+    if (groups.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (groups.size() == 1) {
+      Map.Entry<Jedis, int[]> group = groups.entrySet().iterator().next();
+      return Collections.singletonList(request.apply(group.getKey(), group.getValue()));
+    }
+
+    Executor requestExecutor = executor != null ? executor : SharedExecutor.INSTANCE;
+    List<CompletableFuture<T>> futures = new ArrayList<>(groups.size());
+    Map.Entry<Jedis, int[]> local = null;
+    for (Map.Entry<Jedis, int[]> group : groups.entrySet()) {
+      if (local == null) {
+        // the first request runs on the calling thread
+        local = group;
+        continue;
+      }
+      futures.add(CompletableFuture.supplyAsync(
+        () -> request.apply(group.getKey(), group.getValue()), requestExecutor));
+    }
+
+    List<T> results = new ArrayList<>(groups.size());
+    RuntimeException failure = null;
+    try {
+      results.add(request.apply(local.getKey(), local.getValue()));
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+    for (CompletableFuture<T> future : futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+              : new JedisException(e.getCause());
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return results;
+  }
+
+  protected static <K> K[] select(final K[] keys, final int[] indexes) {
+    K[] selected = Arrays.copyOf(keys, indexes.length);
+    for (int i = 0; i < indexes.length; i++) {
+      selected[i] = keys[indexes[i]];
+    }
+    return selected;
+  }
+
+  protected static <K> K[] selectPairs(final K[] keysvalues, final int[] indexes) {
+    K[] selected = Arrays.copyOf(keysvalues, indexes.length * 2);
+    for (int i = 0; i < indexes.length; i++) {
+      selected[i * 2] = keysvalues[indexes[i] * 2];
+      selected[i * 2 + 1] = keysvalues[indexes[i] * 2 + 1];
+    }
+    return selected;
+  }
+
+  protected static long sum(final List<Long> counts) {
+    long sum = 0;
+    for (long count : counts) {
+      sum += count;
+    }
+    return sum;
+  }
+
+  /**
+   * Threads created on demand and kept one minute, shared by all the sharded clients.
+   */
+  private static class SharedExecutor {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final Executor INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60,
+        TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable, "jedis-sharded-" + THREADS.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  public ShardedJedisPipeline pipelined() {
+    ShardedJedisPipeline pipeline = new ShardedJedisPipeline();
+    pipeline.setShardedJedis(this);
+    return pipeline;
+  }
+
   protected Jedis create(JedisShardInfo shard) {
     return new Jedis(shard);
   }
@@ -1,5 +1,6 @@
 package redis.clients.jedis;
 
+import java.math.BigInteger;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -85,6 +86,9 @@ public final class BuilderFactory {
   public static final Builder<Long> LONG = new Builder<Long>() {
     @Override
     public Long build(Object data) {
+      if (data instanceof Boolean) {
+        return (Boolean) data ? 1L : 0L;
+      }
       return (Long) data;
     }
 
@@ -115,6 +119,9 @@ public final class BuilderFactory {
   public static final Builder<Double> DOUBLE = new Builder<Double>() {
     @Override
     public Double build(Object data) {
+      if (data instanceof Double) {
+        return (Double) data;
+      }
       String string = STRING.build(data);
       if (string == null) return null;
       try {
@@ -139,9 +146,9 @@ public final class BuilderFactory {
       if (null == data) {
         return null;
       }
-      List<byte[]> values = (List<byte[]>) data;
+      List<Object> values = (List<Object>) data;
       List<Double> doubles = new ArrayList<>(values.size());
-      for (byte[] value : values) {
+      for (Object value : values) {
         doubles.add(DOUBLE.build(value));
       }
       return doubles;
@@ -156,6 +163,9 @@ public final class BuilderFactory {
   public static final Builder<Boolean> BOOLEAN = new Builder<Boolean>() {
     @Override
     public Boolean build(Object data) {
+      if (data instanceof Boolean) {
+        return (Boolean) data;
+      }
       return ((Long) data) == 1L;
     }
 
@@ -172,10 +182,10 @@ public final class BuilderFactory {
       if (null == data) {
         return null;
       }
-      List<Long> longs = (List<Long>) data;
-      List<Boolean> booleans = new ArrayList<>(longs.size());
-      for (Long value : longs) {
-        booleans.add(value == 1L);
+      List<Object> values = (List<Object>) data;
+      List<Boolean> booleans = new ArrayList<>(values.size());
+      for (Object value : values) {
+        booleans.add(BOOLEAN.build(value));
       }
       return booleans;
     }
@@ -189,7 +199,20 @@ public final class BuilderFactory {
   public static final Builder<byte[]> BYTE_ARRAY = new Builder<byte[]>() {
     @Override
     public byte[] build(Object data) {
-      return ((byte[]) data);
+      if (data == null || data instanceof byte[]) {
+        return (byte[]) data;
+      }
+      // RESP3 numbers and booleans, as RESP2 would have sent them
+      if (data instanceof Double) {
+        return Protocol.toByteArray((Double) data);
+      }
+      if (data instanceof Boolean) {
+        return Protocol.toByteArray((Boolean) data);
+      }
+      if (data instanceof Long || data instanceof BigInteger) {
+        return SafeEncoder.encode(data.toString());
+      }
+      throw new ClassCastException(data.getClass().getName() + " cannot be cast to byte[]");
     }
 
     @Override
@@ -242,8 +265,14 @@ public final class BuilderFactory {
     @Override
     @SuppressWarnings("unchecked")
     public Map<byte[], byte[]> build(Object data) {
-      final List<byte[]> flatHash = (List<byte[]>) data;
       final Map<byte[], byte[]> hash = new JedisByteHashMap();
+      if (data instanceof Map) {
+        for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) data).entrySet()) {
+          hash.put(BYTE_ARRAY.build(entry.getKey()), BYTE_ARRAY.build(entry.getValue()));
+        }
+        return hash;
+      }
+      final List<byte[]> flatHash = (List<byte[]>) data;
       final Iterator<byte[]> iterator = flatHash.iterator();
       while (iterator.hasNext()) {
         hash.put(iterator.next(), iterator.next());
@@ -262,7 +291,7 @@ public final class BuilderFactory {
   public static final Builder<String> STRING = new Builder<String>() {
     @Override
     public String build(Object data) {
-      return data == null ? null : SafeEncoder.encode((byte[]) data);
+      return data == null ? null : Protocol.encodeReply(BYTE_ARRAY.build(data));
     }
 
     @Override
@@ -354,6 +383,14 @@ public final class BuilderFactory {
     @Override
     @SuppressWarnings("unchecked")
     public Map<String, String> build(Object data) {
+      if (data instanceof Map) {
+        final Map<Object, Object> map = (Map<Object, Object>) data;
+        final Map<String, String> hash = new HashMap<>(map.size(), 1);
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+          hash.put(STRING.build(entry.getKey()), STRING.build(entry.getValue()));
+        }
+        return hash;
+      }
       final List<byte[]> flatHash = (List<byte[]>) data;
       final Map<String, String> hash = new HashMap<>(flatHash.size() / 2, 1);
       final Iterator<byte[]> iterator = flatHash.iterator();
@@ -428,11 +465,18 @@ public final class BuilderFactory {
       if (null == data) {
         return null;
       }
-      List<byte[]> l = (List<byte[]>) data;
+      List<Object> l = (List<Object>) data;
       final Set<Tuple> result = new LinkedHashSet<>(l.size() / 2, 1);
-      Iterator<byte[]> iterator = l.iterator();
+      Iterator<Object> iterator = l.iterator();
       while (iterator.hasNext()) {
-        result.add(new Tuple(iterator.next(), DOUBLE.build(iterator.next())));
+        Object member = iterator.next();
+        if (member instanceof List) {
+          // RESP3 pairs every member with its score
+          List<Object> pair = (List<Object>) member;
+          result.add(new Tuple((byte[]) pair.get(0), DOUBLE.build(pair.get(1))));
+        } else {
+          result.add(new Tuple((byte[]) member, DOUBLE.build(iterator.next())));
+        }
       }
       return result;
     }
@@ -0,0 +1,103 @@
+package redis.clients.jedis;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import redis.clients.jedis.commands.JedisCommands;
+
+/**
+ * Read commands served from a {@link ClientSideCache} and read through a {@link Jedis}, a
+ * {@link JedisPool} or a {@link JedisCluster} on a miss. Writes go to the underlying client as
+ * usual, the server invalidates the cached replies of the keys they modify.
+ * <p>
+ * Cached collections are shared between readers and cannot be modified.
+ */
+public class CachedJedis {
+
+  private final JedisPool pool;
+  private final JedisCommands commands;
+  private final ClientSideCache cache;
+
+  /**
+   * @param commands a {@link Jedis}, which is not thread-safe, or a {@link JedisCluster}
+   */
+  public CachedJedis(JedisCommands commands, ClientSideCache cache) {
+    this.pool = null;
+    this.commands = commands;
+    this.cache = cache;
+  }
+
+  public CachedJedis(JedisPool pool, ClientSideCache cache) {
+    this.pool = pool;
+    this.commands = null;
+    this.cache = cache;
+  }
+
+  public ClientSideCache getCache() {
+    return cache;
+  }
+
+  public String get(final String key) {
+    return cache.get(key, Protocol.Command.GET, () -> execute(jedis -> jedis.get(key)));
+  }
+
+  public Boolean exists(final String key) {
+    return cache.get(key, Protocol.Command.EXISTS, () -> execute(jedis -> jedis.exists(key)));
+  }
+
+  public String hget(final String key, final String field) {
+    return cache.get(key, Arrays.asList(Protocol.Command.HGET, field),
+      () -> execute(jedis -> jedis.hget(key, field)));
+  }
+
+  public List<String> hmget(final String key, final String... fields) {
+    return cache.get(key, Arrays.asList(Protocol.Command.HMGET, Arrays.asList(fields)),
+      () -> unmodifiableList(execute(jedis -> jedis.hmget(key, fields))));
+  }
+
+  public Map<String, String> hgetAll(final String key) {
+    return cache.get(key, Protocol.Command.HGETALL, () -> {
+      Map<String, String> hash = execute(jedis -> jedis.hgetAll(key));
+      return hash == null ? null : Collections.unmodifiableMap(hash);
+    });
+  }
+
+  public Set<String> smembers(final String key) {
+    return cache.get(key, Protocol.Command.SMEMBERS, () -> {
+      Set<String> members = execute(jedis -> jedis.smembers(key));
+      return members == null ? null : Collections.unmodifiableSet(members);
+    });
+  }
+
+  public Boolean sismember(final String key, final String member) {
+    return cache.get(key, Arrays.asList(Protocol.Command.SISMEMBER, member),
+      () -> execute(jedis -> jedis.sismember(key, member)));
+  }
+
+  public List<String> lrange(final String key, final long start, final long stop) {
+    return cache.get(key, Arrays.asList(Protocol.Command.LRANGE, start, stop),
+      () -> unmodifiableList(execute(jedis -> jedis.lrange(key, start, stop))));
+  }
+
+  public Double zscore(final String key, final String member) {
+    return cache.get(key, Arrays.asList(Protocol.Command.ZSCORE, member),
+      () -> execute(jedis -> jedis.zscore(key, member)));
+  }
+
+  private <T> T execute(Function<JedisCommands, T> command) {
+    if (pool == null) {
+      return command.apply(commands);
+    }
+    try (Jedis jedis = pool.getResource()) {
+      return command.apply(jedis);
+    }
+  }
+
+  private static List<String> unmodifiableList(List<String> list) {
+    return list == null ? null : Collections.unmodifiableList(list);
+  }
+}
@@ -0,0 +1,359 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Near cache of read replies, kept coherent by the server with {@code CLIENT TRACKING}. Each node
+ * whose keys are cached has to be {@link #track(HostAndPort, JedisClientConfig, String...)
+ * tracked}: a dedicated connection turns tracking on in broadcasting mode and evicts keys as soon
+ * as the server announces they were modified. Over RESP3 the invalidations are push messages on
+ * that connection, over RESP2 a second connection turns tracking on and redirects them to the
+ * {@code __redis__:invalidate} channel the first one is subscribed to.
+ * <p>
+ * While any tracking connection is down the cache is flushed and bypassed, replies read during
+ * that time could miss an invalidation. Reads are served through {@link CachedJedis}.
+ */
+public class ClientSideCache implements Closeable {
+
+  public enum EvictionPolicy {
+    /** Evicts the least recently read key. */
+    LRU,
+    /**
+     * Evicts the least frequently read among the oldest few keys, an approximation in the spirit
+     * of the server's own LFU policy.
+     */
+    LFU
+  }
+
+  private static final int LFU_SAMPLES = 8;
+  private static final long RECONNECT_DELAY_MILLIS = 1000;
+  private static final byte[] INVALIDATE_CHANNEL = SafeEncoder.encode("__redis__:invalidate");
+  private static final Object NULL_REPLY = new Object();
+
+  private final int maximumSize;
+  private final EvictionPolicy evictionPolicy;
+  private final LinkedHashMap<String, CachedKey> keys;
+  private final Map<String, Object> pendingLoads = new HashMap<>();
+  private final List<Tracker> trackers = new ArrayList<>();
+  private final AtomicInteger untrackedNodes = new AtomicInteger();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  public ClientSideCache(int maximumSize) {
+    this(maximumSize, EvictionPolicy.LRU);
+  }
+
+  public ClientSideCache(int maximumSize, EvictionPolicy evictionPolicy) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive.");
+    }
+    this.maximumSize = maximumSize;
+    this.evictionPolicy = evictionPolicy;
+    this.keys = new LinkedHashMap<>(16, 0.75f, evictionPolicy == EvictionPolicy.LRU);
+  }
+
+  /**
+   * Starts tracking the keys of a node. Nothing is cached until the server has confirmed tracking.
+   * @param prefixes only keys starting with one of them are tracked and cached, all keys without
+   */
+  public void track(HostAndPort node, JedisClientConfig clientConfig, String... prefixes) {
+    Tracker tracker = new Tracker(node, clientConfig, prefixes);
+    synchronized (trackers) {
+      trackers.add(tracker);
+    }
+    tracker.start();
+  }
+
+  /**
+   * Starts tracking every node of the cluster as it is currently known.
+   */
+  public void track(JedisCluster cluster, JedisClientConfig clientConfig, String... prefixes) {
+    for (String node : cluster.getClusterNodes().keySet()) {
+      track(HostAndPort.from(node), clientConfig, prefixes);
+    }
+  }
+
+  /**
+   * Returns the cached reply to {@code command} on {@code key}, or reads it with {@code loader} and
+   * caches it. A reply read while the key was invalidated is returned but not cached, nothing is
+   * cached when the loader throws.
+   * @param command identifies the command and its arguments other than the key, it has to
+   *          implement {@code equals} and {@code hashCode}
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key, Object command, Supplier<T> loader) {
+    Object load = new Object();
+    synchronized (this) {
+      if (untrackedNodes.get() > 0) {
+        load = null;
+      } else {
+        CachedKey cached = keys.get(key);
+        Object reply = cached != null ? cached.replies.get(command) : null;
+        if (reply != null) {
+          cached.frequency++;
+          hits.increment();
+          return reply == NULL_REPLY ? null : (T) reply;
+        }
+        pendingLoads.put(key, load);
+      }
+    }
+    misses.increment();
+
+    T value;
+    try {
+      value = loader.get();
+    } catch (RuntimeException | Error e) {
+      if (load != null) {
+        synchronized (this) {
+          pendingLoads.remove(key, load);
+        }
+      }
+      throw e;
+    }
+    if (load != null) {
+      synchronized (this) {
+        if (pendingLoads.remove(key, load)) {
+          store(key, command, value == null ? NULL_REPLY : value);
+        }
+      }
+    }
+    return value;
+  }
+
+  private void store(String key, Object command, Object reply) {
+    CachedKey cached = keys.get(key);
+    if (cached == null) {
+      if (keys.size() >= maximumSize) {
+        evict();
+      }
+      cached = new CachedKey();
+      keys.put(key, cached);
+    }
+    cached.replies.put(command, reply);
+  }
+
+  private void evict() {
+    Iterator<Map.Entry<String, CachedKey>> oldest = keys.entrySet().iterator();
+    if (evictionPolicy == EvictionPolicy.LRU) {
+      oldest.next();
+      oldest.remove();
+    } else {
+      String victim = null;
+      long victimFrequency = Long.MAX_VALUE;
+      for (int i = 0; i < LFU_SAMPLES && oldest.hasNext(); i++) {
+        Map.Entry<String, CachedKey> candidate = oldest.next();
+        if (candidate.getValue().frequency < victimFrequency) {
+          victim = candidate.getKey();
+          victimFrequency = candidate.getValue().frequency;
+        }
+      }
+      keys.remove(victim);
+    }
+    evictions.increment();
+  }
+
+  public synchronized void invalidate(String key) {
+    pendingLoads.remove(key);
+    if (keys.remove(key) != null) {
+      invalidations.increment();
+    }
+  }
+
+  public synchronized void flush() {
+    pendingLoads.clear();
+    invalidations.add(keys.size());
+    keys.clear();
+  }
+
+  public synchronized int size() {
+    return keys.size();
+  }
+
+  /**
+   * @return true if every tracked node has confirmed tracking, i.e. replies are being cached
+   */
+  public boolean isTracking() {
+    return untrackedNodes.get() == 0;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public long getInvalidations() {
+    return invalidations.sum();
+  }
+
+  /**
+   * @return hits divided by reads, 0 before the first read
+   */
+  public double getHitRatio() {
+    long hit = getHits();
+    long total = hit + getMisses();
+    return total == 0 ? 0 : (double) hit / total;
+  }
+
+  /**
+   * Stops tracking and empties the cache.
+   */
+  @Override
+  public void close() {
+    synchronized (trackers) {
+      for (Tracker tracker : trackers) {
+        tracker.close();
+      }
+      trackers.clear();
+    }
+    flush();
+  }
+
+  private static class CachedKey {
+    private final Map<Object, Object> replies = new HashMap<>(4);
+    private long frequency;
+  }
+
+  /**
+   * Keeps a tracking connection to one node open, reconnecting after failures.
+   */
+  private class Tracker implements Runnable, Closeable {
+    private final HostAndPort node;
+    private final JedisClientConfig clientConfig;
+    private final byte[][] prefixes;
+    private final Thread thread;
+    private volatile boolean closed;
+    private volatile Jedis listener;
+    private volatile Jedis redirector;
+
+    Tracker(HostAndPort node, JedisClientConfig clientConfig, String[] prefixes) {
+      this.node = node;
+      this.clientConfig = clientConfig;
+      this.prefixes = SafeEncoder.encodeMany(prefixes);
+      this.thread = new Thread(this, "jedis-tracking-" + node);
+      thread.setDaemon(true);
+      untrackedNodes.incrementAndGet();
+    }
+
+    void start() {
+      thread.start();
+    }
+
+    @Override
+    public void run() {
+      boolean tracking = false;
+      while (!closed) {
+        try {
+          listen();
+          Client client = listener.getClient();
+          flush();
+          untrackedNodes.decrementAndGet();
+          tracking = true;
+          while (!closed) {
+            invalidate(client.getUnflushedObjectMultiBulkReply());
+          }
+        } catch (JedisException e) {
+          if (tracking) {
+            untrackedNodes.incrementAndGet();
+            tracking = false;
+          }
+          flush();
+          disconnect();
+          if (!closed) {
+            try {
+              Thread.sleep(RECONNECT_DELAY_MILLIS);
+            } catch (InterruptedException ie) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+          }
+        }
+      }
+      if (tracking) {
+        untrackedNodes.incrementAndGet();
+      }
+    }
+
+    private void listen() {
+      listener = new Jedis(node, clientConfig);
+      if (closed) {
+        throw new JedisException("Tracking stopped.");
+      }
+      Client client = listener.getClient();
+      if (clientConfig.getRedisProtocol() == RedisProtocol.RESP3) {
+        client.clientTrackingBcast(null, prefixes);
+        client.getStatusCodeReply();
+      } else {
+        long listenerId = listener.clientId();
+        redirector = new Jedis(node, clientConfig);
+        redirector.getClient().clientTrackingBcast(listenerId, prefixes);
+        redirector.getClient().getStatusCodeReply();
+        client.subscribe(INVALIDATE_CHANNEL);
+        client.getObjectMultiBulkReply();
+      }
+      client.setTimeoutInfinite();
+    }
+
+    /**
+     * Handles {@code invalidate} push messages (RESP3) and {@code message} on the invalidation
+     * channel (RESP2). A null key list means the server flushed its keys.
+     */
+    private void invalidate(List<Object> message) {
+      String kind = SafeEncoder.encode((byte[]) message.get(0));
+      Object invalidated;
+      if ("invalidate".equals(kind)) {
+        invalidated = message.get(1);
+      } else if ("message".equals(kind)) {
+        invalidated = message.get(2);
+      } else {
+        return;
+      }
+      if (invalidated instanceof List) {
+        for (Object key : (List<?>) invalidated) {
+          ClientSideCache.this.invalidate(SafeEncoder.encode((byte[]) key));
+        }
+      } else {
+        flush();
+      }
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      disconnect();
+    }
+
+    private void disconnect() {
+      Jedis connection = listener;
+      if (connection != null) {
+        connection.disconnect();
+      }
+      connection = redirector;
+      if (connection != null) {
+        connection.disconnect();
+        redirector = null;
+      }
+    }
+  }
+}
@@ -2,15 +2,21 @@ package redis.clients.jedis;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
 
+import redis.clients.jedis.args.BulkSource;
 import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisDataException;
@@ -31,6 +37,7 @@ public class Connection implements Closeable {
   private int soTimeout = Protocol.DEFAULT_TIMEOUT;
   private int infiniteSoTimeout = 0;
   private boolean broken = false;
+  private Consumer<List<Object>> pushConsumer;
 
   public Connection() {
     this(Protocol.DEFAULT_HOST, Protocol.DEFAULT_PORT);
@@ -185,6 +192,20 @@ public class Connection implements Closeable {
     }
   }
 
+  /**
+   * Sends a command whose arguments are written from their sources, e.g. files too large to be
+   * loaded in memory. A source failing half way leaves the connection broken.
+   */
+  public void sendCommand(final ProtocolCommand cmd, final BulkSource... args) {
+    try {
+      connect();
+      Protocol.sendCommand(outputStream, cmd, args);
+    } catch (JedisConnectionException ex) {
+      broken = true;
+      throw ex;
+    }
+  }
+
   public String getHost() {
     return socketFactory.getHost();
   }
@@ -267,12 +288,7 @@ public class Connection implements Closeable {
 
   public String getStatusCodeReply() {
     flush();
-    final byte[] resp = (byte[]) readProtocolWithCheckingBroken();
-    if (null == resp) {
-      return null;
-    } else {
-      return SafeEncoder.encode(resp);
-    }
+    return readWithCheckingBroken(in -> Protocol.readStatusCodeReply(in, pushConsumer));
   }
 
   public String getBulkReply() {
@@ -286,12 +302,67 @@ public class Connection implements Closeable {
 
   public byte[] getBinaryBulkReply() {
     flush();
-    return (byte[]) readProtocolWithCheckingBroken();
+    return BuilderFactory.BYTE_ARRAY.build(readProtocolWithCheckingBroken());
   }
 
   public Long getIntegerReply() {
     flush();
-    return (Long) readProtocolWithCheckingBroken();
+    return BuilderFactory.LONG.build(readProtocolWithCheckingBroken());
+  }
+
+  /**
+   * Same as {@link #getIntegerReply()} without boxing the reply.
+   */
+  public long getIntegerReplyAsLong() {
+    flush();
+    checkNotBroken();
+    try {
+      return Protocol.readIntegerReply(inputStream, pushConsumer);
+    } catch (JedisConnectionException exc) {
+      broken = true;
+      throw exc;
+    }
+  }
+
+  /**
+   * Same as {@link #getBinaryBulkReply()}, returning a view of the input buffer which is valid
+   * until the next read from this connection instead of a copy.
+   */
+  public ByteBuffer getBulkReplyView() {
+    flush();
+    return readWithCheckingBroken(in -> Protocol.readBulkReplyView(in, pushConsumer));
+  }
+
+  /**
+   * Same as {@link #getBinaryBulkReply()}, copying the value to {@code out} one buffer at a time
+   * instead of returning it.
+   * @return the length of the value, -1 for a nil reply
+   */
+  public long getBulkReplyTo(final OutputStream out) {
+    flush();
+    return readWithCheckingBroken(in -> Protocol.readBulkReplyTo(in, pushConsumer, out));
+  }
+
+  /**
+   * Reads a multi bulk reply of bulk strings, handing every element to the consumer as a view of
+   * the input buffer which is only valid during the call. Nil elements are passed as null.
+   * @return the number of elements, -1 for a nil reply
+   */
+  public int getMultiBulkReplyViews(final Consumer<ByteBuffer> elementConsumer) {
+    flush();
+    return readWithCheckingBroken(
+      in -> Protocol.readMultiBulkReplyViews(in, pushConsumer, elementConsumer));
+  }
+
+  /**
+   * Reads a SCAN reply, handing the keys to the consumer as in
+   * {@link #getMultiBulkReplyViews(Consumer)}.
+   * @return the cursor of the next call
+   */
+  public byte[] getScanReplyViews(final Consumer<ByteBuffer> elementConsumer) {
+    flush();
+    return readWithCheckingBroken(
+      in -> Protocol.readScanReplyViews(in, pushConsumer, elementConsumer));
   }
 
   public List<String> getMultiBulkReply() {
@@ -301,7 +372,7 @@ public class Connection implements Closeable {
   @SuppressWarnings("unchecked")
   public List<byte[]> getBinaryMultiBulkReply() {
     flush();
-    return (List<byte[]>) readProtocolWithCheckingBroken();
+    return (List<byte[]>) flattenMap(readProtocolWithCheckingBroken());
   }
 
   @Deprecated
@@ -311,7 +382,7 @@ public class Connection implements Closeable {
 
   @SuppressWarnings("unchecked")
   public List<Object> getUnflushedObjectMultiBulkReply() {
-    return (List<Object>) readProtocolWithCheckingBroken();
+    return (List<Object>) flattenMap(readProtocolWithCheckingBroken());
   }
 
   public List<Object> getObjectMultiBulkReply() {
@@ -334,6 +405,31 @@ public class Connection implements Closeable {
     return broken;
   }
 
+  /**
+   * Marks the connection as broken, e.g. when replies are left unread on it, so that it is not
+   * used again and a pool destroys it instead of lending it.
+   */
+  public void setBroken() {
+    broken = true;
+  }
+
+  /**
+   * Sets the consumer of the RESP3 push messages which arrive between replies, e.g. invalidations
+   * of client side caching. Without one push messages are returned as replies, which is what a
+   * subscribed connection expects.
+   */
+  public void setPushConsumer(Consumer<List<Object>> pushConsumer) {
+    this.pushConsumer = pushConsumer;
+  }
+
+  /**
+   * @return the number of bytes of commands written to the current socket, including the ones
+   *         still buffered
+   */
+  public long getWrittenBytes() {
+    return outputStream == null ? 0 : outputStream.getWrittenBytes();
+  }
+
   protected void flush() {
     try {
       outputStream.flush();
@@ -344,18 +440,49 @@ public class Connection implements Closeable {
   }
 
   protected Object readProtocolWithCheckingBroken() {
-    if (broken) {
-      throw new JedisConnectionException("Attempting to read from a broken connection");
+    checkNotBroken();
+
+    try {
+      return Protocol.read(inputStream, pushConsumer);
+    } catch (JedisConnectionException exc) {
+      broken = true;
+      throw exc;
     }
+  }
 
+  private <T> T readWithCheckingBroken(final Function<RedisInputStream, T> reader) {
+    checkNotBroken();
     try {
-      return Protocol.read(inputStream);
+      return reader.apply(inputStream);
     } catch (JedisConnectionException exc) {
       broken = true;
       throw exc;
     }
   }
 
+  private void checkNotBroken() {
+    if (broken) {
+      throw new JedisConnectionException("Attempting to read from a broken connection");
+    }
+  }
+
+  /**
+   * Same as {@link #getMany(int)}, handing every reply to the consumer as soon as it is read
+   * instead of collecting them.
+   */
+  public void getMany(final int count, final Consumer<Object> replyConsumer) {
+    flush();
+    for (int i = 0; i < count; i++) {
+      Object reply;
+      try {
+        reply = readProtocolWithCheckingBroken();
+      } catch (JedisDataException e) {
+        reply = e;
+      }
+      replyConsumer.accept(reply);
+    }
+  }
+
   public List<Object> getMany(final int count) {
     flush();
     final List<Object> responses = new ArrayList<>(count);
@@ -368,4 +495,22 @@ public class Connection implements Closeable {
     }
     return responses;
   }
+
+  /**
+   * RESP3 answers with a map where RESP2 sends a flat list of keys and values, the multi bulk
+   * getters keep returning the latter.
+   */
+  @SuppressWarnings("unchecked")
+  private static Object flattenMap(Object reply) {
+    if (!(reply instanceof Map)) {
+      return reply;
+    }
+    Map<Object, Object> map = (Map<Object, Object>) reply;
+    List<Object> flat = new ArrayList<>(map.size() * 2);
+    for (Map.Entry<Object, Object> entry : map.entrySet()) {
+      flat.add(entry.getKey());
+      flat.add(entry.getValue());
+    }
+    return flat;
+  }
 }
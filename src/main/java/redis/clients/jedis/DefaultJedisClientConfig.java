@@ -23,10 +23,13 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
 
   private final HostAndPortMapper hostAndPortMapper;
 
+  private final RedisProtocol redisProtocol;
+
   private DefaultJedisClientConfig(int connectionTimeoutMillis, int soTimeoutMillis,
       int blockingSocketTimeoutMillis, String user, String password, int database, String clientName,
       boolean ssl, SSLSocketFactory sslSocketFactory, SSLParameters sslParameters,
-      HostnameVerifier hostnameVerifier, HostAndPortMapper hostAndPortMapper) {
+      HostnameVerifier hostnameVerifier, HostAndPortMapper hostAndPortMapper,
+      RedisProtocol redisProtocol) {
     this.connectionTimeoutMillis = connectionTimeoutMillis;
     this.socketTimeoutMillis = soTimeoutMillis;
     this.blockingSocketTimeoutMillis = blockingSocketTimeoutMillis;
@@ -39,6 +42,7 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
     this.sslParameters = sslParameters;
     this.hostnameVerifier = hostnameVerifier;
     this.hostAndPortMapper = hostAndPortMapper;
+    this.redisProtocol = redisProtocol;
   }
 
   @Override
@@ -108,6 +112,11 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
     return hostAndPortMapper;
   }
 
+  @Override
+  public RedisProtocol getRedisProtocol() {
+    return redisProtocol;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -130,13 +139,15 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
 
     private HostAndPortMapper hostAndPortMapper = null;
 
+    private RedisProtocol redisProtocol = RedisProtocol.RESP2;
+
     private Builder() {
     }
 
     public DefaultJedisClientConfig build() {
       return new DefaultJedisClientConfig(connectionTimeoutMillis, socketTimeoutMillis,
           blockingSocketTimeoutMillis, user, password, database, clientName, ssl, sslSocketFactory,
-          sslParameters, hostnameVerifier, hostAndPortMapper);
+          sslParameters, hostnameVerifier, hostAndPortMapper, redisProtocol);
     }
 
     public Builder connectionTimeoutMillis(int connectionTimeoutMillis) {
@@ -198,6 +209,11 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
       this.hostAndPortMapper = hostAndPortMapper;
       return this;
     }
+
+    public Builder protocol(RedisProtocol redisProtocol) {
+      this.redisProtocol = redisProtocol;
+      return this;
+    }
   }
 
   public static DefaultJedisClientConfig copyConfig(JedisClientConfig copy) {
@@ -205,6 +221,6 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
         copy.getSocketTimeoutMillis(), copy.getBlockingSocketTimeoutMillis(), copy.getUser(),
         copy.getPassword(), copy.getDatabase(), copy.getClientName(), copy.isSsl(),
         copy.getSslSocketFactory(), copy.getSslParameters(), copy.getHostnameVerifier(),
-        copy.getHostAndPortMapper());
+        copy.getHostAndPortMapper(), copy.getRedisProtocol());
   }
 }
@@ -290,7 +290,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long exists(final String... keys) {
     checkIsInMultiOrPipeline();
     client.exists(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -304,7 +304,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public boolean exists(final String key) {
     checkIsInMultiOrPipeline();
     client.exists(key);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   /**
@@ -318,14 +318,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long del(final String... keys) {
     checkIsInMultiOrPipeline();
     client.del(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long del(final String key) {
     checkIsInMultiOrPipeline();
     client.del(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -345,14 +345,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long unlink(final String... keys) {
     checkIsInMultiOrPipeline();
     client.unlink(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long unlink(final String key) {
     checkIsInMultiOrPipeline();
     client.unlink(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -420,7 +420,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long renamenx(final String oldkey, final String newkey) {
     checkIsInMultiOrPipeline();
     client.renamenx(oldkey, newkey);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -448,7 +448,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long expire(final String key, final long seconds) {
     checkIsInMultiOrPipeline();
     client.expire(key, seconds);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -478,7 +478,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long expireAt(final String key, final long unixTime) {
     checkIsInMultiOrPipeline();
     client.expireAt(key, unixTime);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -495,7 +495,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long ttl(final String key) {
     checkIsInMultiOrPipeline();
     client.ttl(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -508,14 +508,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long touch(final String... keys) {
     checkIsInMultiOrPipeline();
     client.touch(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long touch(final String key) {
     checkIsInMultiOrPipeline();
     client.touch(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -532,7 +532,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long move(final String key, final int dbIndex) {
     checkIsInMultiOrPipeline();
     client.move(key, dbIndex);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -581,7 +581,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long setnx(final String key, final String value) {
     checkIsInMultiOrPipeline();
     client.setnx(key, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -646,7 +646,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long msetnx(final String... keysvalues) {
     checkIsInMultiOrPipeline();
     client.msetnx(keysvalues);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -671,7 +671,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long decrBy(final String key, final long decrement) {
     checkIsInMultiOrPipeline();
     client.decrBy(key, decrement);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -695,7 +695,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long decr(final String key) {
     checkIsInMultiOrPipeline();
     client.decr(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -720,7 +720,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long incrBy(final String key, final long increment) {
     checkIsInMultiOrPipeline();
     client.incrBy(key, increment);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -766,7 +766,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long incr(final String key) {
     checkIsInMultiOrPipeline();
     client.incr(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -785,7 +785,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long append(final String key, final String value) {
     checkIsInMultiOrPipeline();
     client.append(key, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -827,14 +827,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long hset(final String key, final String field, final String value) {
     checkIsInMultiOrPipeline();
     client.hset(key, field, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long hset(final String key, final Map<String, String> hash) {
     checkIsInMultiOrPipeline();
     client.hset(key, hash);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -867,7 +867,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long hsetnx(final String key, final String field, final String value) {
     checkIsInMultiOrPipeline();
     client.hsetnx(key, field, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -924,7 +924,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long hincrBy(final String key, final String field, final long value) {
     checkIsInMultiOrPipeline();
     client.hincrBy(key, field, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -961,7 +961,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public boolean hexists(final String key, final String field) {
     checkIsInMultiOrPipeline();
     client.hexists(key, field);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   /**
@@ -977,7 +977,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long hdel(final String key, final String... fields) {
     checkIsInMultiOrPipeline();
     client.hdel(key, fields);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -992,7 +992,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long hlen(final String key) {
     checkIsInMultiOrPipeline();
     client.hlen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1096,7 +1096,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long rpush(final String key, final String... strings) {
     checkIsInMultiOrPipeline();
     client.rpush(key, strings);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1114,7 +1114,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long lpush(final String key, final String... strings) {
     checkIsInMultiOrPipeline();
     client.lpush(key, strings);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1130,7 +1130,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long llen(final String key) {
     checkIsInMultiOrPipeline();
     client.llen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1277,7 +1277,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long lrem(final String key, final long count, final String value) {
     checkIsInMultiOrPipeline();
     client.lrem(key, count, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1387,7 +1387,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long sadd(final String key, final String... members) {
     checkIsInMultiOrPipeline();
     client.sadd(key, members);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1420,7 +1420,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long srem(final String key, final String... members) {
     checkIsInMultiOrPipeline();
     client.srem(key, members);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1473,7 +1473,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long smove(final String srckey, final String dstkey, final String member) {
     checkIsInMultiOrPipeline();
     client.smove(srckey, dstkey, member);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1487,7 +1487,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long scard(final String key) {
     checkIsInMultiOrPipeline();
     client.scard(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1503,7 +1503,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public boolean sismember(final String key, final String member) {
     checkIsInMultiOrPipeline();
     client.sismember(key, member);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   /**
@@ -1559,7 +1559,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long sinterstore(final String dstkey, final String... keys) {
     checkIsInMultiOrPipeline();
     client.sinterstore(dstkey, keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1595,7 +1595,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long sunionstore(final String dstkey, final String... keys) {
     checkIsInMultiOrPipeline();
     client.sunionstore(dstkey, keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1637,7 +1637,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long sdiffstore(final String dstkey, final String... keys) {
     checkIsInMultiOrPipeline();
     client.sdiffstore(dstkey, keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1697,7 +1697,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zadd(final String key, final double score, final String member) {
     checkIsInMultiOrPipeline();
     client.zadd(key, score, member);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -1705,21 +1705,21 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
       final ZAddParams params) {
     checkIsInMultiOrPipeline();
     client.zadd(key, score, member, params);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zadd(final String key, final Map<String, Double> scoreMembers) {
     checkIsInMultiOrPipeline();
     client.zadd(key, scoreMembers);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zadd(final String key, final Map<String, Double> scoreMembers, final ZAddParams params) {
     checkIsInMultiOrPipeline();
     client.zadd(key, scoreMembers, params);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -1773,7 +1773,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zrem(final String key, final String... members) {
     checkIsInMultiOrPipeline();
     client.zrem(key, members);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -1911,7 +1911,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zcard(final String key) {
     checkIsInMultiOrPipeline();
     client.zcard(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2097,7 +2097,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long sort(final String key, final SortingParams sortingParameters, final String dstkey) {
     checkIsInMultiOrPipeline();
     client.sort(key, sortingParameters, dstkey);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2117,7 +2117,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long sort(final String key, final String dstkey) {
     checkIsInMultiOrPipeline();
     client.sort(key, dstkey);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -2381,14 +2381,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zcount(final String key, final double min, final double max) {
     checkIsInMultiOrPipeline();
     client.zcount(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zcount(final String key, final String min, final String max) {
     checkIsInMultiOrPipeline();
     client.zcount(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2730,7 +2730,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zremrangeByRank(final String key, final long start, final long stop) {
     checkIsInMultiOrPipeline();
     client.zremrangeByRank(key, start, stop);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2750,14 +2750,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zremrangeByScore(final String key, final double min, final double max) {
     checkIsInMultiOrPipeline();
     client.zremrangeByScore(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zremrangeByScore(final String key, final String min, final String max) {
     checkIsInMultiOrPipeline();
     client.zremrangeByScore(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2822,7 +2822,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zunionstore(final String dstkey, final String... sets) {
     checkIsInMultiOrPipeline();
     client.zunionstore(dstkey, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2860,7 +2860,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zunionstore(final String dstkey, final ZParams params, final String... sets) {
     checkIsInMultiOrPipeline();
     client.zunionstore(dstkey, params, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2925,7 +2925,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zinterstore(final String dstkey, final String... sets) {
     checkIsInMultiOrPipeline();
     client.zinterstore(dstkey, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -2963,14 +2963,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zinterstore(final String dstkey, final ZParams params, final String... sets) {
     checkIsInMultiOrPipeline();
     client.zinterstore(dstkey, params, sets);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long zlexcount(final String key, final String min, final String max) {
     checkIsInMultiOrPipeline();
     client.zlexcount(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3011,14 +3011,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long zremrangeByLex(final String key, final String min, final String max) {
     checkIsInMultiOrPipeline();
     client.zremrangeByLex(key, min, max);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long strlen(final String key) {
     checkIsInMultiOrPipeline();
     client.strlen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3053,7 +3053,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long lpushx(final String key, final String... string) {
     checkIsInMultiOrPipeline();
     client.lpushx(key, string);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3068,14 +3068,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long persist(final String key) {
     checkIsInMultiOrPipeline();
     client.persist(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long rpushx(final String key, final String... string) {
     checkIsInMultiOrPipeline();
     client.rpushx(key, string);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3090,7 +3090,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
       final String value) {
     checkIsInMultiOrPipeline();
     client.linsert(key, where, pivot, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3123,7 +3123,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public boolean setbit(final String key, final long offset, final boolean value) {
     checkIsInMultiOrPipeline();
     client.setbit(key, offset, value);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   @Override
@@ -3144,14 +3144,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public boolean getbit(final String key, final long offset) {
     checkIsInMultiOrPipeline();
     client.getbit(key, offset);
-    return client.getIntegerReply() == 1;
+    return client.getIntegerReplyAsLong() == 1;
   }
 
   @Override
   public long setrange(final String key, final long offset, final String value) {
     checkIsInMultiOrPipeline();
     client.setrange(key, offset, value);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3170,7 +3170,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long bitpos(final String key, final boolean value, final BitPosParams params) {
     checkIsInMultiOrPipeline();
     client.bitpos(key, value, params);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3405,21 +3405,21 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long bitcount(final String key) {
     checkIsInMultiOrPipeline();
     client.bitcount(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long bitcount(final String key, final long start, final long end) {
     checkIsInMultiOrPipeline();
     client.bitcount(key, start, end);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long bitop(final BitOP op, final String destKey, final String... srcKeys) {
     checkIsInMultiOrPipeline();
     client.bitop(op, destKey, srcKeys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -3643,21 +3643,21 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long pexpire(final String key, final long milliseconds) {
     checkIsInMultiOrPipeline();
     client.pexpire(key, milliseconds);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pexpireAt(final String key, final long millisecondsTimestamp) {
     checkIsInMultiOrPipeline();
     client.pexpireAt(key, millisecondsTimestamp);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pttl(final String key) {
     checkIsInMultiOrPipeline();
     client.pttl(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   /**
@@ -3941,14 +3941,14 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long clusterKeySlot(final String key) {
     checkIsInMultiOrPipeline();
     client.clusterKeySlot(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long clusterCountKeysInSlot(final int slot) {
     checkIsInMultiOrPipeline();
     client.clusterCountKeysInSlot(slot);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4046,21 +4046,21 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long pfadd(final String key, final String... elements) {
     checkIsInMultiOrPipeline();
     client.pfadd(key, elements);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pfcount(final String key) {
     checkIsInMultiOrPipeline();
     client.pfcount(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long pfcount(final String... keys) {
     checkIsInMultiOrPipeline();
     client.pfcount(keys);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4075,21 +4075,21 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
       final String member) {
     checkIsInMultiOrPipeline();
     client.geoadd(key, longitude, latitude, member);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long geoadd(final String key, final Map<String, GeoCoordinate> memberCoordinateMap) {
     checkIsInMultiOrPipeline();
     client.geoadd(key, memberCoordinateMap);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long geoadd(final String key, final GeoAddParams params, final Map<String, GeoCoordinate> memberCoordinateMap) {
     checkIsInMultiOrPipeline();
     client.geoadd(key, params, memberCoordinateMap);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4150,7 +4150,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
       GeoUnit unit, GeoRadiusParam param, GeoRadiusStoreParam storeParam) {
     checkIsInMultiOrPipeline();
     client.georadiusStore(key, longitude, latitude, radius, unit, param, storeParam);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4190,7 +4190,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
       GeoRadiusParam param, GeoRadiusStoreParam storeParam) {
     checkIsInMultiOrPipeline();
     client.georadiusByMemberStore(key, member, radius, unit, param, storeParam);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4237,7 +4237,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   @Override
   public long aclDelUser(final String name) {
     client.aclDelUser(name);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4332,7 +4332,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long hstrlen(final String key, final String field) {
     checkIsInMultiOrPipeline();
     client.hstrlen(key, field);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4381,7 +4381,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long xlen(final String key) {
     checkIsInMultiOrPipeline();
     client.xlen(key);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4464,7 +4464,7 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long xack(final String key, final String group, final StreamEntryID... ids) {
     checkIsInMultiOrPipeline();
     client.xack(key, group, ids);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
@@ -4486,35 +4486,35 @@ public class Jedis extends BinaryJedis implements JedisCommands, MultiKeyCommand
   public long xgroupDestroy(final String key, final String groupname) {
     checkIsInMultiOrPipeline();
     client.xgroupDestroy(key, groupname);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xgroupDelConsumer(final String key, final String groupname, final String consumerName) {
     checkIsInMultiOrPipeline();
     client.xgroupDelConsumer(key, groupname, consumerName);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xdel(final String key, final StreamEntryID... ids) {
     checkIsInMultiOrPipeline();
     client.xdel(key, ids);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xtrim(final String key, final long maxLen, final boolean approximateLength) {
     checkIsInMultiOrPipeline();
     client.xtrim(key, maxLen, approximateLength);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
   public long xtrim(final String key, final XTrimParams params) {
     checkIsInMultiOrPipeline();
     client.xtrim(key, params);
-    return client.getIntegerReply();
+    return client.getIntegerReplyAsLong();
   }
 
   @Override
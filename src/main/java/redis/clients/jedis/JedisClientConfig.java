@@ -73,4 +73,11 @@ public interface JedisClientConfig {
     return null;
   }
 
+  /**
+   * @return protocol to negotiate with HELLO, {@link RedisProtocol#RESP2} skips the negotiation
+   */
+  default RedisProtocol getRedisProtocol() {
+    return RedisProtocol.RESP2;
+  }
+
 }
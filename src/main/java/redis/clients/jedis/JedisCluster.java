@@ -7,6 +7,7 @@ import redis.clients.jedis.commands.MultiKeyJedisClusterCommands;
 import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.params.*;
 import redis.clients.jedis.resps.*;
+import redis.clients.jedis.util.JedisClusterCRC16;
 import redis.clients.jedis.util.JedisClusterHashTagUtil;
 import redis.clients.jedis.util.KeyMergeUtil;
 
@@ -172,6 +173,17 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
     super(nodes, clientConfig, maxAttempts, maxTotalRetriesDuration, poolConfig);
   }
 
+  public JedisCluster(Set<HostAndPort> nodes, final JedisClientConfig clientConfig,
+      int maxAttempts, final GenericObjectPoolConfig<Jedis> poolConfig, ReadFrom readFrom) {
+    super(nodes, clientConfig, maxAttempts, poolConfig, readFrom);
+  }
+
+  public JedisCluster(Set<HostAndPort> nodes, final JedisClientConfig clientConfig,
+      int maxAttempts, Duration maxTotalRetriesDuration,
+      final GenericObjectPoolConfig<Jedis> poolConfig, ReadFrom readFrom) {
+    super(nodes, clientConfig, maxAttempts, maxTotalRetriesDuration, poolConfig, readFrom);
+  }
+
   @Override
   public boolean copy(String srcKey, String dstKey, boolean replace) {
     return new JedisClusterCommand<Boolean>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
@@ -209,7 +221,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.get(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -239,17 +251,21 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Boolean execute(Jedis connection) {
         return connection.exists(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
   public long exists(final String... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::exists);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
         return connection.exists(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -269,7 +285,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.type(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -279,7 +295,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public byte[] execute(Jedis connection) {
         return connection.dump(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -350,7 +366,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.ttl(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -360,7 +376,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.pttl(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -375,6 +391,10 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
 
   @Override
   public long touch(final String... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::touch);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
@@ -410,7 +430,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Boolean execute(Jedis connection) {
         return connection.getbit(key, offset);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -430,7 +450,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.getrange(key, startOffset, endOffset);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -540,7 +560,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.substr(key, start, end);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -570,7 +590,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.hget(key, field);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -600,7 +620,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<String> execute(Jedis connection) {
         return connection.hmget(key, fields);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -630,7 +650,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Boolean execute(Jedis connection) {
         return connection.hexists(key, field);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -650,7 +670,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.hlen(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -660,7 +680,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.hkeys(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -670,7 +690,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<String> execute(Jedis connection) {
         return connection.hvals(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -680,7 +700,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Map<String, String> execute(Jedis connection) {
         return connection.hgetAll(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -690,7 +710,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.hrandfield(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -700,7 +720,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<String> execute(Jedis connection) {
         return connection.hrandfield(key, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -710,7 +730,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Map<String, String> execute(Jedis connection) {
         return connection.hrandfieldWithValues(key, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -740,7 +760,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.llen(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -750,7 +770,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<String> execute(Jedis connection) {
         return connection.lrange(key, start, stop);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -770,7 +790,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.lindex(key, index);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -820,7 +840,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.lpos(key, element);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -830,7 +850,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.lpos(key, element, params);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -841,7 +861,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<Long> execute(Jedis connection) {
         return connection.lpos(key, element, params, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -881,7 +901,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.smembers(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -921,7 +941,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.scard(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -931,7 +951,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Boolean execute(Jedis connection) {
         return connection.sismember(key, member);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -941,7 +961,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<Boolean> execute(Jedis connection) {
         return connection.smismember(key, members);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -951,7 +971,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.srandmember(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -961,7 +981,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<String> execute(Jedis connection) {
         return connection.srandmember(key, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -971,7 +991,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.strlen(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -981,7 +1001,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public LCSMatchResult execute(Jedis connection) {
         return connection.strAlgoLCSKeys(keyA, keyB, params);
       }
-    }.run(2, keyA, keyB);
+    }.runReadOnly(2, keyA, keyB);
   }
 
   @Override
@@ -1052,7 +1072,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zdiff(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -1062,7 +1082,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zdiffWithScores(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -1083,7 +1103,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrange(key, start, stop);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1124,7 +1144,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.zrank(key, member);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1134,7 +1154,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.zrevrank(key, member);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1144,7 +1164,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrevrange(key, start, stop);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1154,7 +1174,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeWithScores(key, start, stop);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1164,7 +1184,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeWithScores(key, start, stop);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1174,7 +1194,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public String execute(Jedis connection) {
         return connection.zrandmember(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1184,7 +1204,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrandmember(key, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1194,7 +1214,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrandmemberWithScores(key, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1204,7 +1224,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.zcard(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1214,7 +1234,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Double execute(Jedis connection) {
         return connection.zscore(key, member);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1224,7 +1244,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<Double> execute(Jedis connection) {
         return connection.zmscore(key, members);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1294,7 +1314,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.zcount(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1304,7 +1324,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.zcount(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1314,7 +1334,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1324,7 +1344,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1334,7 +1354,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1345,7 +1365,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1355,7 +1375,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1366,7 +1386,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrangeByScore(key, min, max, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1377,7 +1397,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1387,7 +1407,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1397,7 +1417,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1408,7 +1428,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1419,7 +1439,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrevrangeByScore(key, max, min, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1429,7 +1449,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1439,7 +1459,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1450,7 +1470,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrangeByScoreWithScores(key, min, max, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1461,7 +1481,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1472,7 +1492,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zrevrangeByScoreWithScores(key, max, min, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1512,7 +1532,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.zlexcount(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1522,7 +1542,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrangeByLex(key, min, max);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1533,7 +1553,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrangeByLex(key, min, max, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1543,7 +1563,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrevrangeByLex(key, max, min);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1554,7 +1574,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zrevrangeByLex(key, max, min, offset, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1620,6 +1640,10 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
 
   @Override
   public long unlink(final String... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::unlink);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
@@ -1646,7 +1670,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.bitcount(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1656,7 +1680,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.bitcount(key, start, end);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1666,7 +1690,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.bitpos(key, value);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1676,7 +1700,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.bitpos(key, value, params);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1739,7 +1763,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public ScanResult<Entry<String, String>> execute(Jedis connection) {
         return connection.hscan(key, cursor, scanParams);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1749,7 +1773,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public ScanResult<String> execute(Jedis connection) {
         return connection.sscan(key, cursor, scanParams);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1759,7 +1783,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public ScanResult<Tuple> execute(Jedis connection) {
         return connection.zscan(key, cursor, scanParams);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -1779,11 +1803,15 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.pfcount(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
   public long del(final String... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return sumBySlot(keys, slots, JedisClusterPipeline::del);
+    }
     return new JedisClusterCommand<Long>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public Long execute(Jedis connection) {
@@ -1917,16 +1945,28 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
 
   @Override
   public List<String> mget(final String... keys) {
+    List<List<Integer>> slots = splitBySlot(keys, 1, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return mgetBySlot(keys, slots, JedisClusterPipeline::mget);
+    }
     return new JedisClusterCommand<List<String>>(connectionHandler, maxAttempts, maxTotalRetriesDuration) {
       @Override
       public List<String> execute(Jedis connection) {
         return connection.mget(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
   public String mset(final String... keysvalues) {
+    if (keysvalues.length % 2 != 0) {
+      throw new IllegalArgumentException("mset needs a value for every key.");
+    }
+    List<List<Integer>> slots = splitBySlot(keysvalues, 2, JedisClusterCRC16::getSlot);
+    if (!slots.isEmpty()) {
+      return msetBySlot(keysvalues, slots, JedisClusterPipeline::mset);
+    }
+
     String[] keys = new String[keysvalues.length / 2];
 
     for (int keyIdx = 0; keyIdx < keys.length; keyIdx++) {
@@ -1994,7 +2034,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.sdiff(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2016,7 +2056,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.sinter(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2068,7 +2108,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.sunion(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2090,7 +2130,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zinter(params, keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2100,7 +2140,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zinterWithScores(params, keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2134,7 +2174,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<String> execute(Jedis connection) {
         return connection.zunion(params, keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2144,7 +2184,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Set<Tuple> execute(Jedis connection) {
         return connection.zunionWithScores(params, keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2244,7 +2284,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.pfcount(keys);
       }
-    }.run(keys.length, keys);
+    }.runReadOnly(keys.length, keys);
   }
 
   @Override
@@ -2395,7 +2435,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Double execute(Jedis connection) {
         return connection.geodist(key, member1, member2);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2406,7 +2446,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Double execute(Jedis connection) {
         return connection.geodist(key, member1, member2, unit);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2416,7 +2456,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<String> execute(Jedis connection) {
         return connection.geohash(key, members);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2426,7 +2466,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<GeoCoordinate> execute(Jedis connection) {
         return connection.geopos(key, members);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2448,7 +2488,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusReadonly(key, longitude, latitude, radius, unit);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2483,7 +2523,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusReadonly(key, longitude, latitude, radius, unit, param);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2505,7 +2545,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusByMemberReadonly(key, member, radius, unit);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2539,7 +2579,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<GeoRadiusResponse> execute(Jedis connection) {
         return connection.georadiusByMemberReadonly(key, member, radius, unit, param);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2559,7 +2599,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<Long> execute(Jedis connection) {
         return connection.bitfieldReadonly(key, arguments);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2569,7 +2609,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.hstrlen(key, field);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2630,7 +2670,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public Long execute(Jedis connection) {
         return connection.xlen(key);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2641,7 +2681,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<StreamEntry> execute(Jedis connection) {
         return connection.xrange(key, start, end);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2652,7 +2692,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<StreamEntry> execute(Jedis connection) {
         return connection.xrange(key, start, end, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2663,7 +2703,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<StreamEntry> execute(Jedis connection) {
         return connection.xrevrange(key, end, start);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
@@ -2674,7 +2714,7 @@ public class JedisCluster extends BinaryJedisCluster implements JedisClusterComm
       public List<StreamEntry> execute(Jedis connection) {
         return connection.xrevrange(key, end, start, count);
       }
-    }.run(key);
+    }.runReadOnly(key);
   }
 
   @Override
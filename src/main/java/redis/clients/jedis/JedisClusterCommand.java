@@ -41,10 +41,42 @@ public abstract class JedisClusterCommand<T> {
   public abstract T execute(Jedis connection);
 
   public T run(String key) {
-    return runWithRetries(JedisClusterCRC16.getSlot(key));
+    return runWithRetries(JedisClusterCRC16.getSlot(key), false);
   }
 
   public T run(int keyCount, String... keys) {
+    return runWithRetries(getSlot(keyCount, keys), false);
+  }
+
+  public T runBinary(byte[] key) {
+    return runWithRetries(JedisClusterCRC16.getSlot(key), false);
+  }
+
+  public T runBinary(int keyCount, byte[]... keys) {
+    return runWithRetries(getSlot(keyCount, keys), false);
+  }
+
+  /**
+   * Same as {@link #run(String)}, but marks the command as read-only so that it may be served by a
+   * replica according to the {@link ReadFrom} of the connection handler.
+   */
+  public T runReadOnly(String key) {
+    return runWithRetries(JedisClusterCRC16.getSlot(key), true);
+  }
+
+  public T runReadOnly(int keyCount, String... keys) {
+    return runWithRetries(getSlot(keyCount, keys), true);
+  }
+
+  public T runBinaryReadOnly(byte[] key) {
+    return runWithRetries(JedisClusterCRC16.getSlot(key), true);
+  }
+
+  public T runBinaryReadOnly(int keyCount, byte[]... keys) {
+    return runWithRetries(getSlot(keyCount, keys), true);
+  }
+
+  private static int getSlot(int keyCount, String... keys) {
     if (keys == null || keys.length == 0) {
       throw new JedisClusterOperationException("No way to dispatch this command to Redis Cluster.");
     }
@@ -60,15 +92,10 @@ public abstract class JedisClusterCommand<T> {
         }
       }
     }
-
-    return runWithRetries(slot);
-  }
-
-  public T runBinary(byte[] key) {
-    return runWithRetries(JedisClusterCRC16.getSlot(key));
+    return slot;
   }
 
-  public T runBinary(int keyCount, byte[]... keys) {
+  private static int getSlot(int keyCount, byte[]... keys) {
     if (keys == null || keys.length == 0) {
       throw new JedisClusterOperationException("No way to dispatch this command to Redis Cluster.");
     }
@@ -84,8 +111,7 @@ public abstract class JedisClusterCommand<T> {
         }
       }
     }
-
-    return runWithRetries(slot);
+    return slot;
   }
 
   public T runWithAnyNode() {
@@ -98,12 +124,14 @@ public abstract class JedisClusterCommand<T> {
     }
   }
 
-  private T runWithRetries(final int slot) {
+  private T runWithRetries(final int slot, final boolean readOnly) {
     Instant deadline = Instant.now().plus(maxTotalRetriesDuration);
 
     JedisRedirectionException redirect = null;
     int consecutiveConnectionFailures = 0;
     Exception lastException = null;
+    // a read that failed to reach its replica is retried against the master
+    boolean readFromReplica = readOnly;
     for (int attemptsLeft = this.maxAttempts; attemptsLeft > 0; attemptsLeft--) {
       Jedis connection = null;
       try {
@@ -113,6 +141,8 @@ public abstract class JedisClusterCommand<T> {
             // TODO: Pipeline asking with the original command to make it faster....
             connection.asking();
           }
+        } else if (readFromReplica) {
+          connection = connectionHandler.getReadConnectionFromSlot(slot);
         } else {
           connection = connectionHandler.getConnectionFromSlot(slot);
         }
@@ -122,6 +152,7 @@ public abstract class JedisClusterCommand<T> {
       } catch (JedisConnectionException jce) {
         lastException = jce;
         ++consecutiveConnectionFailures;
+        readFromReplica = false;
         LOG.debug("Failed connecting to Redis: {}", connection, jce);
         // "- 1" because we just did one, but the attemptsLeft counter hasn't been decremented yet
         boolean reset = handleConnectionProblem(attemptsLeft - 1, consecutiveConnectionFailures, deadline);
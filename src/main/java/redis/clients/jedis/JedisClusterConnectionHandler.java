@@ -8,10 +8,12 @@ import java.util.Set;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
+import redis.clients.jedis.exceptions.JedisClusterOperationException;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 
 public abstract class JedisClusterConnectionHandler implements Closeable {
   protected final JedisClusterInfoCache cache;
+  protected final ReadFrom readFrom;
 
   public JedisClusterConnectionHandler(Set<HostAndPort> nodes,
       GenericObjectPoolConfig<Jedis> poolConfig, int connectionTimeout, int soTimeout,
@@ -42,7 +44,14 @@ public abstract class JedisClusterConnectionHandler implements Closeable {
 
   public JedisClusterConnectionHandler(Set<HostAndPort> nodes,
       final GenericObjectPoolConfig<Jedis> poolConfig, final JedisClientConfig clientConfig) {
-    this.cache = new JedisClusterInfoCache(poolConfig, clientConfig);
+    this(nodes, poolConfig, clientConfig, ReadFrom.MASTER);
+  }
+
+  public JedisClusterConnectionHandler(Set<HostAndPort> nodes,
+      final GenericObjectPoolConfig<Jedis> poolConfig, final JedisClientConfig clientConfig,
+      final ReadFrom readFrom) {
+    this.cache = new JedisClusterInfoCache(poolConfig, clientConfig, readFrom);
+    this.readFrom = readFrom;
     initializeSlotsCache(nodes, clientConfig);
   }
 
@@ -50,10 +59,38 @@ public abstract class JedisClusterConnectionHandler implements Closeable {
 
   protected abstract Jedis getConnectionFromSlot(int slot);
 
+  /**
+   * Returns a connection for a read-only command on the given slot. Handlers that do not support
+   * reading from replicas use the master of the slot.
+   */
+  protected Jedis getReadConnectionFromSlot(int slot) {
+    return getConnectionFromSlot(slot);
+  }
+
   public Jedis getConnectionFromNode(HostAndPort node) {
     return cache.setupNodeIfNotExist(node).getResource();
   }
 
+  /**
+   * Returns the pool of the master serving the slot, rediscovering the cluster once if no node is
+   * known for it.
+   */
+  public JedisPool getPoolFromSlot(int slot) {
+    JedisPool pool = cache.getSlotPool(slot);
+    if (pool == null) {
+      renewSlotCache();
+      pool = cache.getSlotPool(slot);
+      if (pool == null) {
+        throw new JedisClusterOperationException("No node is serving slot " + slot + ".");
+      }
+    }
+    return pool;
+  }
+
+  public JedisPool getPoolFromNode(HostAndPort node) {
+    return cache.setupNodeIfNotExist(node);
+  }
+
   public Map<String, JedisPool> getNodes() {
     return cache.getNodes();
   }
@@ -1,6 +1,7 @@
 package redis.clients.jedis;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -16,6 +17,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
 
+import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
 import redis.clients.jedis.exceptions.JedisConnectionException;
@@ -25,7 +27,13 @@ import redis.clients.jedis.util.SafeEncoder;
 
 public class JedisClusterInfoCache {
   private final Map<String, JedisPool> nodes = new HashMap<>();
-  private final Map<Integer, JedisPool> slots = new HashMap<>();
+
+  /**
+   * Slot tables are immutable snapshots indexed by slot. They are replaced as a whole under the
+   * write lock and read without any lock, so routing a command is a single array load.
+   */
+  private volatile JedisPool[] slots = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+  private volatile List<JedisPool>[] replicaSlots = newReplicaSlots();
 
   private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
   private final Lock r = rwl.readLock();
@@ -34,6 +42,7 @@ public class JedisClusterInfoCache {
 
   private final GenericObjectPoolConfig<Jedis> poolConfig;
   private final JedisClientConfig clientConfig;
+  private final ReadFrom readFrom;
 
   private static final int MASTER_NODE_INDEX = 2;
 
@@ -99,8 +108,14 @@ public class JedisClusterInfoCache {
 
   public JedisClusterInfoCache(final GenericObjectPoolConfig<Jedis> poolConfig,
       final JedisClientConfig clientConfig) {
+    this(poolConfig, clientConfig, ReadFrom.MASTER);
+  }
+
+  public JedisClusterInfoCache(final GenericObjectPoolConfig<Jedis> poolConfig,
+      final JedisClientConfig clientConfig, final ReadFrom readFrom) {
     this.poolConfig = poolConfig;
     this.clientConfig = clientConfig;
+    this.readFrom = readFrom;
   }
 
   public void discoverClusterNodesAndSlots(Jedis jedis) {
@@ -108,6 +123,8 @@ public class JedisClusterInfoCache {
     w.lock();
     try {
       reset();
+      JedisPool[] newSlots = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+      List<JedisPool>[] newReplicaSlots = newReplicaSlots();
       for (Object slotInfoObj : slots) {
         List<Object> slotInfo = (List<Object>) slotInfoObj;
 
@@ -115,10 +132,12 @@ public class JedisClusterInfoCache {
           continue;
         }
 
-        List<Integer> slotNums = getAssignedSlotArray(slotInfo);
+        int fromSlot = ((Long) slotInfo.get(0)).intValue();
+        int toSlot = ((Long) slotInfo.get(1)).intValue() + 1;
 
         // hostInfos
         int size = slotInfo.size();
+        List<JedisPool> replicaPools = new ArrayList<>(size - MASTER_NODE_INDEX - 1);
         for (int i = MASTER_NODE_INDEX; i < size; i++) {
           List<Object> hostInfos = (List<Object>) slotInfo.get(i);
           if (hostInfos.isEmpty()) {
@@ -126,12 +145,17 @@ public class JedisClusterInfoCache {
           }
 
           HostAndPort targetNode = generateHostAndPort(hostInfos);
-          setupNodeIfNotExist(targetNode);
+          JedisPool targetPool = setupNodeIfNotExist(targetNode);
           if (i == MASTER_NODE_INDEX) {
-            assignSlotsToNode(slotNums, targetNode);
+            Arrays.fill(newSlots, fromSlot, toSlot, targetPool);
+          } else {
+            replicaPools.add(targetPool);
           }
         }
+        assignSlotsToReplicas(newReplicaSlots, fromSlot, toSlot, replicaPools);
       }
+      this.slots = newSlots;
+      this.replicaSlots = newReplicaSlots;
     } finally {
       w.unlock();
     }
@@ -174,7 +198,8 @@ public class JedisClusterInfoCache {
     List<Object> slots = jedis.clusterSlots();
     w.lock();
     try {
-      this.slots.clear();
+      JedisPool[] newSlots = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+      List<JedisPool>[] newReplicaSlots = newReplicaSlots();
       Set<String> hostAndPortKeys = new HashSet<>();
 
       for (Object slotInfoObj : slots) {
@@ -184,9 +209,11 @@ public class JedisClusterInfoCache {
           continue;
         }
 
-        List<Integer> slotNums = getAssignedSlotArray(slotInfo);
+        int fromSlot = ((Long) slotInfo.get(0)).intValue();
+        int toSlot = ((Long) slotInfo.get(1)).intValue() + 1;
 
         int size = slotInfo.size();
+        List<JedisPool> replicaPools = new ArrayList<>(size - MASTER_NODE_INDEX - 1);
         for (int i = MASTER_NODE_INDEX; i < size; i++) {
           List<Object> hostInfos = (List<Object>) slotInfo.get(i);
           if (hostInfos.isEmpty()) {
@@ -195,12 +222,17 @@ public class JedisClusterInfoCache {
 
           HostAndPort targetNode = generateHostAndPort(hostInfos);
           hostAndPortKeys.add(getNodeKey(targetNode));
-          setupNodeIfNotExist(targetNode);
+          JedisPool targetPool = setupNodeIfNotExist(targetNode);
           if (i == MASTER_NODE_INDEX) {
-            assignSlotsToNode(slotNums, targetNode);
+            Arrays.fill(newSlots, fromSlot, toSlot, targetPool);
+          } else {
+            replicaPools.add(targetPool);
           }
         }
+        assignSlotsToReplicas(newReplicaSlots, fromSlot, toSlot, replicaPools);
       }
+      this.slots = newSlots;
+      this.replicaSlots = newReplicaSlots;
 
       // Remove dead nodes according to the latest query
       Iterator<Entry<String, JedisPool>> entryIt = nodes.entrySet().iterator();
@@ -236,7 +268,9 @@ public class JedisClusterInfoCache {
       JedisPool existingPool = nodes.get(nodeKey);
       if (existingPool != null) return existingPool;
 
-      JedisPool nodePool = new JedisPool(poolConfig, node, clientConfig);
+      JedisPool nodePool = readFrom == ReadFrom.MASTER
+          ? new JedisPool(poolConfig, node, clientConfig)
+          : new JedisPool(poolConfig, new ReadOnlyJedisFactory(node, clientConfig));
       nodes.put(nodeKey, nodePool);
       return nodePool;
     } finally {
@@ -244,11 +278,18 @@ public class JedisClusterInfoCache {
     }
   }
 
+  /**
+   * Copies the whole slot table, {@value BinaryJedisCluster#HASHSLOTS} references, to change one
+   * slot: cheap next to the round trip which reported the move, but slots moved together should
+   * be assigned at once with {@link #assignSlotsToNode(List, HostAndPort)}.
+   */
   public void assignSlotToNode(int slot, HostAndPort targetNode) {
     w.lock();
     try {
       JedisPool targetPool = setupNodeIfNotExist(targetNode);
-      slots.put(slot, targetPool);
+      JedisPool[] newSlots = slots.clone();
+      newSlots[slot] = targetPool;
+      slots = newSlots;
     } finally {
       w.unlock();
     }
@@ -258,14 +299,30 @@ public class JedisClusterInfoCache {
     w.lock();
     try {
       JedisPool targetPool = setupNodeIfNotExist(targetNode);
+      JedisPool[] newSlots = slots.clone();
       for (Integer slot : targetSlots) {
-        slots.put(slot, targetPool);
+        newSlots[slot] = targetPool;
       }
+      slots = newSlots;
     } finally {
       w.unlock();
     }
   }
 
+  private static void assignSlotsToReplicas(List<JedisPool>[] table, int fromSlot, int toSlot,
+      List<JedisPool> replicaPools) {
+    if (!replicaPools.isEmpty()) {
+      Arrays.fill(table, fromSlot, toSlot, Collections.unmodifiableList(replicaPools));
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static List<JedisPool>[] newReplicaSlots() {
+    List<JedisPool>[] table = new List[BinaryJedisCluster.HASHSLOTS];
+    Arrays.fill(table, Collections.<JedisPool> emptyList());
+    return table;
+  }
+
   public JedisPool getNode(String nodeKey) {
     r.lock();
     try {
@@ -276,12 +333,14 @@ public class JedisClusterInfoCache {
   }
 
   public JedisPool getSlotPool(int slot) {
-    r.lock();
-    try {
-      return slots.get(slot);
-    } finally {
-      r.unlock();
-    }
+    return slots[slot];
+  }
+
+  /**
+   * @return the pools of the replicas serving the slot, or an empty list if there are none
+   */
+  public List<JedisPool> getSlotReplicaPools(int slot) {
+    return replicaSlots[slot];
   }
 
   public Map<String, JedisPool> getNodes() {
@@ -320,7 +379,8 @@ public class JedisClusterInfoCache {
         }
       }
       nodes.clear();
-      slots.clear();
+      slots = new JedisPool[BinaryJedisCluster.HASHSLOTS];
+      replicaSlots = newReplicaSlots();
     } finally {
       w.unlock();
     }
@@ -346,12 +406,26 @@ public class JedisClusterInfoCache {
     return getNodeKey(jedis.getClient());
   }
 
-  private List<Integer> getAssignedSlotArray(List<Object> slotInfo) {
-    List<Integer> slotNums = new ArrayList<>();
-    for (int slot = ((Long) slotInfo.get(0)).intValue(); slot <= ((Long) slotInfo.get(1))
-        .intValue(); slot++) {
-      slotNums.add(slot);
+  /**
+   * Sends READONLY on every new connection so that replicas serve reads for the slots of their
+   * master. The flag has no effect on connections to a master.
+   */
+  private static class ReadOnlyJedisFactory extends JedisFactory {
+
+    ReadOnlyJedisFactory(final HostAndPort hostAndPort, final JedisClientConfig clientConfig) {
+      super(hostAndPort, clientConfig);
+    }
+
+    @Override
+    public PooledObject<Jedis> makeObject() throws Exception {
+      PooledObject<Jedis> pooledJedis = super.makeObject();
+      try {
+        pooledJedis.getObject().readonly();
+      } catch (RuntimeException e) {
+        destroyObject(pooledJedis);
+        throw e;
+      }
+      return pooledJedis;
     }
-    return slotNums;
   }
 }
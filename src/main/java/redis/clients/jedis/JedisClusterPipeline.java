@@ -0,0 +1,280 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+/**
+ * Pipeline over a {@link JedisCluster}. Commands are queued with the slot of their key and sent on
+ * {@link #sync()}: every node involved gets its commands as one pipelined batch, all batches are
+ * written before any reply is read, so the nodes work on them at the same time. Commands answered
+ * with MOVED or ASK are sent again to the node named in the redirection, up to the cluster's
+ * maximum number of attempts, after which the redirection is kept as the reply.
+ * <p>
+ * Responses are completed in the order the commands were queued in. Only commands with a key can
+ * be routed, multi-key commands are routed by their first key and all their keys must hash to the
+ * same slot.
+ */
+public class JedisClusterPipeline extends PipelineBase implements Closeable {
+
+  private final JedisClusterConnectionHandler connectionHandler;
+  private final int maxAttempts;
+  private final CommandCollector collector = new CommandCollector();
+  private List<PipelinedCommand> commands = new ArrayList<>();
+
+  public JedisClusterPipeline(JedisClusterConnectionHandler connectionHandler, int maxAttempts) {
+    this.connectionHandler = connectionHandler;
+    this.maxAttempts = maxAttempts;
+  }
+
+  @Override
+  protected Client getClient(String key) {
+    collector.slot = JedisClusterCRC16.getSlot(key);
+    return collector;
+  }
+
+  @Override
+  protected Client getClient(byte[] key) {
+    collector.slot = JedisClusterCRC16.getSlot(key);
+    return collector;
+  }
+
+  @Override
+  protected <T> Response<T> getResponse(Builder<T> builder) {
+    Response<T> response = new Response<>(builder);
+    commands.get(commands.size() - 1).response = response;
+    return response;
+  }
+
+  @Override
+  protected boolean hasPipelinedResponse() {
+    return !commands.isEmpty();
+  }
+
+  @Override
+  protected int getPipelinedResponseLength() {
+    return commands.size();
+  }
+
+  public Response<Long> del(String... keys) {
+    getClient(keys[0]).del(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<Long> del(byte[]... keys) {
+    getClient(keys[0]).del(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<Long> unlink(String... keys) {
+    getClient(keys[0]).unlink(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<Long> unlink(byte[]... keys) {
+    getClient(keys[0]).unlink(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<Long> exists(String... keys) {
+    getClient(keys[0]).exists(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<Long> exists(byte[]... keys) {
+    getClient(keys[0]).exists(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<Long> touch(String... keys) {
+    getClient(keys[0]).touch(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<Long> touch(byte[]... keys) {
+    getClient(keys[0]).touch(keys);
+    return getResponse(BuilderFactory.LONG);
+  }
+
+  public Response<List<String>> mget(String... keys) {
+    getClient(keys[0]).mget(keys);
+    return getResponse(BuilderFactory.STRING_LIST);
+  }
+
+  public Response<List<byte[]>> mget(byte[]... keys) {
+    getClient(keys[0]).mget(keys);
+    return getResponse(BuilderFactory.BYTE_ARRAY_LIST);
+  }
+
+  public Response<String> mset(String... keysvalues) {
+    getClient(keysvalues[0]).mset(keysvalues);
+    return getResponse(BuilderFactory.STRING);
+  }
+
+  public Response<String> mset(byte[]... keysvalues) {
+    getClient(keysvalues[0]).mset(keysvalues);
+    return getResponse(BuilderFactory.STRING);
+  }
+
+  /**
+   * Sends all queued commands to their nodes and reads the replies. In order to get return values
+   * from pipelined commands, capture the different Response&lt;?&gt; of the commands you execute.
+   */
+  public void sync() {
+    List<PipelinedCommand> pending = commands;
+    commands = new ArrayList<>();
+    for (int attempt = 1; !pending.isEmpty(); attempt++) {
+      pending = execute(groupByNode(pending), attempt < maxAttempts);
+    }
+  }
+
+  /**
+   * Same as {@link #sync()}, also returning the replies in the order the commands were queued in.
+   * Error replies are returned as {@link JedisDataException}.
+   */
+  public List<Object> syncAndReturnAll() {
+    if (commands.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<PipelinedCommand> queued = commands;
+    sync();
+    List<Object> formatted = new ArrayList<>(queued.size());
+    for (PipelinedCommand command : queued) {
+      try {
+        formatted.add(command.response.get());
+      } catch (JedisDataException e) {
+        formatted.add(e);
+      }
+    }
+    return formatted;
+  }
+
+  @Override
+  public void close() {
+    sync();
+  }
+
+  private Map<JedisPool, List<PipelinedCommand>> groupByNode(List<PipelinedCommand> pending) {
+    Map<JedisPool, List<PipelinedCommand>> batches = new LinkedHashMap<>();
+    for (PipelinedCommand command : pending) {
+      JedisPool pool = command.redirection != null
+          ? connectionHandler.getPoolFromNode(command.redirection.getTargetNode())
+          : connectionHandler.getPoolFromSlot(command.slot);
+      batches.computeIfAbsent(pool, p -> new ArrayList<>()).add(command);
+    }
+    return batches;
+  }
+
+  /**
+   * Writes every batch to its node, then reads the replies node by node. On failure the commands
+   * left without a reply are completed with the failure, and the connections which may still have
+   * replies to read are destroyed instead of being returned to their pool.
+   * @return the commands which were redirected and have to be sent again
+   */
+  private List<PipelinedCommand> execute(Map<JedisPool, List<PipelinedCommand>> batches,
+      boolean followRedirections) {
+    List<PipelinedCommand> redirected = new ArrayList<>();
+    boolean moved = false;
+    List<Jedis> connections = new ArrayList<>(batches.size());
+    int readConnections = 0;
+    try {
+      for (Map.Entry<JedisPool, List<PipelinedCommand>> batch : batches.entrySet()) {
+        Jedis connection = batch.getKey().getResource();
+        connections.add(connection);
+        Client client = connection.getClient();
+        for (PipelinedCommand command : batch.getValue()) {
+          if (command.redirection instanceof JedisAskDataException) {
+            client.asking();
+          }
+          client.sendCommand(command.command, command.args);
+        }
+        client.flush();
+      }
+
+      int node = 0;
+      for (List<PipelinedCommand> batch : batches.values()) {
+        Client client = connections.get(node++).getClient();
+        int replies = batch.size();
+        for (PipelinedCommand command : batch) {
+          if (command.redirection instanceof JedisAskDataException) {
+            replies++;
+          }
+        }
+        List<Object> unformatted = client.getMany(replies);
+        int reply = 0;
+        for (PipelinedCommand command : batch) {
+          if (command.redirection instanceof JedisAskDataException) {
+            reply++; // reply to ASKING
+          }
+          Object data = unformatted.get(reply++);
+          if (followRedirections && data instanceof JedisRedirectionException) {
+            command.redirection = (JedisRedirectionException) data;
+            moved |= data instanceof JedisMovedDataException;
+            redirected.add(command);
+          } else {
+            command.response.set(data);
+          }
+        }
+        readConnections++;
+      }
+    } catch (JedisException e) {
+      for (List<PipelinedCommand> batch : batches.values()) {
+        for (PipelinedCommand command : batch) {
+          if (!command.response.isSet()) {
+            command.response.set(e);
+          }
+        }
+      }
+      throw e;
+    } finally {
+      for (int i = 0; i < connections.size(); i++) {
+        if (i >= readConnections) {
+          connections.get(i).getClient().setBroken();
+        }
+        connections.get(i).close();
+      }
+    }
+
+    if (moved) {
+      connectionHandler.renewSlotCache();
+    }
+    return redirected;
+  }
+
+  private static class PipelinedCommand {
+    private final int slot;
+    private final ProtocolCommand command;
+    private final byte[][] args;
+    private Response<?> response;
+    private JedisRedirectionException redirection;
+
+    PipelinedCommand(int slot, ProtocolCommand command, byte[][] args) {
+      this.slot = slot;
+      this.command = command;
+      this.args = args;
+    }
+  }
+
+  /**
+   * Records the commands issued by {@link PipelineBase} instead of writing them to a socket.
+   */
+  private class CommandCollector extends Client {
+    private int slot;
+
+    @Override
+    public void sendCommand(final ProtocolCommand cmd, final byte[]... args) {
+      commands.add(new PipelinedCommand(slot, cmd, args));
+    }
+  }
+}
@@ -2,6 +2,7 @@ package redis.clients.jedis;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
@@ -10,6 +11,8 @@ import redis.clients.jedis.exceptions.JedisNoReachableClusterNodeException;
 
 public class JedisSlotBasedConnectionHandler extends JedisClusterConnectionHandler {
 
+  private final AtomicInteger readCounter = new AtomicInteger();
+
   public JedisSlotBasedConnectionHandler(Set<HostAndPort> nodes,
       final GenericObjectPoolConfig<Jedis> poolConfig, int timeout) {
     this(nodes, poolConfig, timeout, timeout);
@@ -50,6 +53,12 @@ public class JedisSlotBasedConnectionHandler extends JedisClusterConnectionHandl
     super(nodes, poolConfig, clientConfig);
   }
 
+  public JedisSlotBasedConnectionHandler(Set<HostAndPort> nodes,
+      GenericObjectPoolConfig<Jedis> poolConfig, JedisClientConfig clientConfig,
+      ReadFrom readFrom) {
+    super(nodes, poolConfig, clientConfig, readFrom);
+  }
+
   @Override
   public Jedis getConnection() {
     // In antirez's redis-rb-cluster implementation, getRandomConnection always
@@ -109,4 +118,40 @@ public class JedisSlotBasedConnectionHandler extends JedisClusterConnectionHandl
       }
     }
   }
+
+  @Override
+  public Jedis getReadConnectionFromSlot(int slot) {
+    if (readFrom == ReadFrom.MASTER) {
+      return getConnectionFromSlot(slot);
+    }
+
+    List<JedisPool> replicas = getSlotReplicaPools(slot);
+    if (replicas.isEmpty()) {
+      return getConnectionFromSlot(slot);
+    }
+
+    // ROUND_ROBIN treats the master as one more candidate after the replicas
+    int candidates = readFrom == ReadFrom.ROUND_ROBIN ? replicas.size() + 1 : replicas.size();
+    int index = (readCounter.getAndIncrement() & Integer.MAX_VALUE) % candidates;
+    if (index == replicas.size()) {
+      return getConnectionFromSlot(slot);
+    }
+
+    // a replica which is not reachable is skipped, the master can always serve the read
+    for (int i = 0; i < replicas.size(); i++) {
+      try {
+        return replicas.get((index + i) % replicas.size()).getResource();
+      } catch (JedisException e) {
+        // try the next replica
+      }
+    }
+    return getConnectionFromSlot(slot);
+  }
+
+  /**
+   * @return the pools of the replicas serving the slot, or an empty list if there are none
+   */
+  protected List<JedisPool> getSlotReplicaPools(int slot) {
+    return cache.getSlotReplicaPools(slot);
+  }
 }
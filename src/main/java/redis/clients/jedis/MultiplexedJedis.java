@@ -0,0 +1,1134 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.*;
+import redis.clients.jedis.resps.*;
+
+/**
+ * {@link JedisCommands} over one connection shared by all threads, as an alternative to a
+ * {@link JedisPool} whose pool needs a connection for every thread running a command at the same
+ * time. Commands from all threads are written to the same socket and a reader thread hands every
+ * reply to the thread waiting for it, see {@link AsyncJedis}.
+ * <p>
+ * An instance is meant to be shared for the lifetime of the application and closed once, unlike
+ * the {@link Jedis} borrowed from a pool. Waiting for a reply is bounded by the socket timeout of
+ * the client configuration. Blocking commands are not supported since they would hold up every
+ * other thread, neither are commands changing the state of the connection, such as SELECT or
+ * MULTI, which {@link JedisCommands} does not have anyway.
+ */
+public class MultiplexedJedis implements JedisCommands, Closeable {
+
+  private static final String BLOCKING_COMMAND
+      = "Blocking commands are not supported on a shared connection.";
+
+  private final AsyncJedis async;
+  private final long timeoutMillis;
+
+  public MultiplexedJedis() {
+    this(Protocol.DEFAULT_HOST, Protocol.DEFAULT_PORT);
+  }
+
+  public MultiplexedJedis(final String host, final int port) {
+    this(new HostAndPort(host, port));
+  }
+
+  public MultiplexedJedis(final HostAndPort hostAndPort) {
+    this(hostAndPort, DefaultJedisClientConfig.builder().build());
+  }
+
+  public MultiplexedJedis(final HostAndPort hostAndPort, final JedisClientConfig clientConfig) {
+    this.async = new AsyncJedis(hostAndPort, clientConfig);
+    this.timeoutMillis = clientConfig.getSocketTimeoutMillis();
+  }
+
+  /**
+   * The asynchronous view of the same connection.
+   */
+  public AsyncJedis async() {
+    return async;
+  }
+
+  public boolean isBroken() {
+    return async.isBroken();
+  }
+
+  @Override
+  public void close() {
+    async.close();
+  }
+
+  @Override
+  public String set(final String key, final String value) {
+    return await(async.set(key, value));
+  }
+
+  @Override
+  public String set(final String key, final String value, final SetParams params) {
+    return await(async.set(key, value, params));
+  }
+
+  @Override
+  public String get(final String key) {
+    return await(async.get(key));
+  }
+
+  @Override
+  public String getDel(final String key) {
+    return await(async.getDel(key));
+  }
+
+  @Override
+  public String getEx(final String key, final GetExParams params) {
+    return await(async.getEx(key, params));
+  }
+
+  @Override
+  public boolean exists(final String key) {
+    return await(async.exists(key));
+  }
+
+  @Override
+  public long persist(final String key) {
+    return await(async.persist(key));
+  }
+
+  @Override
+  public String type(final String key) {
+    return await(async.type(key));
+  }
+
+  @Override
+  public byte[] dump(final String key) {
+    return await(async.dump(key));
+  }
+
+  @Override
+  public String restore(final String key, final long ttl, final byte[] serializedValue) {
+    return await(async.restore(key, ttl, serializedValue));
+  }
+
+  @Override
+  @Deprecated
+  public String restoreReplace(final String key, final long ttl, final byte[] serializedValue) {
+    return await(async.execute(client -> client.restoreReplace(key, ttl, serializedValue),
+      BuilderFactory.STRING));
+  }
+
+  @Override
+  public String restore(final String key, final long ttl, final byte[] serializedValue,
+      final RestoreParams params) {
+    return await(async.restore(key, ttl, serializedValue, params));
+  }
+
+  @Override
+  public long expire(final String key, final long seconds) {
+    return await(async.expire(key, seconds));
+  }
+
+  @Override
+  public long pexpire(final String key, final long milliseconds) {
+    return await(async.pexpire(key, milliseconds));
+  }
+
+  @Override
+  public long expireAt(final String key, final long unixTime) {
+    return await(async.expireAt(key, unixTime));
+  }
+
+  @Override
+  public long pexpireAt(final String key, final long millisecondsTimestamp) {
+    return await(async.pexpireAt(key, millisecondsTimestamp));
+  }
+
+  @Override
+  public long ttl(final String key) {
+    return await(async.ttl(key));
+  }
+
+  @Override
+  public long pttl(final String key) {
+    return await(async.pttl(key));
+  }
+
+  @Override
+  public long touch(final String key) {
+    return await(async.touch(key));
+  }
+
+  @Override
+  public boolean setbit(final String key, final long offset, final boolean value) {
+    return await(async.setbit(key, offset, value));
+  }
+
+  @Override
+  @Deprecated
+  public Boolean setbit(final String key, final long offset, final String value) {
+    return await(async.execute(client -> client.setbit(key, offset, value),
+      BuilderFactory.BOOLEAN));
+  }
+
+  @Override
+  public boolean getbit(final String key, final long offset) {
+    return await(async.getbit(key, offset));
+  }
+
+  @Override
+  public long setrange(final String key, final long offset, final String value) {
+    return await(async.setrange(key, offset, value));
+  }
+
+  @Override
+  public String getrange(final String key, final long startOffset, final long endOffset) {
+    return await(async.getrange(key, startOffset, endOffset));
+  }
+
+  @Override
+  public String getSet(final String key, final String value) {
+    return await(async.getSet(key, value));
+  }
+
+  @Override
+  public long setnx(final String key, final String value) {
+    return await(async.setnx(key, value));
+  }
+
+  @Override
+  public String setex(final String key, final long seconds, final String value) {
+    return await(async.setex(key, seconds, value));
+  }
+
+  @Override
+  public String psetex(final String key, final long milliseconds, final String value) {
+    return await(async.psetex(key, milliseconds, value));
+  }
+
+  @Override
+  public long decrBy(final String key, final long decrement) {
+    return await(async.decrBy(key, decrement));
+  }
+
+  @Override
+  public long decr(final String key) {
+    return await(async.decr(key));
+  }
+
+  @Override
+  public long incrBy(final String key, final long increment) {
+    return await(async.incrBy(key, increment));
+  }
+
+  @Override
+  public double incrByFloat(final String key, final double increment) {
+    return await(async.incrByFloat(key, increment));
+  }
+
+  @Override
+  public long incr(final String key) {
+    return await(async.incr(key));
+  }
+
+  @Override
+  public long append(final String key, final String value) {
+    return await(async.append(key, value));
+  }
+
+  @Override
+  public String substr(final String key, final int start, final int end) {
+    return await(async.substr(key, start, end));
+  }
+
+  @Override
+  public long hset(final String key, final String field, final String value) {
+    return await(async.hset(key, field, value));
+  }
+
+  @Override
+  public long hset(final String key, final Map<String, String> hash) {
+    return await(async.hset(key, hash));
+  }
+
+  @Override
+  public String hget(final String key, final String field) {
+    return await(async.hget(key, field));
+  }
+
+  @Override
+  public long hsetnx(final String key, final String field, final String value) {
+    return await(async.hsetnx(key, field, value));
+  }
+
+  @Override
+  public String hmset(final String key, final Map<String, String> hash) {
+    return await(async.hmset(key, hash));
+  }
+
+  @Override
+  public List<String> hmget(final String key, final String... fields) {
+    return await(async.hmget(key, fields));
+  }
+
+  @Override
+  public long hincrBy(final String key, final String field, final long value) {
+    return await(async.hincrBy(key, field, value));
+  }
+
+  @Override
+  public double hincrByFloat(final String key, final String field, final double value) {
+    return await(async.hincrByFloat(key, field, value));
+  }
+
+  @Override
+  public boolean hexists(final String key, final String field) {
+    return await(async.hexists(key, field));
+  }
+
+  @Override
+  public long hdel(final String key, final String... field) {
+    return await(async.hdel(key, field));
+  }
+
+  @Override
+  public long hlen(final String key) {
+    return await(async.hlen(key));
+  }
+
+  @Override
+  public Set<String> hkeys(final String key) {
+    return await(async.hkeys(key));
+  }
+
+  @Override
+  public List<String> hvals(final String key) {
+    return await(async.hvals(key));
+  }
+
+  @Override
+  public Map<String, String> hgetAll(final String key) {
+    return await(async.hgetAll(key));
+  }
+
+  @Override
+  public String hrandfield(final String key) {
+    return await(async.hrandfield(key));
+  }
+
+  @Override
+  public List<String> hrandfield(final String key, final long count) {
+    return await(async.hrandfield(key, count));
+  }
+
+  @Override
+  public Map<String, String> hrandfieldWithValues(final String key, final long count) {
+    return await(async.hrandfieldWithValues(key, count));
+  }
+
+  @Override
+  public long rpush(final String key, final String... string) {
+    return await(async.rpush(key, string));
+  }
+
+  @Override
+  public long lpush(final String key, final String... string) {
+    return await(async.lpush(key, string));
+  }
+
+  @Override
+  public long llen(final String key) {
+    return await(async.llen(key));
+  }
+
+  @Override
+  public List<String> lrange(final String key, final long start, final long stop) {
+    return await(async.lrange(key, start, stop));
+  }
+
+  @Override
+  public String ltrim(final String key, final long start, final long stop) {
+    return await(async.ltrim(key, start, stop));
+  }
+
+  @Override
+  public String lindex(final String key, final long index) {
+    return await(async.lindex(key, index));
+  }
+
+  @Override
+  public String lset(final String key, final long index, final String value) {
+    return await(async.lset(key, index, value));
+  }
+
+  @Override
+  public long lrem(final String key, final long count, final String value) {
+    return await(async.lrem(key, count, value));
+  }
+
+  @Override
+  public String lpop(final String key) {
+    return await(async.lpop(key));
+  }
+
+  @Override
+  public List<String> lpop(final String key, final int count) {
+    return await(async.lpop(key, count));
+  }
+
+  @Override
+  public Long lpos(final String key, final String element) {
+    return await(async.lpos(key, element));
+  }
+
+  @Override
+  public Long lpos(final String key, final String element, final LPosParams params) {
+    return await(async.lpos(key, element, params));
+  }
+
+  @Override
+  public List<Long> lpos(final String key, final String element, final LPosParams params,
+      final long count) {
+    return await(async.lpos(key, element, params, count));
+  }
+
+  @Override
+  public String rpop(final String key) {
+    return await(async.rpop(key));
+  }
+
+  @Override
+  public List<String> rpop(final String key, final int count) {
+    return await(async.rpop(key, count));
+  }
+
+  @Override
+  public long sadd(final String key, final String... member) {
+    return await(async.sadd(key, member));
+  }
+
+  @Override
+  public Set<String> smembers(final String key) {
+    return await(async.smembers(key));
+  }
+
+  @Override
+  public long srem(final String key, final String... member) {
+    return await(async.srem(key, member));
+  }
+
+  @Override
+  public String spop(final String key) {
+    return await(async.spop(key));
+  }
+
+  @Override
+  public Set<String> spop(final String key, final long count) {
+    return await(async.spop(key, count));
+  }
+
+  @Override
+  public long scard(final String key) {
+    return await(async.scard(key));
+  }
+
+  @Override
+  public boolean sismember(final String key, final String member) {
+    return await(async.sismember(key, member));
+  }
+
+  @Override
+  public List<Boolean> smismember(final String key, final String... members) {
+    return await(async.smismember(key, members));
+  }
+
+  @Override
+  public String srandmember(final String key) {
+    return await(async.srandmember(key));
+  }
+
+  @Override
+  public List<String> srandmember(final String key, final int count) {
+    return await(async.srandmember(key, count));
+  }
+
+  @Override
+  public long strlen(final String key) {
+    return await(async.strlen(key));
+  }
+
+  @Override
+  public long zadd(final String key, final double score, final String member) {
+    return await(async.zadd(key, score, member));
+  }
+
+  @Override
+  public long zadd(final String key, final double score, final String member,
+      final ZAddParams params) {
+    return await(async.zadd(key, score, member, params));
+  }
+
+  @Override
+  public long zadd(final String key, final Map<String, Double> scoreMembers) {
+    return await(async.zadd(key, scoreMembers));
+  }
+
+  @Override
+  public long zadd(final String key, final Map<String, Double> scoreMembers,
+      final ZAddParams params) {
+    return await(async.zadd(key, scoreMembers, params));
+  }
+
+  @Override
+  public Double zaddIncr(final String key, final double score, final String member,
+      final ZAddParams params) {
+    return await(async.zaddIncr(key, score, member, params));
+  }
+
+  @Override
+  public Set<String> zrange(final String key, final long start, final long stop) {
+    return await(async.zrange(key, start, stop));
+  }
+
+  @Override
+  public long zrem(final String key, final String... members) {
+    return await(async.zrem(key, members));
+  }
+
+  @Override
+  public double zincrby(final String key, final double increment, final String member) {
+    return await(async.zincrby(key, increment, member));
+  }
+
+  @Override
+  public Double zincrby(final String key, final double increment, final String member,
+      final ZIncrByParams params) {
+    return await(async.zincrby(key, increment, member, params));
+  }
+
+  @Override
+  public Long zrank(final String key, final String member) {
+    return await(async.zrank(key, member));
+  }
+
+  @Override
+  public Long zrevrank(final String key, final String member) {
+    return await(async.zrevrank(key, member));
+  }
+
+  @Override
+  public Set<String> zrevrange(final String key, final long start, final long stop) {
+    return await(async.zrevrange(key, start, stop));
+  }
+
+  @Override
+  public Set<Tuple> zrangeWithScores(final String key, final long start, final long stop) {
+    return await(async.zrangeWithScores(key, start, stop));
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeWithScores(final String key, final long start, final long stop) {
+    return await(async.zrevrangeWithScores(key, start, stop));
+  }
+
+  @Override
+  public String zrandmember(final String key) {
+    return await(async.zrandmember(key));
+  }
+
+  @Override
+  public Set<String> zrandmember(final String key, final long count) {
+    return await(async.zrandmember(key, count));
+  }
+
+  @Override
+  public Set<Tuple> zrandmemberWithScores(final String key, final long count) {
+    return await(async.zrandmemberWithScores(key, count));
+  }
+
+  @Override
+  public long zcard(final String key) {
+    return await(async.zcard(key));
+  }
+
+  @Override
+  public Double zscore(final String key, final String member) {
+    return await(async.zscore(key, member));
+  }
+
+  @Override
+  public List<Double> zmscore(final String key, final String... members) {
+    return await(async.zmscore(key, members));
+  }
+
+  @Override
+  public Tuple zpopmax(final String key) {
+    return await(async.zpopmax(key));
+  }
+
+  @Override
+  public Set<Tuple> zpopmax(final String key, final int count) {
+    return await(async.zpopmax(key, count));
+  }
+
+  @Override
+  public Tuple zpopmin(final String key) {
+    return await(async.zpopmin(key));
+  }
+
+  @Override
+  public Set<Tuple> zpopmin(final String key, final int count) {
+    return await(async.zpopmin(key, count));
+  }
+
+  @Override
+  public List<String> sort(final String key) {
+    return await(async.sort(key));
+  }
+
+  @Override
+  public List<String> sort(final String key, final SortingParams sortingParameters) {
+    return await(async.sort(key, sortingParameters));
+  }
+
+  @Override
+  public long zcount(final String key, final double min, final double max) {
+    return await(async.zcount(key, min, max));
+  }
+
+  @Override
+  public long zcount(final String key, final String min, final String max) {
+    return await(async.zcount(key, min, max));
+  }
+
+  @Override
+  public Set<String> zrangeByScore(final String key, final double min, final double max) {
+    return await(async.zrangeByScore(key, min, max));
+  }
+
+  @Override
+  public Set<String> zrangeByScore(final String key, final String min, final String max) {
+    return await(async.zrangeByScore(key, min, max));
+  }
+
+  @Override
+  public Set<String> zrevrangeByScore(final String key, final double max, final double min) {
+    return await(async.zrevrangeByScore(key, max, min));
+  }
+
+  @Override
+  public Set<String> zrangeByScore(final String key, final double min, final double max,
+      final int offset, final int count) {
+    return await(async.zrangeByScore(key, min, max, offset, count));
+  }
+
+  @Override
+  public Set<String> zrevrangeByScore(final String key, final String max, final String min) {
+    return await(async.zrevrangeByScore(key, max, min));
+  }
+
+  @Override
+  public Set<String> zrangeByScore(final String key, final String min, final String max,
+      final int offset, final int count) {
+    return await(async.zrangeByScore(key, min, max, offset, count));
+  }
+
+  @Override
+  public Set<String> zrevrangeByScore(final String key, final double max, final double min,
+      final int offset, final int count) {
+    return await(async.zrevrangeByScore(key, max, min, offset, count));
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max) {
+    return await(async.zrangeByScoreWithScores(key, min, max));
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max,
+      final double min) {
+    return await(async.zrevrangeByScoreWithScores(key, max, min));
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max,
+      final int offset, final int count) {
+    return await(async.zrangeByScoreWithScores(key, min, max, offset, count));
+  }
+
+  @Override
+  public Set<String> zrevrangeByScore(final String key, final String max, final String min,
+      final int offset, final int count) {
+    return await(async.zrevrangeByScore(key, max, min, offset, count));
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max) {
+    return await(async.zrangeByScoreWithScores(key, min, max));
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max,
+      final String min) {
+    return await(async.zrevrangeByScoreWithScores(key, max, min));
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max,
+      final int offset, final int count) {
+    return await(async.zrangeByScoreWithScores(key, min, max, offset, count));
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max, final double min,
+      final int offset, final int count) {
+    return await(async.zrevrangeByScoreWithScores(key, max, min, offset, count));
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max, final String min,
+      final int offset, final int count) {
+    return await(async.zrevrangeByScoreWithScores(key, max, min, offset, count));
+  }
+
+  @Override
+  public long zremrangeByRank(final String key, final long start, final long stop) {
+    return await(async.zremrangeByRank(key, start, stop));
+  }
+
+  @Override
+  public long zremrangeByScore(final String key, final double min, final double max) {
+    return await(async.zremrangeByScore(key, min, max));
+  }
+
+  @Override
+  public long zremrangeByScore(final String key, final String min, final String max) {
+    return await(async.zremrangeByScore(key, min, max));
+  }
+
+  @Override
+  public long zlexcount(final String key, final String min, final String max) {
+    return await(async.zlexcount(key, min, max));
+  }
+
+  @Override
+  public Set<String> zrangeByLex(final String key, final String min, final String max) {
+    return await(async.zrangeByLex(key, min, max));
+  }
+
+  @Override
+  public Set<String> zrangeByLex(final String key, final String min, final String max,
+      final int offset, final int count) {
+    return await(async.zrangeByLex(key, min, max, offset, count));
+  }
+
+  @Override
+  public Set<String> zrevrangeByLex(final String key, final String max, final String min) {
+    return await(async.zrevrangeByLex(key, max, min));
+  }
+
+  @Override
+  public Set<String> zrevrangeByLex(final String key, final String max, final String min,
+      final int offset, final int count) {
+    return await(async.zrevrangeByLex(key, max, min, offset, count));
+  }
+
+  @Override
+  public long zremrangeByLex(final String key, final String min, final String max) {
+    return await(async.zremrangeByLex(key, min, max));
+  }
+
+  @Override
+  public long linsert(final String key, final ListPosition where, final String pivot,
+      final String value) {
+    return await(async.linsert(key, where, pivot, value));
+  }
+
+  @Override
+  public long lpushx(final String key, final String... string) {
+    return await(async.lpushx(key, string));
+  }
+
+  @Override
+  public long rpushx(final String key, final String... string) {
+    return await(async.rpushx(key, string));
+  }
+
+  @Override
+  public List<String> blpop(final int timeout, final String key) {
+    throw new UnsupportedOperationException(BLOCKING_COMMAND);
+  }
+
+  @Override
+  public KeyedListElement blpop(final double timeout, final String key) {
+    throw new UnsupportedOperationException(BLOCKING_COMMAND);
+  }
+
+  @Override
+  public List<String> brpop(final int timeout, final String key) {
+    throw new UnsupportedOperationException(BLOCKING_COMMAND);
+  }
+
+  @Override
+  public KeyedListElement brpop(final double timeout, final String key) {
+    throw new UnsupportedOperationException(BLOCKING_COMMAND);
+  }
+
+  @Override
+  public long del(final String key) {
+    return await(async.del(key));
+  }
+
+  @Override
+  public long unlink(final String key) {
+    return await(async.unlink(key));
+  }
+
+  @Override
+  public String echo(final String string) {
+    return await(async.echo(string));
+  }
+
+  @Override
+  public long bitcount(final String key) {
+    return await(async.bitcount(key));
+  }
+
+  @Override
+  public long bitcount(final String key, final long start, final long end) {
+    return await(async.bitcount(key, start, end));
+  }
+
+  @Override
+  public long bitpos(final String key, final boolean value) {
+    return await(async.bitpos(key, value));
+  }
+
+  @Override
+  public long bitpos(final String key, final boolean value, final BitPosParams params) {
+    return await(async.bitpos(key, value, params));
+  }
+
+  @Override
+  public ScanResult<Map.Entry<String, String>> hscan(final String key, final String cursor,
+      final ScanParams params) {
+    return await(async.hscan(key, cursor, params));
+  }
+
+  @Override
+  public ScanResult<String> sscan(final String key, final String cursor, final ScanParams params) {
+    return await(async.sscan(key, cursor, params));
+  }
+
+  @Override
+  public ScanResult<Tuple> zscan(final String key, final String cursor, final ScanParams params) {
+    return await(async.zscan(key, cursor, params));
+  }
+
+  @Override
+  public long pfadd(final String key, final String... elements) {
+    return await(async.pfadd(key, elements));
+  }
+
+  @Override
+  public long pfcount(final String key) {
+    return await(async.pfcount(key));
+  }
+
+  @Override
+  public long geoadd(final String key, final double longitude, final double latitude,
+      final String member) {
+    return await(async.geoadd(key, longitude, latitude, member));
+  }
+
+  @Override
+  public long geoadd(final String key, final Map<String, GeoCoordinate> memberCoordinateMap) {
+    return await(async.geoadd(key, memberCoordinateMap));
+  }
+
+  @Override
+  public long geoadd(final String key, final GeoAddParams params,
+      final Map<String, GeoCoordinate> memberCoordinateMap) {
+    return await(async.geoadd(key, params, memberCoordinateMap));
+  }
+
+  @Override
+  public Double geodist(final String key, final String member1, final String member2) {
+    return await(async.geodist(key, member1, member2));
+  }
+
+  @Override
+  public Double geodist(final String key, final String member1, final String member2,
+      final GeoUnit unit) {
+    return await(async.geodist(key, member1, member2, unit));
+  }
+
+  @Override
+  public List<String> geohash(final String key, final String... members) {
+    return await(async.geohash(key, members));
+  }
+
+  @Override
+  public List<GeoCoordinate> geopos(final String key, final String... members) {
+    return await(async.geopos(key, members));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadius(final String key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit) {
+    return await(async.georadius(key, longitude, latitude, radius, unit));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusReadonly(final String key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit) {
+    return await(async.georadiusReadonly(key, longitude, latitude, radius, unit));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadius(final String key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return await(async.georadius(key, longitude, latitude, radius, unit, param));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusReadonly(final String key, final double longitude,
+      final double latitude, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return await(async.georadiusReadonly(key, longitude, latitude, radius, unit, param));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMember(final String key, final String member,
+      final double radius, final GeoUnit unit) {
+    return await(async.georadiusByMember(key, member, radius, unit));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMemberReadonly(final String key, final String member,
+      final double radius, final GeoUnit unit) {
+    return await(async.georadiusByMemberReadonly(key, member, radius, unit));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMember(final String key, final String member,
+      final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return await(async.georadiusByMember(key, member, radius, unit, param));
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMemberReadonly(final String key, final String member,
+      final double radius, final GeoUnit unit, final GeoRadiusParam param) {
+    return await(async.georadiusByMemberReadonly(key, member, radius, unit, param));
+  }
+
+  @Override
+  public List<Long> bitfield(final String key, final String... arguments) {
+    return await(async.bitfield(key, arguments));
+  }
+
+  @Override
+  public List<Long> bitfieldReadonly(final String key, final String... arguments) {
+    return await(async.bitfieldReadonly(key, arguments));
+  }
+
+  @Override
+  public long hstrlen(final String key, final String field) {
+    return await(async.hstrlen(key, field));
+  }
+
+  @Override
+  public StreamEntryID xadd(final String key, final StreamEntryID id,
+      final Map<String, String> hash) {
+    return await(async.xadd(key, id, hash));
+  }
+
+  @Override
+  public StreamEntryID xadd(final String key, final StreamEntryID id,
+      final Map<String, String> hash, final long maxLen, final boolean approximateLength) {
+    return await(async.xadd(key, id, hash, maxLen, approximateLength));
+  }
+
+  @Override
+  public StreamEntryID xadd(final String key, final Map<String, String> hash,
+      final XAddParams params) {
+    return await(async.xadd(key, hash, params));
+  }
+
+  @Override
+  public long xlen(final String key) {
+    return await(async.xlen(key));
+  }
+
+  @Override
+  public List<StreamEntry> xrange(final String key, final StreamEntryID start,
+      final StreamEntryID end) {
+    return await(async.xrange(key, start, end));
+  }
+
+  @Override
+  public List<StreamEntry> xrange(final String key, final StreamEntryID start,
+      final StreamEntryID end, final int count) {
+    return await(async.xrange(key, start, end, count));
+  }
+
+  @Override
+  public List<StreamEntry> xrevrange(final String key, final StreamEntryID end,
+      final StreamEntryID start) {
+    return await(async.xrevrange(key, end, start));
+  }
+
+  @Override
+  public List<StreamEntry> xrevrange(final String key, final StreamEntryID end,
+      final StreamEntryID start, final int count) {
+    return await(async.xrevrange(key, end, start, count));
+  }
+
+  @Override
+  public long xack(final String key, final String group, final StreamEntryID... ids) {
+    return await(async.xack(key, group, ids));
+  }
+
+  @Override
+  public String xgroupCreate(final String key, final String groupname, final StreamEntryID id,
+      final boolean makeStream) {
+    return await(async.xgroupCreate(key, groupname, id, makeStream));
+  }
+
+  @Override
+  public String xgroupSetID(final String key, final String groupname, final StreamEntryID id) {
+    return await(async.xgroupSetID(key, groupname, id));
+  }
+
+  @Override
+  public long xgroupDestroy(final String key, final String groupname) {
+    return await(async.xgroupDestroy(key, groupname));
+  }
+
+  @Override
+  public long xgroupDelConsumer(final String key, final String groupname,
+      final String consumername) {
+    return await(async.xgroupDelConsumer(key, groupname, consumername));
+  }
+
+  @Override
+  public StreamPendingSummary xpending(final String key, final String groupname) {
+    return await(async.xpending(key, groupname));
+  }
+
+  @Override
+  public List<StreamPendingEntry> xpending(final String key, final String groupname,
+      final StreamEntryID start, final StreamEntryID end, final int count,
+      final String consumername) {
+    return await(async.xpending(key, groupname, start, end, count, consumername));
+  }
+
+  @Override
+  public List<StreamPendingEntry> xpending(final String key, final String groupname,
+      final XPendingParams params) {
+    return await(async.xpending(key, groupname, params));
+  }
+
+  @Override
+  public long xdel(final String key, final StreamEntryID... ids) {
+    return await(async.xdel(key, ids));
+  }
+
+  @Override
+  public long xtrim(final String key, final long maxLen, final boolean approximate) {
+    return await(async.xtrim(key, maxLen, approximate));
+  }
+
+  @Override
+  public long xtrim(final String key, final XTrimParams params) {
+    return await(async.xtrim(key, params));
+  }
+
+  @Override
+  public List<StreamEntry> xclaim(final String key, final String group, final String consumername,
+      final long minIdleTime, final long newIdleTime, final int retries, final boolean force,
+      final StreamEntryID... ids) {
+    return await(
+      async.xclaim(key, group, consumername, minIdleTime, newIdleTime, retries, force, ids));
+  }
+
+  @Override
+  public List<StreamEntry> xclaim(final String key, final String group, final String consumername,
+      final long minIdleTime, final XClaimParams params, final StreamEntryID... ids) {
+    return await(async.xclaim(key, group, consumername, minIdleTime, params, ids));
+  }
+
+  @Override
+  public List<StreamEntryID> xclaimJustId(final String key, final String group,
+      final String consumername, final long minIdleTime, final XClaimParams params,
+      final StreamEntryID... ids) {
+    return await(async.xclaimJustId(key, group, consumername, minIdleTime, params, ids));
+  }
+
+  @Override
+  public Map.Entry<StreamEntryID, List<StreamEntry>> xautoclaim(final String key,
+      final String group, final String consumerName, final long minIdleTime,
+      final StreamEntryID start, final XAutoClaimParams params) {
+    return await(async.xautoclaim(key, group, consumerName, minIdleTime, start, params));
+  }
+
+  @Override
+  public Map.Entry<StreamEntryID, List<StreamEntryID>> xautoclaimJustId(final String key,
+      final String group, final String consumerName, final long minIdleTime,
+      final StreamEntryID start, final XAutoClaimParams params) {
+    return await(async.xautoclaimJustId(key, group, consumerName, minIdleTime, start, params));
+  }
+
+  @Override
+  public StreamInfo xinfoStream(final String key) {
+    return await(async.xinfoStream(key));
+  }
+
+  @Override
+  public List<StreamGroupInfo> xinfoGroup(final String key) {
+    return await(async.xinfoGroup(key));
+  }
+
+  @Override
+  public List<StreamConsumersInfo> xinfoConsumers(final String key, final String group) {
+    return await(async.xinfoConsumers(key, group));
+  }
+
+  @Override
+  public Long memoryUsage(final String key) {
+    return await(async.memoryUsage(key));
+  }
+
+  @Override
+  public Long memoryUsage(final String key, final int samples) {
+    return await(async.memoryUsage(key, samples));
+  }
+
+  @Override
+  public LCSMatchResult strAlgoLCSStrings(final String strA, final String strB,
+      final StrAlgoLCSParams params) {
+    return await(async.strAlgoLCSStrings(strA, strB, params));
+  }
+
+  private <T> T await(CompletableFuture<T> reply) {
+    try {
+      return timeoutMillis > 0 ? reply.get(timeoutMillis, TimeUnit.MILLISECONDS) : reply.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof JedisException) {
+        throw (JedisException) e.getCause();
+      }
+      throw new JedisException(e.getCause());
+    } catch (TimeoutException e) {
+      throw new JedisConnectionException("Timed out waiting for the reply.", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JedisException(e);
+    }
+  }
+}
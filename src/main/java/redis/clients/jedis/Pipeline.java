@@ -95,10 +95,7 @@ public class Pipeline extends MultiKeyPipelineBase implements Closeable {
    */
   public void sync() {
     if (getPipelinedResponseLength() > 0) {
-      List<Object> unformatted = client.getMany(getPipelinedResponseLength());
-      for (Object o : unformatted) {
-        generateResponse(o);
-      }
+      client.getMany(getPipelinedResponseLength(), this::generateResponse);
     }
   }
 
@@ -106,19 +103,21 @@ public class Pipeline extends MultiKeyPipelineBase implements Closeable {
    * Synchronize pipeline by reading all responses. This operation close the pipeline. Whenever
    * possible try to avoid using this version and use Pipeline.sync() as it won't go through all the
    * responses and generate the right response type (usually it is a waste of time).
-   * @return A list of all the responses in the order you executed them.
+   * @return A list of all the responses in the order you executed them. A reply which is an error,
+   *         or which could not be built, is returned as the exception it raised, the other replies
+   *         are still read.
    */
   public List<Object> syncAndReturnAll() {
     if (getPipelinedResponseLength() > 0) {
-      List<Object> unformatted = client.getMany(getPipelinedResponseLength());
-      List<Object> formatted = new ArrayList<>();
-      for (Object o : unformatted) {
+      List<Object> formatted = new ArrayList<>(getPipelinedResponseLength());
+      client.getMany(getPipelinedResponseLength(), reply -> {
         try {
-          formatted.add(generateResponse(o).get());
-        } catch (JedisDataException e) {
+          formatted.add(generateResponse(reply).get());
+        } catch (RuntimeException e) {
+          // keep reading, the connection must not be left with unread replies
           formatted.add(e);
         }
-      }
+      });
       return formatted;
     } else {
       return java.util.Collections.<Object> emptyList();
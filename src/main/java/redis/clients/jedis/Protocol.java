@@ -1,12 +1,20 @@
 package redis.clients.jedis;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import redis.clients.jedis.args.BulkSource;
 import redis.clients.jedis.args.Rawable;
 import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.exceptions.*;
@@ -39,6 +47,18 @@ public final class Protocol {
   public static final byte MINUS_BYTE = '-';
   public static final byte COLON_BYTE = ':';
 
+  // RESP3 reply types
+  public static final byte UNDERSCORE_BYTE = '_';
+  public static final byte COMMA_BYTE = ',';
+  public static final byte HASH_BYTE = '#';
+  public static final byte LEFT_PARENTHESIS_BYTE = '(';
+  public static final byte EXCLAMATION_BYTE = '!';
+  public static final byte EQUAL_BYTE = '=';
+  public static final byte PERCENT_BYTE = '%';
+  public static final byte TILDE_BYTE = '~';
+  public static final byte PIPE_BYTE = '|';
+  public static final byte GREATER_THAN_BYTE = '>';
+
   public static final String SENTINEL_MASTERS = "masters";
   public static final String SENTINEL_GET_MASTER_ADDR_BY_NAME = "get-master-addr-by-name";
   public static final String SENTINEL_RESET = "reset";
@@ -79,6 +99,13 @@ public final class Protocol {
   public static final byte[] BYTES_TILDE = SafeEncoder.encode("~");
   public static final byte[] BYTES_EQUAL = SafeEncoder.encode("=");
   public static final byte[] BYTES_ASTERISK = SafeEncoder.encode("*");
+  /**
+   * Status replies common enough to be decoded to shared strings. The arrays are only matched
+   * against and never handed out, so callers cannot alter them.
+   */
+  private static final String[] CANNED_STATUS_STRINGS = { "OK", "QUEUED", "PONG" };
+  private static final byte[][] CANNED_STATUS_BYTES = { SafeEncoder.encode("OK"),
+      SafeEncoder.encode("QUEUED"), SafeEncoder.encode("PONG") };
 
   public static final byte[] POSITIVE_INFINITY_BYTES = "+inf".getBytes();
   public static final byte[] NEGATIVE_INFINITY_BYTES = "-inf".getBytes();
@@ -92,6 +119,36 @@ public final class Protocol {
     sendCommand(os, command.getRaw(), args);
   }
 
+  /**
+   * Same as {@link #sendCommand(RedisOutputStream, ProtocolCommand, byte[]...)}, writing every
+   * argument from its source.
+   */
+  public static void sendCommand(final RedisOutputStream os, final ProtocolCommand command,
+      final BulkSource... args) {
+    for (final BulkSource arg : args) {
+      if (arg.length() < 0 || arg.length() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid argument length: " + arg.length());
+      }
+    }
+    try {
+      os.write(ASTERISK_BYTE);
+      os.writeIntCrLf(args.length + 1);
+      os.write(DOLLAR_BYTE);
+      os.writeIntCrLf(command.getRaw().length);
+      os.write(command.getRaw());
+      os.writeCrLf();
+
+      for (final BulkSource arg : args) {
+        os.write(DOLLAR_BYTE);
+        os.writeIntCrLf((int) arg.length());
+        arg.writeTo(os);
+        os.writeCrLf();
+      }
+    } catch (IOException e) {
+      throw new JedisConnectionException(e);
+    }
+  }
+
   private static void sendCommand(final RedisOutputStream os, final byte[] command,
       final byte[]... args) {
     try {
@@ -114,7 +171,10 @@ public final class Protocol {
   }
 
   private static void processError(final RedisInputStream is) {
-    String message = is.readLine();
+    processError(is.readLine());
+  }
+
+  private static void processError(final String message) {
     // TODO: I'm not sure if this is the best way to do this.
     // Maybe Read only first 5 bytes instead?
     if (message.startsWith(MOVED_PREFIX)) {
@@ -168,12 +228,34 @@ public final class Protocol {
     case DOLLAR_BYTE:
       return processBulkReply(is);
     case ASTERISK_BYTE:
+    case TILDE_BYTE:
+    case GREATER_THAN_BYTE:
       return processMultiBulkReply(is);
     case COLON_BYTE:
       return processInteger(is);
     case MINUS_BYTE:
       processError(is);
       return null;
+    case UNDERSCORE_BYTE:
+      is.readLineBytes();
+      return null;
+    case COMMA_BYTE:
+      return processDouble(is);
+    case HASH_BYTE:
+      return processBoolean(is);
+    case LEFT_PARENTHESIS_BYTE:
+      return new BigInteger(is.readLine());
+    case EQUAL_BYTE:
+      return processVerbatimString(is);
+    case EXCLAMATION_BYTE:
+      processError(SafeEncoder.encode(processBulkReply(is)));
+      return null;
+    case PERCENT_BYTE:
+      return processMap(is);
+    case PIPE_BYTE:
+      // attributes describe the reply which follows them, they are not a reply of their own
+      processMap(is);
+      return process(is);
     default:
       throw new JedisConnectionException("Unknown reply: " + (char) b);
     }
@@ -183,6 +265,18 @@ public final class Protocol {
     return is.readLineBytes();
   }
 
+  /**
+   * Decodes a reply, to a shared string when it is one of the canned status replies.
+   */
+  static String encodeReply(final byte[] reply) {
+    for (int i = 0; i < CANNED_STATUS_BYTES.length; i++) {
+      if (Arrays.equals(reply, CANNED_STATUS_BYTES[i])) {
+        return CANNED_STATUS_STRINGS[i];
+      }
+    }
+    return SafeEncoder.encode(reply);
+  }
+
   private static byte[] processBulkReply(final RedisInputStream is) {
     final int len = is.readIntCrLf();
     if (len == -1) {
@@ -209,6 +303,52 @@ public final class Protocol {
     return is.readLongCrLf();
   }
 
+  private static Double processDouble(final RedisInputStream is) {
+    String value = is.readLine();
+    switch (value) {
+    case "inf":
+      return Double.POSITIVE_INFINITY;
+    case "-inf":
+      return Double.NEGATIVE_INFINITY;
+    case "nan":
+      return Double.NaN;
+    default:
+      return Double.valueOf(value);
+    }
+  }
+
+  private static Boolean processBoolean(final RedisInputStream is) {
+    return "t".equals(is.readLine());
+  }
+
+  /**
+   * Verbatim strings start with a three letter format and a colon, e.g. {@code txt:}, which is not
+   * part of the value.
+   */
+  private static byte[] processVerbatimString(final RedisInputStream is) {
+    byte[] formatted = processBulkReply(is);
+    return Arrays.copyOfRange(formatted, 4, formatted.length);
+  }
+
+  private static Map<Object, Object> processMap(final RedisInputStream is) {
+    final int num = is.readIntCrLf();
+    if (num == -1) {
+      return null;
+    }
+    final Map<Object, Object> ret = new LinkedHashMap<>(num * 4 / 3 + 1);
+    for (int i = 0; i < num; i++) {
+      Object key = process(is);
+      Object value;
+      try {
+        value = process(is);
+      } catch (JedisDataException e) {
+        value = e;
+      }
+      ret.put(key, value);
+    }
+    return ret;
+  }
+
   private static List<Object> processMultiBulkReply(final RedisInputStream is) {
     final int num = is.readIntCrLf();
     if (num == -1) {
@@ -229,6 +369,166 @@ public final class Protocol {
     return process(is);
   }
 
+  /**
+   * Reads the next reply, handing RESP3 push messages which arrive before it to the given consumer.
+   * Without a consumer a push message is returned like any other reply, which is what a
+   * subscribed connection expects.
+   */
+  public static Object read(final RedisInputStream is, final Consumer<List<Object>> pushConsumer) {
+    skipPushMessages(is, pushConsumer);
+    return process(is);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void skipPushMessages(final RedisInputStream is,
+      final Consumer<List<Object>> pushConsumer) {
+    if (pushConsumer != null) {
+      while (is.peek(GREATER_THAN_BYTE)) {
+        pushConsumer.accept((List<Object>) process(is));
+      }
+    }
+  }
+
+  /**
+   * Reads a bulk reply as a view of the input buffer, valid until the next read, see
+   * {@link RedisInputStream#readBulkView(int)}. Other replies are read as usual and wrapped.
+   * @return null for a nil reply
+   */
+  public static ByteBuffer readBulkReplyView(final RedisInputStream is,
+      final Consumer<List<Object>> pushConsumer) {
+    skipPushMessages(is, pushConsumer);
+    if (!is.peek(DOLLAR_BYTE)) {
+      final byte[] reply = BuilderFactory.BYTE_ARRAY.build(process(is));
+      return reply == null ? null : ByteBuffer.wrap(reply);
+    }
+    is.readByte();
+    final int len = is.readIntCrLf();
+    return len == -1 ? null : is.readBulkView(len);
+  }
+
+  /**
+   * Copies a bulk reply to {@code out} without holding it in memory, see
+   * {@link RedisInputStream#readBulkTo(int, OutputStream)}. Other replies, e.g. RESP3 verbatim
+   * strings, are read as usual and then written.
+   * @return the length of the value, -1 for a nil reply
+   * @throws JedisException when {@code out} fails, after the reply was read
+   */
+  public static long readBulkReplyTo(final RedisInputStream is,
+      final Consumer<List<Object>> pushConsumer, final OutputStream out) {
+    skipPushMessages(is, pushConsumer);
+    if (!is.peek(DOLLAR_BYTE)) {
+      final byte[] reply = BuilderFactory.BYTE_ARRAY.build(process(is));
+      if (reply == null) {
+        return -1;
+      }
+      try {
+        out.write(reply);
+      } catch (IOException e) {
+        throw new JedisException("Could not write the value.", e);
+      }
+      return reply.length;
+    }
+    is.readByte();
+    final int len = is.readIntCrLf();
+    if (len == -1) {
+      return -1;
+    }
+    try {
+      is.readBulkTo(len, out);
+    } catch (IOException e) {
+      throw new JedisException("Could not write the value.", e);
+    }
+    return len;
+  }
+
+  /**
+   * Reads a multi bulk reply of bulk strings, handing every element to the consumer as a view of
+   * the input buffer which is only valid during the call. A RESP3 map is handed over as alternating
+   * keys and values. When the consumer throws, the remaining elements are read without being handed
+   * over and the first exception is then rethrown, so the reply is always read to its end.
+   * @return the number of elements, -1 for a nil reply
+   */
+  public static int readMultiBulkReplyViews(final RedisInputStream is,
+      final Consumer<List<Object>> pushConsumer, final Consumer<ByteBuffer> elementConsumer) {
+    skipPushMessages(is, pushConsumer);
+    final byte b = is.readByte();
+    if (b == MINUS_BYTE) {
+      processError(is);
+    } else if (b != ASTERISK_BYTE && b != TILDE_BYTE && b != PERCENT_BYTE) {
+      throw new JedisConnectionException("Unexpected reply, expected a multi bulk: " + (char) b);
+    }
+    final int num = b == PERCENT_BYTE ? is.readIntCrLf() * 2 : is.readIntCrLf();
+    RuntimeException failure = null;
+    for (int i = 0; i < num; i++) {
+      final ByteBuffer element = readBulkReplyView(is, null);
+      if (failure == null) {
+        try {
+          elementConsumer.accept(element);
+        } catch (RuntimeException e) {
+          failure = e;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return num;
+  }
+
+  /**
+   * Reads a SCAN-like reply, handing the elements to the consumer as in
+   * {@link #readMultiBulkReplyViews(RedisInputStream, Consumer, Consumer)}.
+   * @return the cursor of the next call
+   */
+  public static byte[] readScanReplyViews(final RedisInputStream is,
+      final Consumer<List<Object>> pushConsumer, final Consumer<ByteBuffer> elementConsumer) {
+    skipPushMessages(is, pushConsumer);
+    final byte b = is.readByte();
+    if (b == MINUS_BYTE) {
+      processError(is);
+    } else if (b != ASTERISK_BYTE || is.readIntCrLf() != 2) {
+      throw new JedisConnectionException("Unexpected reply, expected a scan result.");
+    }
+    final byte[] cursor = BuilderFactory.BYTE_ARRAY.build(process(is));
+    readMultiBulkReplyViews(is, null, elementConsumer);
+    return cursor;
+  }
+
+  /**
+   * Reads a status reply as a string, without allocating when it is one of the canned status
+   * replies such as {@code OK}. Other replies are read as usual and decoded.
+   * @return null for a nil reply
+   */
+  public static String readStatusCodeReply(final RedisInputStream is,
+      final Consumer<List<Object>> pushConsumer) {
+    skipPushMessages(is, pushConsumer);
+    if (!is.peek(PLUS_BYTE)) {
+      final byte[] reply = (byte[]) process(is);
+      return reply == null ? null : encodeReply(reply);
+    }
+    is.readByte();
+    final byte[] line = is.readLineBytes(CANNED_STATUS_BYTES);
+    for (int i = 0; i < CANNED_STATUS_BYTES.length; i++) {
+      if (line == CANNED_STATUS_BYTES[i]) {
+        return CANNED_STATUS_STRINGS[i];
+      }
+    }
+    return SafeEncoder.encode(line);
+  }
+
+  /**
+   * Reads an integer reply without boxing it. Other replies are read as usual and converted, e.g.
+   * RESP3 booleans.
+   */
+  public static long readIntegerReply(final RedisInputStream is,
+      final Consumer<List<Object>> pushConsumer) {
+    if (is.peek(COLON_BYTE)) {
+      is.readByte();
+      return is.readLongCrLf();
+    }
+    return BuilderFactory.LONG.build(read(is, pushConsumer));
+  }
+
   public static final byte[] toByteArray(final boolean value) {
     return value ? BYTES_TRUE : BYTES_FALSE;
   }
@@ -270,7 +570,8 @@ public final class Protocol {
     READONLY, READWRITE, GEOADD, GEODIST, GEOHASH, GEOPOS, GEORADIUS, GEORADIUS_RO, GEORADIUSBYMEMBER,
     GEORADIUSBYMEMBER_RO, MODULE, BITFIELD, HSTRLEN, TOUCH, SWAPDB, MEMORY, XADD, XLEN, XDEL,
     XTRIM, XRANGE, XREVRANGE, XREAD, XACK, XGROUP, XREADGROUP, XPENDING, XCLAIM, XAUTOCLAIM, ACL, XINFO,
-    BITFIELD_RO, LPOS, SMISMEMBER, ZMSCORE, BZPOPMIN, BZPOPMAX, BLMOVE, LMOVE, COPY, ROLE, FAILOVER, STRALGO;
+    BITFIELD_RO, LPOS, SMISMEMBER, ZMSCORE, BZPOPMIN, BZPOPMAX, BLMOVE, LMOVE, COPY, ROLE, FAILOVER, STRALGO,
+    HELLO;
 
     private final byte[] raw;
 
@@ -292,7 +593,8 @@ public final class Protocol {
     BLOCK, NOACK, STREAMS, KEY, CREATE, MKSTREAM, SETID, DESTROY, DELCONSUMER, MAXLEN, GROUP, ID,
     IDLE, TIME, RETRYCOUNT, FORCE, USAGE, SAMPLES, STREAM, GROUPS, CONSUMERS, HELP, FREQ, SETUSER,
     GETUSER, DELUSER, WHOAMI, CAT, GENPASS, USERS, LOG, INCR, SAVE, JUSTID, WITHVALUES, UNBLOCK,
-    NOMKSTREAM, MINID, DB, ABSTTL, TO, TIMEOUT, ABORT, LCS, STRINGS;
+    NOMKSTREAM, MINID, DB, ABSTTL, TO, TIMEOUT, ABORT, LCS, STRINGS, AUTH, TRACKING, ON, REDIRECT,
+    BCAST, PREFIX;
 
     private final byte[] raw;
 
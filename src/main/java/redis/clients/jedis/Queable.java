@@ -1,34 +1,60 @@
 package redis.clients.jedis;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Arrays;
 
 public class Queable {
-  private Queue<Response<?>> pipelinedResponses = new LinkedList<>();
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * Responses waiting for their reply, a ring buffer which grows as needed and is reused from one
+   * sync to the next.
+   */
+  private Response<?>[] pipelinedResponses = new Response<?>[INITIAL_CAPACITY];
+  private int head;
+  private int size;
 
   protected void clean() {
-    pipelinedResponses.clear();
+    Arrays.fill(pipelinedResponses, null);
+    head = 0;
+    size = 0;
   }
 
   protected Response<?> generateResponse(Object data) {
-    Response<?> response = pipelinedResponses.poll();
-    if (response != null) {
-      response.set(data);
+    if (size == 0) {
+      return null;
     }
+    Response<?> response = pipelinedResponses[head];
+    pipelinedResponses[head] = null;
+    head = (head + 1) & (pipelinedResponses.length - 1);
+    size--;
+    response.set(data);
     return response;
   }
 
   protected <T> Response<T> getResponse(Builder<T> builder) {
     Response<T> lr = new Response<>(builder);
-    pipelinedResponses.add(lr);
+    if (size == pipelinedResponses.length) {
+      grow();
+    }
+    pipelinedResponses[(head + size) & (pipelinedResponses.length - 1)] = lr;
+    size++;
     return lr;
   }
 
+  private void grow() {
+    Response<?>[] grown = new Response<?>[pipelinedResponses.length * 2];
+    int first = pipelinedResponses.length - head;
+    System.arraycopy(pipelinedResponses, head, grown, 0, first);
+    System.arraycopy(pipelinedResponses, 0, grown, first, head);
+    pipelinedResponses = grown;
+    head = 0;
+  }
+
   protected boolean hasPipelinedResponse() {
-    return !pipelinedResponses.isEmpty();
+    return size > 0;
   }
 
   protected int getPipelinedResponseLength() {
-    return pipelinedResponses.size();
+    return size;
   }
 }
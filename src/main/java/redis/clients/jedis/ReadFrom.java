@@ -0,0 +1,23 @@
+package redis.clients.jedis;
+
+/**
+ * Read preference for {@link JedisCluster} and {@link BinaryJedisCluster}. Only read-only commands
+ * are affected; writes always go to the master serving the slot.
+ */
+public enum ReadFrom {
+  /**
+   * Read from the master serving the slot. This is the default.
+   */
+  MASTER,
+
+  /**
+   * Read from the replicas of the slot in turn, skipping those which cannot be reached, and
+   * falling back to the master when the slot has no reachable replica.
+   */
+  REPLICA_PREFERRED,
+
+  /**
+   * Read from the master and the replicas of the slot in turn.
+   */
+  ROUND_ROBIN;
+}
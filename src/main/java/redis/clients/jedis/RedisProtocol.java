@@ -0,0 +1,25 @@
+package redis.clients.jedis;
+
+/**
+ * Version of the Redis serialization protocol spoken on a connection. RESP3 is negotiated with
+ * HELLO when the connection is opened; RESP2 needs no negotiation and works with every server.
+ */
+public enum RedisProtocol {
+  RESP2("2"),
+
+  /**
+   * Adds maps, sets, doubles, booleans, big numbers, verbatim strings and out-of-band push
+   * messages. Needs Redis 6.0 or later.
+   */
+  RESP3("3");
+
+  private final String version;
+
+  RedisProtocol(String version) {
+    this.version = version;
+  }
+
+  public String version() {
+    return version;
+  }
+}
@@ -1,53 +1,195 @@
 package redis.clients.jedis;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
 
 public class Response<T> {
+  private static final Logger logger = LoggerFactory.getLogger(Response.class);
+
   protected T response = null;
   protected JedisDataException exception = null;
+  private JedisException failure = null;
 
+  // guarded by this response, built on the thread calling set() for listeners
   private boolean building = false;
   private boolean built = false;
-  private boolean set = false;
+  private volatile boolean set = false;
 
   private Builder<T> builder;
   private Object data;
   private Response<?> dependency = null;
+  private List<BiConsumer<? super T, ? super JedisDataException>> listeners = null;
 
   public Response(Builder<T> b) {
     this.builder = b;
   }
 
+  /**
+   * @param data the reply, or the {@link JedisException} which prevented reading it, e.g. the
+   *          connection failing, thrown as is by {@link #get()}
+   */
   public void set(Object data) {
-    this.data = data;
-    set = true;
+    List<BiConsumer<? super T, ? super JedisDataException>> notified;
+    synchronized (this) {
+      this.data = data;
+      set = true;
+      notified = listeners;
+      listeners = null;
+    }
+    if (notified != null) {
+      for (BiConsumer<? super T, ? super JedisDataException> listener : notified) {
+        notify(listener);
+      }
+    }
   }
 
   public T get() {
+    Response<?> dependency;
+    synchronized (this) {
+      dependency = this.dependency;
+    }
     // if response has dependency response and dependency is not built, build it first and no more!!
-    if (dependency != null && dependency.set && !dependency.built) {
+    // outside of this monitor, building it sets this response
+    if (dependency != null && dependency.set) {
       dependency.build();
     }
-    if (!set) {
-      throw new IllegalStateException(
-          "Please close pipeline or multi block before calling this method.");
-    }
-    if (!built) {
+    T response;
+    JedisDataException exception;
+    JedisException failure;
+    // listeners build the reply on the thread reading it, the caller may be another one
+    synchronized (this) {
+      if (!set) {
+        throw new IllegalStateException(
+            "Please close pipeline or multi block before calling this method.");
+      }
       build();
+      response = this.response;
+      exception = this.exception;
+      failure = this.failure;
     }
     if (exception != null) {
       throw exception;
     }
+    if (failure != null) {
+      throw failure;
+    }
     return response;
   }
 
+  /**
+   * @return true if the reply was read, i.e. {@link #get()} no longer throws
+   *         {@link IllegalStateException}
+   */
+  boolean isSet() {
+    return set || (dependency != null && dependency.set);
+  }
+
+  /**
+   * Calls {@code listener} with the value, or the error, of the reply as soon as it is read, i.e.
+   * while the pipeline or the transaction is still reading the following replies, or right away if
+   * it already was. Listeners run on the thread reading the reply and must not block, the
+   * exceptions they throw are logged.
+   */
+  public Response<T> whenComplete(BiConsumer<? super T, ? super JedisDataException> listener) {
+    boolean complete;
+    Response<?> dependency = null;
+    synchronized (this) {
+      complete = isSet();
+      if (!complete) {
+        if (listeners == null) {
+          listeners = new ArrayList<>(2);
+        }
+        listeners.add(listener);
+        dependency = this.dependency;
+      }
+    }
+    if (complete) {
+      notify(listener);
+    } else if (dependency != null) {
+      // outside of this monitor, building the dependency sets this response
+      dependency.buildWhenSet();
+    }
+    return this;
+  }
+
+  /**
+   * Same as {@link #whenComplete(BiConsumer)}, ignoring error replies.
+   */
+  public Response<T> thenAccept(Consumer<? super T> action) {
+    return whenComplete((value, error) -> {
+      if (error == null) {
+        action.accept(value);
+      }
+    });
+  }
+
+  /**
+   * @return a future completed with the reply as soon as it is read, see
+   *         {@link #whenComplete(BiConsumer)}
+   */
+  public CompletableFuture<T> toCompletableFuture() {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    whenComplete((value, error) -> {
+      if (error != null) {
+        future.completeExceptionally(error);
+      } else {
+        future.complete(value);
+      }
+    });
+    return future;
+  }
+
   public void setDependency(Response<?> dependency) {
-    this.dependency = dependency;
+    synchronized (this) {
+      this.dependency = dependency;
+      if (listeners == null) {
+        return;
+      }
+    }
+    dependency.buildWhenSet();
+  }
+
+  /**
+   * Builds this response once set, which sets the responses depending on it and calls their
+   * listeners.
+   */
+  private void buildWhenSet() {
+    whenComplete((value, error) -> { });
+  }
+
+  private void notify(BiConsumer<? super T, ? super JedisDataException> listener) {
+    T value = null;
+    JedisDataException error = null;
+    try {
+      value = get();
+    } catch (JedisDataException e) {
+      error = e;
+    } catch (JedisException e) {
+      // the reply could not be read
+      error = new JedisDataException(e.getMessage(), e);
+    } catch (RuntimeException e) {
+      // the reply does not fit the builder, listeners only expect error replies
+      error = new JedisDataException("Could not build the reply.", e);
+    }
+    try {
+      listener.accept(value, error);
+    } catch (RuntimeException e) {
+      logger.warn("Error in a response listener.", e);
+    }
   }
 
-  private void build() {
+  private synchronized void build() {
     // check build state to prevent recursion
-    if (building) {
+    if (building || built) {
       return;
     }
 
@@ -56,6 +198,8 @@ public class Response<T> {
       if (data != null) {
         if (data instanceof JedisDataException) {
           exception = (JedisDataException) data;
+        } else if (data instanceof JedisException) {
+          failure = (JedisException) data;
         } else {
           response = builder.build(data);
         }
@@ -1,6 +1,7 @@
 package redis.clients.jedis;
 
 import java.io.Closeable;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,6 +27,7 @@ import redis.clients.jedis.params.LPosParams;
 import redis.clients.jedis.resps.KeyedListElement;
 import redis.clients.jedis.resps.LCSMatchResult;
 import redis.clients.jedis.util.Hashing;
+import redis.clients.jedis.util.ShardingStrategy;
 
 public class ShardedJedis extends BinaryShardedJedis implements JedisCommands, Closeable {
 
@@ -47,6 +49,15 @@ public class ShardedJedis extends BinaryShardedJedis implements JedisCommands, C
     super(shards, algo, keyTagPattern);
   }
 
+  public ShardedJedis(List<JedisShardInfo> shards, ShardingStrategy strategy) {
+    super(shards, strategy);
+  }
+
+  public ShardedJedis(List<JedisShardInfo> shards, ShardingStrategy strategy, Hashing algo,
+      Pattern keyTagPattern) {
+    super(shards, strategy, algo, keyTagPattern);
+  }
+
   @Override
   public String set(final String key, final String value) {
     Jedis j = getShard(key);
@@ -330,6 +341,56 @@ public class ShardedJedis extends BinaryShardedJedis implements JedisCommands, C
     return j.hexists(key, field);
   }
 
+  /**
+   * Same as {@link Jedis#mget(String...)}, reading the values of every shard concurrently.
+   * @return the values in the order of the keys
+   */
+  public List<String> mget(final String... keys) {
+    final String[] values = new String[keys.length];
+    runOnShards(groupByShard(keys), (shard, indexes) -> {
+      List<String> shardValues = shard.mget(select(keys, indexes));
+      for (int i = 0; i < indexes.length; i++) {
+        values[indexes[i]] = shardValues.get(i);
+      }
+      return null;
+    });
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Same as {@link Jedis#mset(String...)}, writing to every shard concurrently. The keys of each
+   * shard are set atomically, not across shards.
+   * @throws IllegalArgumentException when a key has no value
+   */
+  public String mset(final String... keysvalues) {
+    if (keysvalues.length % 2 != 0) {
+      throw new IllegalArgumentException("mset needs a value for every key.");
+    }
+    final String[] keys = new String[keysvalues.length / 2];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keysvalues[i * 2];
+    }
+    runOnShards(groupByShard(keys), (shard, indexes) -> shard.mset(selectPairs(keysvalues,
+      indexes)));
+    return "OK";
+  }
+
+  /**
+   * Same as {@link Jedis#del(String...)}, deleting from every shard concurrently.
+   */
+  public long del(final String... keys) {
+    return sum(runOnShards(groupByShard(keys),
+      (shard, indexes) -> shard.del(select(keys, indexes))));
+  }
+
+  /**
+   * Same as {@link Jedis#exists(String...)}, asking every shard concurrently.
+   */
+  public long exists(final String... keys) {
+    return sum(runOnShards(groupByShard(keys),
+      (shard, indexes) -> shard.exists(select(keys, indexes))));
+  }
+
   @Override
   public long del(final String key) {
     Jedis j = getShard(key);
@@ -0,0 +1,114 @@
+package redis.clients.jedis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * A pipeline over the shards of a {@link ShardedJedis}: every command is written to the
+ * {@link Pipeline} of the shard of its key. {@link #sync()} sends the commands of all the shards
+ * before reading any reply, so that the shards process them concurrently.
+ */
+public class ShardedJedisPipeline extends PipelineBase {
+
+  private BinaryShardedJedis jedis;
+  private final Map<Jedis, Pipeline> pipelines = new LinkedHashMap<>();
+  private final List<Response<?>> responses = new ArrayList<>();
+  private Pipeline current;
+
+  public void setShardedJedis(BinaryShardedJedis jedis) {
+    this.jedis = jedis;
+  }
+
+  @Override
+  protected Client getClient(String key) {
+    return select(jedis.getShard(key));
+  }
+
+  @Override
+  protected Client getClient(byte[] key) {
+    return select(jedis.getShard(key));
+  }
+
+  private Client select(Jedis shard) {
+    current = pipelines.get(shard);
+    if (current == null) {
+      current = shard.pipelined();
+      pipelines.put(shard, current);
+    }
+    return shard.getClient();
+  }
+
+  @Override
+  protected <T> Response<T> getResponse(Builder<T> builder) {
+    Response<T> response = current.getResponse(builder);
+    responses.add(response);
+    return response;
+  }
+
+  @Override
+  protected boolean hasPipelinedResponse() {
+    return !responses.isEmpty();
+  }
+
+  @Override
+  protected int getPipelinedResponseLength() {
+    return responses.size();
+  }
+
+  /**
+   * Reads the replies of all the shards. A shard failing does not keep the replies of the others
+   * from being read, its failure is thrown afterwards.
+   */
+  public void sync() {
+    JedisException failure = null;
+    try {
+      for (Jedis shard : pipelines.keySet()) {
+        try {
+          shard.getClient().flush();
+        } catch (JedisException e) {
+          failure = failure == null ? e : failure;
+        }
+      }
+      for (Pipeline pipeline : pipelines.values()) {
+        try {
+          pipeline.sync();
+        } catch (JedisException e) {
+          failure = failure == null ? e : failure;
+        }
+      }
+    } finally {
+      responses.clear();
+      current = null;
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Same as {@link #sync()}.
+   * @return the replies in the order the commands were executed, error replies included
+   */
+  public List<Object> syncAndReturnAll() {
+    if (responses.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Response<?>> executed = new ArrayList<>(responses);
+    sync();
+    List<Object> formatted = new ArrayList<>(executed.size());
+    for (Response<?> response : executed) {
+      try {
+        formatted.add(response.get());
+      } catch (JedisDataException e) {
+        formatted.add(e);
+      }
+    }
+    return formatted;
+  }
+}
@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import redis.clients.jedis.util.Hashing;
 import redis.clients.jedis.util.Pool;
+import redis.clients.jedis.util.ShardingStrategy;
 
 public class ShardedJedisPool extends Pool<ShardedJedis> {
 
@@ -37,6 +38,17 @@ public class ShardedJedisPool extends Pool<ShardedJedis> {
     this(poolConfig, new ShardedJedisFactory(shards, algo, keyTagPattern));
   }
 
+  public ShardedJedisPool(final GenericObjectPoolConfig<ShardedJedis> poolConfig,
+      List<JedisShardInfo> shards, ShardingStrategy strategy) {
+    this(poolConfig, shards, strategy, Hashing.MURMUR_HASH, null);
+  }
+
+  public ShardedJedisPool(final GenericObjectPoolConfig<ShardedJedis> poolConfig,
+      List<JedisShardInfo> shards, ShardingStrategy strategy, Hashing algo,
+      Pattern keyTagPattern) {
+    this(poolConfig, new ShardedJedisFactory(shards, strategy, algo, keyTagPattern));
+  }
+
   public ShardedJedisPool(final GenericObjectPoolConfig<ShardedJedis> poolConfig,
       PooledObjectFactory<ShardedJedis> shardedJedisPooledObjectFactory) {
     super(poolConfig, shardedJedisPooledObjectFactory);
@@ -63,18 +75,25 @@ public class ShardedJedisPool extends Pool<ShardedJedis> {
   public static class ShardedJedisFactory implements PooledObjectFactory<ShardedJedis> {
 
     private final List<JedisShardInfo> shards;
+    private final ShardingStrategy strategy;
     private final Hashing algo;
     private final Pattern keyTagPattern;
 
     public ShardedJedisFactory(List<JedisShardInfo> shards, Hashing algo, Pattern keyTagPattern) {
+      this(shards, ShardingStrategy.KETAMA, algo, keyTagPattern);
+    }
+
+    public ShardedJedisFactory(List<JedisShardInfo> shards, ShardingStrategy strategy,
+        Hashing algo, Pattern keyTagPattern) {
       this.shards = shards;
+      this.strategy = strategy;
       this.algo = algo;
       this.keyTagPattern = keyTagPattern;
     }
 
     @Override
     public PooledObject<ShardedJedis> makeObject() throws Exception {
-      ShardedJedis jedis = new ShardedJedis(shards, algo, keyTagPattern);
+      ShardedJedis jedis = new ShardedJedis(shards, strategy, algo, keyTagPattern);
       return new DefaultPooledObject<>(jedis);
     }
 
@@ -0,0 +1,387 @@
+package redis.clients.jedis;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Moves keys from the shards of a {@link ShardedJedisPool} to the shards of another one, for
+ * instance the same shards and a new one. Each shard of the old pool is scanned and only the keys
+ * the new pool places on another shard are moved: read with pipelined {@code DUMP} and
+ * {@code PTTL}, written with pipelined {@code RESTORE} on their new shard and then deleted.
+ * <p>
+ * While keys are moved, writes go to the new pool and reads go through
+ * {@link #read(String, Function)}, which falls back to the old shard. A key already written to its
+ * new shard is not overwritten by the older value being moved, which is dropped. Deletes must go
+ * through {@link #del(String)}: deleted from the new shard only, a key would still be read from,
+ * and then moved from, its old shard.
+ * <p>
+ * Keys are placed as the {@link String} commands of {@link ShardedJedis} place them, key tags
+ * included. Keys which are not valid UTF-8, and so can only have been written by the binary
+ * commands, are placed as those place them.
+ */
+public class ShardedJedisResharder {
+
+  private static final String BUSY_KEY_PREFIX = "BUSYKEY";
+
+  private final ShardedJedisPool oldPool;
+  private final ShardedJedisPool newPool;
+  private int concurrency = 4;
+  private int batchSize = 1000;
+  private long maxKeysPerSecond;
+
+  private final LongAdder scannedKeys = new LongAdder();
+  private final LongAdder movedKeys = new LongAdder();
+  private final LongAdder droppedKeys = new LongAdder();
+  /**
+   * The keys deleted through {@link #del(String)} while keys are being moved, which must not be
+   * restored on their new shard. Moves check them and restore under the read lock, deletes record
+   * them under the write lock.
+   */
+  private final Set<ByteBuffer> deletedKeys = ConcurrentHashMap.newKeySet();
+  private final ReadWriteLock deletedKeysLock = new ReentrantReadWriteLock();
+  private final AtomicInteger activeRuns = new AtomicInteger();
+  private final AtomicLong startedRuns = new AtomicLong();
+
+  public ShardedJedisResharder(ShardedJedisPool oldPool, ShardedJedisPool newPool) {
+    this.oldPool = oldPool;
+    this.newPool = newPool;
+  }
+
+  /**
+   * Sets how many shards are scanned at once, 4 by default.
+   */
+  public void setConcurrency(int concurrency) {
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("concurrency must be positive.");
+    }
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Sets the {@code COUNT} of each {@code SCAN}, which is also the most keys moved per pipeline,
+   * 1000 by default.
+   */
+  public void setBatchSize(int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be positive.");
+    }
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Limits the keys moved per second by all shards together, 0, the default, for no limit.
+   */
+  public void setMaxKeysPerSecond(long maxKeysPerSecond) {
+    if (maxKeysPerSecond < 0) {
+      throw new IllegalArgumentException("maxKeysPerSecond must not be negative.");
+    }
+    this.maxKeysPerSecond = maxKeysPerSecond;
+  }
+
+  /**
+   * Scans every shard of the old pool and moves the keys placed on another shard by the new pool.
+   * Every shard is scanned even if some fail, the first failure is then thrown. It can be run again
+   * to move the keys a failure left behind.
+   * @return the number of keys moved
+   */
+  public long reshard() {
+    int shards;
+    try (ShardedJedis jedis = oldPool.getResource()) {
+      shards = jedis.getAllShards().size();
+    }
+
+    final RateLimiter rateLimiter = maxKeysPerSecond > 0 ? new RateLimiter(maxKeysPerSecond)
+        : null;
+    long moved = movedKeys.sum();
+    startedRuns.incrementAndGet();
+    activeRuns.incrementAndGet();
+    int threads = Math.max(1, Math.min(concurrency, shards));
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "jedis-resharder");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<?>> tasks = new ArrayList<>(shards);
+      for (int i = 0; i < shards; i++) {
+        final int shard = i;
+        tasks.add(executor.submit(() -> reshard(shard, rateLimiter)));
+      }
+
+      JedisException failure = null;
+      for (Future<?> task : tasks) {
+        try {
+          task.get();
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause() instanceof JedisException ? (JedisException) e.getCause()
+                : new JedisException(e.getCause());
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new JedisException("Interrupted while resharding.", e);
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    } finally {
+      executor.shutdownNow();
+      if (activeRuns.decrementAndGet() == 0) {
+        deletedKeys.clear();
+      }
+    }
+    return movedKeys.sum() - moved;
+  }
+
+  private void reshard(int shard, RateLimiter rateLimiter) {
+    try (ShardedJedis oldJedis = oldPool.getResource();
+        ShardedJedis newJedis = newPool.getResource()) {
+      Jedis sourceJedis = new ArrayList<>(oldJedis.getAllShards()).get(shard);
+      ScanParams params = new ScanParams().count(batchSize);
+      byte[] cursor = ScanParams.SCAN_POINTER_START_BINARY;
+      do {
+        ScanResult<byte[]> page = sourceJedis.scan(cursor, params);
+        cursor = page.getCursorAsBytes();
+        scannedKeys.add(page.getResult().size());
+
+        List<byte[]> keys = new ArrayList<>();
+        for (byte[] key : page.getResult()) {
+          // keys which are not where the old pool would read them are left alone
+          if (isSameNode(sourceJedis, getShardInfo(oldJedis, key))
+              && !isSameNode(sourceJedis, getShardInfo(newJedis, key))) {
+            keys.add(key);
+          }
+        }
+        if (!keys.isEmpty()) {
+          if (rateLimiter != null) {
+            rateLimiter.acquire(keys.size());
+          }
+          move(sourceJedis, newJedis, keys);
+        }
+      } while (!ScanParams.SCAN_POINTER_START.equals(SafeEncoder.encode(cursor)));
+    }
+  }
+
+  private void move(Jedis source, ShardedJedis destinations, List<byte[]> keys) {
+    Pipeline dumps = source.pipelined();
+    List<Response<byte[]>> values = new ArrayList<>(keys.size());
+    List<Response<Long>> ttls = new ArrayList<>(keys.size());
+    for (byte[] key : keys) {
+      values.add(dumps.dump(key));
+      ttls.add(dumps.pttl(key));
+    }
+    dumps.sync();
+
+    Map<Jedis, Pipeline> restores = new IdentityHashMap<>();
+    List<byte[]> restoredKeys = new ArrayList<>(keys.size());
+    List<Response<String>> replies = new ArrayList<>(keys.size());
+    // a key deleted before this point is not restored, one deleted after it is deleted from its
+    // new shard once restored
+    Lock restoring = deletedKeysLock.readLock();
+    restoring.lock();
+    try {
+      for (int i = 0; i < keys.size(); i++) {
+        byte[] value = values.get(i).get();
+        long ttl = ttls.get(i).get();
+        if (value == null || ttl == -2 || deletedKeys.contains(ByteBuffer.wrap(keys.get(i)))) {
+          // expired or deleted since it was scanned
+          continue;
+        }
+        Jedis destination = getShard(destinations, keys.get(i));
+        Pipeline restore = restores.computeIfAbsent(destination, Jedis::pipelined);
+        restoredKeys.add(keys.get(i));
+        replies.add(restore.restore(keys.get(i), ttl < 0 ? 0 : ttl, value));
+      }
+      for (Pipeline restore : restores.values()) {
+        restore.sync();
+      }
+    } finally {
+      restoring.unlock();
+    }
+
+    List<byte[]> movedOrDropped = new ArrayList<>(restoredKeys.size());
+    for (int i = 0; i < restoredKeys.size(); i++) {
+      try {
+        replies.get(i).get();
+        movedKeys.increment();
+      } catch (JedisDataException e) {
+        if (e.getMessage() == null || !e.getMessage().startsWith(BUSY_KEY_PREFIX)) {
+          throw e;
+        }
+        // written to the new shard since, that value is more recent
+        droppedKeys.increment();
+      }
+      movedOrDropped.add(restoredKeys.get(i));
+    }
+    if (!movedOrDropped.isEmpty()) {
+      source.del(movedOrDropped.toArray(new byte[movedOrDropped.size()][]));
+    }
+  }
+
+  /**
+   * Runs a read command on the shard the new pool places the key on, and on the shard of the old
+   * pool if the key was not found there: null, false or an empty collection. The new shard is read
+   * again if the key was not found on the old one either, as it may have been moved meanwhile.
+   */
+  public <T> T read(String key, Function<Jedis, T> command) {
+    T reply;
+    try (ShardedJedis jedis = newPool.getResource()) {
+      reply = command.apply(jedis.getShard(key));
+      if (!isMissing(reply)) {
+        return reply;
+      }
+      try (ShardedJedis oldJedis = oldPool.getResource()) {
+        Jedis oldShard = oldJedis.getShard(key);
+        if (isSameNode(oldJedis.getShardInfo(key), jedis.getShardInfo(key))) {
+          return reply;
+        }
+        reply = command.apply(oldShard);
+      }
+      return isMissing(reply) ? command.apply(jedis.getShard(key)) : reply;
+    }
+  }
+
+  public String get(final String key) {
+    return read(key, jedis -> jedis.get(key));
+  }
+
+  /**
+   * Deletes the key from its shard in the new pool and from its shard in the old pool, also when
+   * it is being moved. While a run is in progress the key is recorded until the run ends, so that
+   * it is not restored on its new shard; a value written to the key after this call is kept.
+   * @return 1 if the key was deleted, 0 if it did not exist
+   */
+  public long del(final String key) {
+    ByteBuffer deletedKey = ByteBuffer.wrap(SafeEncoder.encode(key));
+    long runs = startedRuns.get();
+    // once recorded, moves no longer restore the key, and those which already did are done
+    Lock recording = deletedKeysLock.writeLock();
+    recording.lock();
+    try {
+      deletedKeys.add(deletedKey);
+    } finally {
+      recording.unlock();
+    }
+    try (ShardedJedis jedis = newPool.getResource();
+        ShardedJedis oldJedis = oldPool.getResource()) {
+      long deleted = jedis.getShard(key).del(key);
+      if (!isSameNode(oldJedis.getShardInfo(key), jedis.getShardInfo(key))) {
+        deleted += oldJedis.getShard(key).del(key);
+      }
+      return Math.min(deleted, 1);
+    } finally {
+      if (activeRuns.get() == 0 && startedRuns.get() == runs) {
+        // no move could have read the key meanwhile, the record is not needed
+        deletedKeys.remove(deletedKey);
+      }
+    }
+  }
+
+  public long getScannedKeys() {
+    return scannedKeys.sum();
+  }
+
+  public long getMovedKeys() {
+    return movedKeys.sum();
+  }
+
+  /**
+   * @return the keys deleted from their old shard without being moved, because they had been
+   *         written to their new shard meanwhile
+   */
+  public long getDroppedKeys() {
+    return droppedKeys.sum();
+  }
+
+  private static JedisShardInfo getShardInfo(ShardedJedis jedis, byte[] key) {
+    String name = toName(key);
+    return name != null ? jedis.getShardInfo(name) : jedis.getShardInfo(key);
+  }
+
+  private static Jedis getShard(ShardedJedis jedis, byte[] key) {
+    String name = toName(key);
+    return name != null ? jedis.getShard(name) : jedis.getShard(key);
+  }
+
+  /**
+   * @return the key as the String commands would have sent it, null if it is not valid UTF-8 and
+   *         so is placed as the binary commands place it
+   */
+  private static String toName(byte[] key) {
+    String name = SafeEncoder.encode(key);
+    return Arrays.equals(SafeEncoder.encode(name), key) ? name : null;
+  }
+
+  private static boolean isMissing(Object reply) {
+    return reply == null || Boolean.FALSE.equals(reply)
+        || reply instanceof Collection && ((Collection<?>) reply).isEmpty()
+        || reply instanceof Map && ((Map<?, ?>) reply).isEmpty();
+  }
+
+  private static boolean isSameNode(JedisShardInfo a, JedisShardInfo b) {
+    return a == b || a.getHost().equals(b.getHost()) && a.getPort() == b.getPort()
+        && a.getDb() == b.getDb();
+  }
+
+  private static boolean isSameNode(Jedis shard, JedisShardInfo shardInfo) {
+    Client client = shard.getClient();
+    return client.getHost().equals(shardInfo.getHost()) && client.getPort() == shardInfo.getPort()
+        && client.getDB() == shardInfo.getDb();
+  }
+
+  /**
+   * Spaces the permits evenly over time, shared by the shards being scanned.
+   */
+  private static class RateLimiter {
+    private final double nanosPerPermit;
+    private long nextFree = System.nanoTime();
+
+    RateLimiter(long permitsPerSecond) {
+      this.nanosPerPermit = (double) TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    }
+
+    void acquire(int permits) {
+      long wait;
+      synchronized (this) {
+        long now = System.nanoTime();
+        if (nextFree < now) {
+          nextFree = now;
+        }
+        wait = nextFree - now;
+        nextFree += (long) (permits * nanosPerPermit);
+      }
+      if (wait > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new JedisException("Interrupted while resharding.", e);
+        }
+      }
+    }
+  }
+}
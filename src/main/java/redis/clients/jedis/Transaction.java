@@ -39,7 +39,7 @@ public class Transaction extends MultiKeyPipelineBase implements Closeable {
 
   public List<Object> exec() {
     // Discard QUEUED or ERROR
-    client.getMany(getPipelinedResponseLength());
+    client.getMany(getPipelinedResponseLength(), reply -> { });
     client.exec();
     inTransaction = false;
 
@@ -60,7 +60,7 @@ public class Transaction extends MultiKeyPipelineBase implements Closeable {
 
   public List<Response<?>> execGetResponse() {
     // Discard QUEUED or ERROR
-    client.getMany(getPipelinedResponseLength());
+    client.getMany(getPipelinedResponseLength(), reply -> { });
     client.exec();
     inTransaction = false;
 
@@ -76,7 +76,7 @@ public class Transaction extends MultiKeyPipelineBase implements Closeable {
   }
 
   public String discard() {
-    client.getMany(getPipelinedResponseLength());
+    client.getMany(getPipelinedResponseLength(), reply -> { });
     client.discard();
     inTransaction = false;
     clean();
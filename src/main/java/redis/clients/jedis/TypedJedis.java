@@ -0,0 +1,373 @@
+package redis.clients.jedis;
+
+import static redis.clients.jedis.Protocol.Command.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import redis.clients.jedis.args.BulkSource;
+import redis.clients.jedis.codec.RedisCodec;
+
+/**
+ * Commands on keys and values of application types, converted by a {@link RedisCodec}. Keys and
+ * values are encoded straight into the output buffer of the connection and replies are decoded
+ * from views of its input buffer, without going through intermediate strings or byte arrays.
+ * <p>
+ * Commands are executed on a {@link Jedis}, which is not thread-safe, or on connections borrowed
+ * from a {@link JedisPool}. Like its own commands, a {@link Jedis} in a transaction or with
+ * pipelined commands pending is refused. See {@link TypedJedisCluster} for clusters.
+ */
+public class TypedJedis<K, V> {
+
+  private final JedisPool pool;
+  private final Jedis jedis;
+  protected final RedisCodec<K, V> codec;
+
+  public TypedJedis(Jedis jedis, RedisCodec<K, V> codec) {
+    this.pool = null;
+    this.jedis = jedis;
+    this.codec = codec;
+  }
+
+  public TypedJedis(JedisPool pool, RedisCodec<K, V> codec) {
+    this.pool = pool;
+    this.jedis = null;
+    this.codec = codec;
+  }
+
+  protected TypedJedis(RedisCodec<K, V> codec) {
+    this.pool = null;
+    this.jedis = null;
+    this.codec = codec;
+  }
+
+  public RedisCodec<K, V> getCodec() {
+    return codec;
+  }
+
+  public V get(final K key) {
+    return executeReadOnly(key, client -> {
+      client.sendCommand(GET, codec.encodeKey(key));
+      return decodeValue(client.getBulkReplyView());
+    });
+  }
+
+  public String set(final K key, final V value) {
+    return execute(key, client -> {
+      client.sendCommand(SET, codec.encodeKey(key), codec.encodeValue(value));
+      return client.getStatusCodeReply();
+    });
+  }
+
+  public String setex(final K key, final long seconds, final V value) {
+    return execute(key, client -> {
+      client.sendCommand(SETEX, codec.encodeKey(key), BulkSource.of(Protocol.toByteArray(seconds)),
+        codec.encodeValue(value));
+      return client.getStatusCodeReply();
+    });
+  }
+
+  public V getSet(final K key, final V value) {
+    return execute(key, client -> {
+      client.sendCommand(GETSET, codec.encodeKey(key), codec.encodeValue(value));
+      return decodeValue(client.getBulkReplyView());
+    });
+  }
+
+  /**
+   * The keys must hash to the same slot on a cluster.
+   */
+  @SafeVarargs
+  public final List<V> mget(final K... keys) {
+    // copied element by element, the varargs array itself must not escape
+    List<K> keyList = new ArrayList<>(keys.length);
+    for (K key : keys) {
+      keyList.add(key);
+    }
+    return executeReadOnly(keyList, client -> {
+      client.sendCommand(MGET, encodeKeys(keyList));
+      List<V> values = new ArrayList<>(keyList.size());
+      readElements(client, value -> values.add(decodeValue(value)));
+      return values;
+    });
+  }
+
+  /**
+   * The keys must hash to the same slot on a cluster.
+   */
+  public String mset(final Map<K, V> keysValues) {
+    return execute(keysValues.keySet(), client -> {
+      BulkSource[] args = new BulkSource[keysValues.size() * 2];
+      int i = 0;
+      for (Map.Entry<K, V> keyValue : keysValues.entrySet()) {
+        args[i++] = codec.encodeKey(keyValue.getKey());
+        args[i++] = codec.encodeValue(keyValue.getValue());
+      }
+      client.sendCommand(MSET, args);
+      return client.getStatusCodeReply();
+    });
+  }
+
+  public long del(final K key) {
+    return execute(key, client -> {
+      client.sendCommand(DEL, codec.encodeKey(key));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  /**
+   * The keys must hash to the same slot on a cluster.
+   */
+  @SafeVarargs
+  public final long del(final K... keys) {
+    List<K> keyList = new ArrayList<>(keys.length);
+    for (K key : keys) {
+      keyList.add(key);
+    }
+    return execute(keyList, client -> {
+      client.sendCommand(DEL, encodeKeys(keyList));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  public boolean exists(final K key) {
+    return executeReadOnly(key, client -> {
+      client.sendCommand(EXISTS, codec.encodeKey(key));
+      return client.getIntegerReplyAsLong() == 1;
+    });
+  }
+
+  public long expire(final K key, final long seconds) {
+    return execute(key, client -> {
+      client.sendCommand(EXPIRE, codec.encodeKey(key), BulkSource.of(Protocol.toByteArray(seconds)));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  public V hget(final K key, final K field) {
+    return executeReadOnly(key, client -> {
+      client.sendCommand(HGET, codec.encodeKey(key), codec.encodeKey(field));
+      return decodeValue(client.getBulkReplyView());
+    });
+  }
+
+  public long hset(final K key, final K field, final V value) {
+    return execute(key, client -> {
+      client.sendCommand(HSET, codec.encodeKey(key), codec.encodeKey(field),
+        codec.encodeValue(value));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  public long hset(final K key, final Map<K, V> hash) {
+    return execute(key, client -> {
+      BulkSource[] args = new BulkSource[hash.size() * 2 + 1];
+      int i = 0;
+      args[i++] = codec.encodeKey(key);
+      for (Map.Entry<K, V> fieldValue : hash.entrySet()) {
+        args[i++] = codec.encodeKey(fieldValue.getKey());
+        args[i++] = codec.encodeValue(fieldValue.getValue());
+      }
+      client.sendCommand(HSET, args);
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  public Map<K, V> hgetAll(final K key) {
+    return executeReadOnly(key, client -> {
+      client.sendCommand(HGETALL, codec.encodeKey(key));
+      Map<K, V> hash = new LinkedHashMap<>();
+      List<K> field = new ArrayList<>(1);
+      readElements(client, element -> {
+        if (field.isEmpty()) {
+          field.add(codec.decodeKey(element));
+        } else {
+          hash.put(field.remove(0), decodeValue(element));
+        }
+      });
+      return hash;
+    });
+  }
+
+  @SafeVarargs
+  public final long hdel(final K key, final K... fields) {
+    return execute(key, client -> {
+      BulkSource[] args = new BulkSource[fields.length + 1];
+      args[0] = codec.encodeKey(key);
+      for (int i = 0; i < fields.length; i++) {
+        args[i + 1] = codec.encodeKey(fields[i]);
+      }
+      client.sendCommand(HDEL, args);
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  @SafeVarargs
+  public final long lpush(final K key, final V... values) {
+    List<V> valueList = new ArrayList<>(values.length);
+    for (V value : values) {
+      valueList.add(value);
+    }
+    return execute(key, client -> {
+      client.sendCommand(LPUSH, encodeKeyAndValues(key, valueList));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  @SafeVarargs
+  public final long rpush(final K key, final V... values) {
+    List<V> valueList = new ArrayList<>(values.length);
+    for (V value : values) {
+      valueList.add(value);
+    }
+    return execute(key, client -> {
+      client.sendCommand(RPUSH, encodeKeyAndValues(key, valueList));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  public V lpop(final K key) {
+    return execute(key, client -> {
+      client.sendCommand(LPOP, codec.encodeKey(key));
+      return decodeValue(client.getBulkReplyView());
+    });
+  }
+
+  public V rpop(final K key) {
+    return execute(key, client -> {
+      client.sendCommand(RPOP, codec.encodeKey(key));
+      return decodeValue(client.getBulkReplyView());
+    });
+  }
+
+  public List<V> lrange(final K key, final long start, final long stop) {
+    return executeReadOnly(key, client -> {
+      client.sendCommand(LRANGE, codec.encodeKey(key), BulkSource.of(Protocol.toByteArray(start)),
+        BulkSource.of(Protocol.toByteArray(stop)));
+      List<V> values = new ArrayList<>();
+      readElements(client, value -> values.add(decodeValue(value)));
+      return values;
+    });
+  }
+
+  @SafeVarargs
+  public final long sadd(final K key, final V... members) {
+    List<V> memberList = new ArrayList<>(members.length);
+    for (V member : members) {
+      memberList.add(member);
+    }
+    return execute(key, client -> {
+      client.sendCommand(SADD, encodeKeyAndValues(key, memberList));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  @SafeVarargs
+  public final long srem(final K key, final V... members) {
+    List<V> memberList = new ArrayList<>(members.length);
+    for (V member : members) {
+      memberList.add(member);
+    }
+    return execute(key, client -> {
+      client.sendCommand(SREM, encodeKeyAndValues(key, memberList));
+      return client.getIntegerReplyAsLong();
+    });
+  }
+
+  public Set<V> smembers(final K key) {
+    return executeReadOnly(key, client -> {
+      client.sendCommand(SMEMBERS, codec.encodeKey(key));
+      Set<V> members = new LinkedHashSet<>();
+      readElements(client, member -> members.add(decodeValue(member)));
+      return members;
+    });
+  }
+
+  public boolean sismember(final K key, final V member) {
+    return executeReadOnly(key, client -> {
+      client.sendCommand(SISMEMBER, codec.encodeKey(key), codec.encodeValue(member));
+      return client.getIntegerReplyAsLong() == 1;
+    });
+  }
+
+  /**
+   * Executes a command on {@code key}, reading its reply before the connection is released.
+   */
+  protected <T> T execute(K key, Function<Client, T> command) {
+    return execute(command);
+  }
+
+  protected <T> T execute(Collection<K> keys, Function<Client, T> command) {
+    return execute(command);
+  }
+
+  /**
+   * Same as {@link #execute(Object, Function)} for commands which may be served by a replica.
+   */
+  protected <T> T executeReadOnly(K key, Function<Client, T> command) {
+    return execute(command);
+  }
+
+  protected <T> T executeReadOnly(Collection<K> keys, Function<Client, T> command) {
+    return execute(command);
+  }
+
+  private <T> T execute(Function<Client, T> command) {
+    if (pool == null) {
+      jedis.checkIsInMultiOrPipeline();
+      return command.apply(jedis.getClient());
+    }
+    try (Jedis connection = pool.getResource()) {
+      return command.apply(connection.getClient());
+    }
+  }
+
+  /**
+   * Hands the elements of a multi bulk reply to the decoder. When decoding fails the reply is still
+   * read to its end, so that the connection can be used again, and the first failure is thrown.
+   */
+  private static void readElements(Client client, Consumer<ByteBuffer> decoder) {
+    RuntimeException[] failure = new RuntimeException[1];
+    client.getMultiBulkReplyViews(element -> {
+      if (failure[0] == null) {
+        try {
+          decoder.accept(element);
+        } catch (RuntimeException e) {
+          failure[0] = e;
+        }
+      }
+    });
+    if (failure[0] != null) {
+      throw failure[0];
+    }
+  }
+
+  private V decodeValue(ByteBuffer value) {
+    return value == null ? null : codec.decodeValue(value);
+  }
+
+  private BulkSource[] encodeKeys(List<K> keys) {
+    BulkSource[] args = new BulkSource[keys.size()];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = codec.encodeKey(keys.get(i));
+    }
+    return args;
+  }
+
+  private BulkSource[] encodeKeyAndValues(K key, List<V> values) {
+    BulkSource[] args = new BulkSource[values.size() + 1];
+    args[0] = codec.encodeKey(key);
+    for (int i = 0; i < values.size(); i++) {
+      args[i + 1] = codec.encodeValue(values.get(i));
+    }
+    return args;
+  }
+}
@@ -0,0 +1,69 @@
+package redis.clients.jedis;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import redis.clients.jedis.codec.Codecs;
+import redis.clients.jedis.codec.RedisCodec;
+
+/**
+ * Same as {@link TypedJedis}, routing every command to the node serving the slot of its key.
+ * Read-only commands follow the {@link ReadFrom} of the cluster. Commands on several keys require
+ * them to hash to the same slot.
+ */
+public class TypedJedisCluster<K, V> extends TypedJedis<K, V> {
+
+  private final BinaryJedisCluster cluster;
+
+  public TypedJedisCluster(BinaryJedisCluster cluster, RedisCodec<K, V> codec) {
+    super(codec);
+    this.cluster = cluster;
+  }
+
+  @Override
+  protected <T> T execute(K key, Function<Client, T> command) {
+    return clusterCommand(command).runBinary(encodeKey(key));
+  }
+
+  @Override
+  protected <T> T execute(Collection<K> keys, Function<Client, T> command) {
+    return clusterCommand(command).runBinary(keys.size(), encodeKeys(keys));
+  }
+
+  @Override
+  protected <T> T executeReadOnly(K key, Function<Client, T> command) {
+    return clusterCommand(command).runBinaryReadOnly(encodeKey(key));
+  }
+
+  @Override
+  protected <T> T executeReadOnly(Collection<K> keys, Function<Client, T> command) {
+    return clusterCommand(command).runBinaryReadOnly(keys.size(), encodeKeys(keys));
+  }
+
+  private <T> JedisClusterCommand<T> clusterCommand(final Function<Client, T> command) {
+    return new JedisClusterCommand<T>(cluster.connectionHandler, cluster.maxAttempts,
+        cluster.maxTotalRetriesDuration) {
+      @Override
+      public T execute(Jedis connection) {
+        return command.apply(connection.getClient());
+      }
+    };
+  }
+
+  /**
+   * Encodes a key once more to find its slot, keys being short this costs less than keeping
+   * encoded copies along the commands.
+   */
+  private byte[] encodeKey(K key) {
+    return Codecs.toByteArray(codec.encodeKey(key));
+  }
+
+  private byte[][] encodeKeys(Collection<K> keys) {
+    byte[][] encoded = new byte[keys.size()][];
+    int i = 0;
+    for (K key : keys) {
+      encoded[i++] = encodeKey(key);
+    }
+    return encoded;
+  }
+}
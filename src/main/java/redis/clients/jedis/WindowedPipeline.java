@@ -0,0 +1,178 @@
+package redis.clients.jedis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * A pipeline whose replies are read by a second thread while commands are still being written, so
+ * that neither side stalls on full socket buffers and links with a high latency are kept busy in
+ * both directions. At most {@code window} commands are flushed and not yet answered, the writer
+ * waits for the reader beyond that.
+ * <p>
+ * Commands are sent in groups of a quarter of the window, and a group is only flushed once the
+ * window has room for all of it. A group larger than the output buffer of the connection is partly
+ * written while it is being queued, so the window is exceeded by up to one buffer of commands.
+ * Responses are set by the reader thread and can be read once {@link #sync()} returned. MULTI
+ * blocks and {@link #syncAndReturnAll()} are not supported.
+ */
+public class WindowedPipeline extends Pipeline {
+
+  private static final Response<?> END = new Response<>(null);
+
+  private final int batch;
+  private final List<Response<?>> unsent;
+  private final BlockingQueue<Response<?>> inFlight = new LinkedBlockingQueue<>();
+  /**
+   * One permit per command which can still be flushed, released once its reply is read.
+   */
+  private final Semaphore window;
+  private Thread reader;
+  private volatile JedisException failure;
+
+  /**
+   * @param window maximum number of commands sent and not yet answered
+   */
+  public WindowedPipeline(int window) {
+    if (window <= 0) {
+      throw new IllegalArgumentException("window must be positive.");
+    }
+    this.window = new Semaphore(window);
+    this.batch = Math.max(1, window / 4);
+    this.unsent = new ArrayList<>(batch);
+  }
+
+  @Override
+  protected <T> Response<T> getResponse(Builder<T> builder) {
+    Response<T> response = new Response<>(builder);
+    unsent.add(response);
+    if (unsent.size() >= batch) {
+      send();
+    }
+    return response;
+  }
+
+  /**
+   * Waits until the window has room for the commands written so far, hands their responses to the
+   * reader and flushes them.
+   */
+  private void send() {
+    checkFailure();
+    if (reader == null) {
+      reader = new Thread(this::readReplies, "jedis-pipeline-reader");
+      reader.setDaemon(true);
+      reader.start();
+    }
+    try {
+      window.acquire(unsent.size());
+      inFlight.addAll(unsent);
+      client.flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // replies of commands already written would be lost
+      failure = new JedisException("Interrupted while waiting for replies.", e);
+      throw failure;
+    } finally {
+      unsent.clear();
+    }
+  }
+
+  private void readReplies() {
+    try {
+      Response<?> response;
+      while ((response = inFlight.take()) != END) {
+        try {
+          // after a failure, keeps taking so that the writer never waits for a dead reader
+          if (failure == null) {
+            read(response);
+          }
+        } finally {
+          window.release();
+        }
+      }
+    } catch (InterruptedException e) {
+      failure = new JedisConnectionException("Reader interrupted.", e);
+    }
+  }
+
+  private void read(Response<?> response) {
+    Object data;
+    try {
+      data = client.readProtocolWithCheckingBroken();
+    } catch (JedisDataException e) {
+      data = e;
+    } catch (JedisException e) {
+      failure = e;
+      return;
+    }
+    response.set(data);
+  }
+
+  /**
+   * Sends the remaining commands and waits until all the replies are read.
+   */
+  @Override
+  public void sync() {
+    if (unsent.isEmpty() && reader == null) {
+      return;
+    }
+    try {
+      if (!unsent.isEmpty()) {
+        send();
+      }
+    } finally {
+      stopReader();
+    }
+    checkFailure();
+  }
+
+  private void stopReader() {
+    unsent.clear();
+    if (reader == null) {
+      return;
+    }
+    try {
+      inFlight.put(END);
+      reader.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // the reader may still be reading, the connection cannot be used anymore
+      failure = new JedisException("Interrupted while waiting for replies.", e);
+    } finally {
+      reader = null;
+    }
+  }
+
+  private void checkFailure() {
+    if (failure != null) {
+      unsent.clear();
+      throw failure;
+    }
+  }
+
+  @Override
+  protected boolean hasPipelinedResponse() {
+    return !unsent.isEmpty() || reader != null;
+  }
+
+  @Override
+  protected int getPipelinedResponseLength() {
+    return unsent.size() + inFlight.size();
+  }
+
+  @Override
+  public List<Object> syncAndReturnAll() {
+    throw new UnsupportedOperationException("Use sync() and the responses of the commands.");
+  }
+
+  @Override
+  public Response<String> multi() {
+    throw new UnsupportedOperationException("MULTI is not supported in a windowed pipeline.");
+  }
+}
@@ -0,0 +1,91 @@
+package redis.clients.jedis.args;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import redis.clients.jedis.util.RedisOutputStream;
+
+/**
+ * A command argument of known length which is written to the connection from its source, so that
+ * large values such as files never have to be loaded in memory as a whole.
+ * <p>
+ * The length is sent before the value: a source failing, or holding fewer bytes than announced,
+ * leaves the connection broken.
+ */
+public interface BulkSource {
+
+  long length();
+
+  void writeTo(RedisOutputStream out) throws IOException;
+
+  static BulkSource of(final byte[] value) {
+    return new BulkSource() {
+      @Override
+      public long length() {
+        return value.length;
+      }
+
+      @Override
+      public void writeTo(RedisOutputStream out) throws IOException {
+        out.write(value);
+      }
+    };
+  }
+
+  /**
+   * @param length number of bytes read from {@code in}, which is not closed
+   */
+  static BulkSource of(final InputStream in, final long length) {
+    return new BulkSource() {
+      @Override
+      public long length() {
+        return length;
+      }
+
+      @Override
+      public void writeTo(RedisOutputStream out) throws IOException {
+        out.write(in, length);
+      }
+    };
+  }
+
+  /**
+   * The remaining bytes of {@code value}, which are consumed when written.
+   */
+  static BulkSource of(final ByteBuffer value) {
+    return new BulkSource() {
+      @Override
+      public long length() {
+        return value.remaining();
+      }
+
+      @Override
+      public void writeTo(RedisOutputStream out) throws IOException {
+        out.write(value);
+      }
+    };
+  }
+
+  /**
+   * {@code length} bytes of the file starting at {@code position}.
+   */
+  static BulkSource of(final FileChannel channel, final long position, final long length) {
+    return new BulkSource() {
+      @Override
+      public long length() {
+        return length;
+      }
+
+      @Override
+      public void writeTo(RedisOutputStream out) throws IOException {
+        out.write(channel, position, length);
+      }
+    };
+  }
+
+  static BulkSource of(final FileChannel channel) throws IOException {
+    return of(channel, 0, channel.size());
+  }
+}
@@ -0,0 +1,24 @@
+package redis.clients.jedis.codec;
+
+import java.nio.ByteBuffer;
+
+import redis.clients.jedis.args.BulkSource;
+
+/**
+ * Converts objects of one type to and from the bytes stored by Redis. Encoded objects are written
+ * straight into the output buffer of the connection and replies are decoded from views of its
+ * input buffer, see {@link Codecs} for the usual encodings.
+ */
+public interface Codec<T> {
+
+  /**
+   * @return the argument writing {@code value}, whose length is known before it is written
+   */
+  BulkSource encode(T value);
+
+  /**
+   * @param bytes a view of the value which is only valid during the call, its backing array is
+   *          usually accessible
+   */
+  T decode(ByteBuffer bytes);
+}
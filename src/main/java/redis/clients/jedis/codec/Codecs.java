@@ -0,0 +1,189 @@
+package redis.clients.jedis.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.args.BulkSource;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.RedisOutputStream;
+
+/**
+ * The codecs of the encodings Redis itself understands.
+ */
+public final class Codecs {
+
+  /**
+   * Strings encoded in UTF-8, as {@link redis.clients.jedis.Jedis} sends them.
+   */
+  public static final Codec<String> UTF8 = new Codec<String>() {
+    @Override
+    public BulkSource encode(final String value) {
+      if (value == null) {
+        throw new IllegalArgumentException("null value cannot be sent to redis");
+      }
+      final int length = RedisOutputStream.utf8Length(value);
+      return new BulkSource() {
+        @Override
+        public long length() {
+          return length;
+        }
+
+        @Override
+        public void writeTo(RedisOutputStream out) throws IOException {
+          out.writeUtf8(value);
+        }
+      };
+    }
+
+    @Override
+    public String decode(final ByteBuffer bytes) {
+      if (bytes.hasArray()) {
+        return new String(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining(),
+            StandardCharsets.UTF_8);
+      }
+      return new String(toByteArray(bytes), StandardCharsets.UTF_8);
+    }
+  };
+
+  /**
+   * Raw bytes, sent and returned as they are.
+   */
+  public static final Codec<byte[]> BYTES = new Codec<byte[]>() {
+    @Override
+    public BulkSource encode(final byte[] value) {
+      if (value == null) {
+        throw new IllegalArgumentException("null value cannot be sent to redis");
+      }
+      return BulkSource.of(value);
+    }
+
+    @Override
+    public byte[] decode(final ByteBuffer bytes) {
+      return toByteArray(bytes);
+    }
+  };
+
+  /**
+   * Integers in decimal, as INCR and DECR read and write them.
+   */
+  public static final Codec<Long> LONG = new Codec<Long>() {
+    @Override
+    public BulkSource encode(final Long value) {
+      final long primitive = value;
+      final int length = RedisOutputStream.longLength(primitive);
+      return new BulkSource() {
+        @Override
+        public long length() {
+          return length;
+        }
+
+        @Override
+        public void writeTo(RedisOutputStream out) throws IOException {
+          out.writeLong(primitive);
+        }
+      };
+    }
+
+    @Override
+    public Long decode(final ByteBuffer bytes) {
+      final int end = bytes.limit();
+      int i = bytes.position();
+      final boolean negative = end - i > 1 && bytes.get(i) == '-';
+      if (negative) {
+        i++;
+      }
+      if (i == end) {
+        throw notA("integer", bytes);
+      }
+      // accumulated negatively so that Long.MIN_VALUE fits
+      long value = 0;
+      for (; i < end; i++) {
+        final int digit = bytes.get(i) - '0';
+        if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10) {
+          throw notA("integer", bytes);
+        }
+        value = value * 10 - digit;
+      }
+      if (!negative) {
+        if (value == Long.MIN_VALUE) {
+          throw notA("integer", bytes);
+        }
+        value = -value;
+      }
+      return value;
+    }
+  };
+
+  /**
+   * Floating point numbers, as INCRBYFLOAT reads and writes them, infinities included.
+   */
+  public static final Codec<Double> DOUBLE = new Codec<Double>() {
+    @Override
+    public BulkSource encode(final Double value) {
+      return BulkSource.of(Protocol.toByteArray(value));
+    }
+
+    @Override
+    public Double decode(final ByteBuffer bytes) {
+      final String string;
+      if (bytes.hasArray()) {
+        string = new String(bytes.array(), bytes.arrayOffset() + bytes.position(),
+            bytes.remaining(), StandardCharsets.US_ASCII);
+      } else {
+        string = new String(toByteArray(bytes), StandardCharsets.US_ASCII);
+      }
+      switch (string) {
+        case "inf":
+        case "+inf":
+          return Double.POSITIVE_INFINITY;
+        case "-inf":
+          return Double.NEGATIVE_INFINITY;
+        default:
+          try {
+            return Double.valueOf(string);
+          } catch (NumberFormatException e) {
+            throw notA("double", bytes);
+          }
+      }
+    }
+  };
+
+  private Codecs() {
+    throw new InstantiationError("Must not instantiate this class");
+  }
+
+  /**
+   * Writes {@code source} to an array, e.g. to send an encoded value through a client taking byte
+   * arrays.
+   */
+  public static byte[] toByteArray(final BulkSource source) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) source.length());
+    final RedisOutputStream out = new RedisOutputStream(bytes,
+        (int) Math.max(16, Math.min(source.length(), 8192)));
+    try {
+      source.writeTo(out);
+      out.flush();
+    } catch (IOException e) {
+      throw new JedisException("Could not encode the value.", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Copies the remaining bytes of {@code bytes}, leaving its position unchanged.
+   */
+  public static byte[] toByteArray(final ByteBuffer bytes) {
+    final byte[] array = new byte[bytes.remaining()];
+    bytes.duplicate().get(array);
+    return array;
+  }
+
+  private static JedisDataException notA(final String type, final ByteBuffer bytes) {
+    return new JedisDataException("Value is not a " + type + ": "
+        + new String(toByteArray(bytes), StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,145 @@
+package redis.clients.jedis.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import redis.clients.jedis.args.BulkSource;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.RedisOutputStream;
+
+/**
+ * Compresses the values of another codec from a given size on. Every value starts with a header
+ * byte: 0 for values stored as they are, followed by their encoding, or the id of the
+ * {@link Compressor}, followed by the length of the encoding on four bytes and the compressed
+ * encoding. Values which do not shrink are stored as they are.
+ * <p>
+ * Values are stored in this format only, reading values written without it fails. Clients other
+ * than {@link redis.clients.jedis.TypedJedis} such as {@link redis.clients.jedis.BinaryJedis},
+ * {@link redis.clients.jedis.JedisCluster} or pipelines can write values with
+ * {@code Codecs.toByteArray(codec.encode(value))} and read them with
+ * {@code codec.decode(ByteBuffer.wrap(bytes))}.
+ * <p>
+ * The length stored in the header is checked before the value is decompressed, against a maximum
+ * and against what the compressed bytes can decompress to, so that a corrupted header cannot
+ * allocate more memory than that.
+ */
+public class CompressingCodec<T> implements Codec<T>, Closeable {
+
+  public static final int DEFAULT_THRESHOLD = 1024;
+
+  /**
+   * The largest value Redis accepts by default, see its {@code proto-max-bulk-len} setting.
+   */
+  public static final int DEFAULT_MAX_LENGTH = 512 * 1024 * 1024;
+
+  private static final byte STORED = 0;
+
+  private final Codec<T> codec;
+  private final Compressor compressor;
+  private final int threshold;
+  private final int maxLength;
+
+  public CompressingCodec(Codec<T> codec) {
+    this(codec, new DeflateCompressor(), DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * @param threshold encodings shorter than this number of bytes are not compressed
+   */
+  public CompressingCodec(Codec<T> codec, Compressor compressor, int threshold) {
+    this(codec, compressor, threshold, DEFAULT_MAX_LENGTH);
+  }
+
+  /**
+   * @param threshold encodings shorter than this number of bytes are not compressed
+   * @param maxLength the longest encoding a compressed value may decompress to
+   */
+  public CompressingCodec(Codec<T> codec, Compressor compressor, int threshold, int maxLength) {
+    if (compressor.getId() == STORED) {
+      throw new IllegalArgumentException("Compressor id 0 is reserved.");
+    }
+    if (maxLength < 0) {
+      throw new IllegalArgumentException("maxLength must not be negative.");
+    }
+    this.codec = codec;
+    this.compressor = compressor;
+    this.threshold = threshold;
+    this.maxLength = maxLength;
+  }
+
+  @Override
+  public BulkSource encode(final T value) {
+    final BulkSource encoded = codec.encode(value);
+    if (encoded.length() < threshold) {
+      return stored(encoded);
+    }
+    final byte[] bytes = Codecs.toByteArray(encoded);
+    final byte[] compressed = compressor.compress(ByteBuffer.wrap(bytes));
+    if (compressed.length + 4 >= bytes.length) {
+      return stored(BulkSource.of(bytes));
+    }
+    return new BulkSource() {
+      @Override
+      public long length() {
+        return compressed.length + 5;
+      }
+
+      @Override
+      public void writeTo(RedisOutputStream out) throws IOException {
+        out.write(compressor.getId());
+        out.write((byte) (bytes.length >>> 24));
+        out.write((byte) (bytes.length >>> 16));
+        out.write((byte) (bytes.length >>> 8));
+        out.write((byte) bytes.length);
+        out.write(compressed);
+      }
+    };
+  }
+
+  @Override
+  public T decode(final ByteBuffer bytes) {
+    if (!bytes.hasRemaining()) {
+      throw new JedisDataException("Value has no compression header.");
+    }
+    final ByteBuffer payload = bytes.duplicate();
+    final byte header = payload.get();
+    if (header == STORED) {
+      return codec.decode(payload);
+    }
+    if (header != compressor.getId() || payload.remaining() < 4) {
+      throw new JedisDataException("Unknown compression header: " + header);
+    }
+    final int length = payload.getInt();
+    if (length < 0 || length > maxLength
+        || length > compressor.getMaxDecompressedLength(payload.remaining())) {
+      throw new JedisDataException("Invalid compressed length: " + length);
+    }
+    final byte[] decompressed = new byte[length];
+    compressor.decompress(payload, decompressed);
+    return codec.decode(ByteBuffer.wrap(decompressed));
+  }
+
+  /**
+   * Closes the compressor.
+   */
+  @Override
+  public void close() {
+    compressor.close();
+  }
+
+  private static BulkSource stored(final BulkSource encoded) {
+    return new BulkSource() {
+      @Override
+      public long length() {
+        return encoded.length() + 1;
+      }
+
+      @Override
+      public void writeTo(RedisOutputStream out) throws IOException {
+        out.write(STORED);
+        encoded.writeTo(out);
+      }
+    };
+  }
+}
@@ -0,0 +1,43 @@
+package redis.clients.jedis.codec;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+
+/**
+ * A compression algorithm for {@link CompressingCodec}. The JDK's is {@link DeflateCompressor},
+ * faster ones such as LZ4 can be plugged in by implementing this interface over their library.
+ */
+public interface Compressor extends Closeable {
+
+  /**
+   * @return the header byte marking the values compressed by this compressor, other than 0 which
+   *         marks values stored as they are
+   */
+  byte getId();
+
+  /**
+   * @return the compressed remaining bytes of {@code src}
+   */
+  byte[] compress(ByteBuffer src);
+
+  /**
+   * Decompresses the remaining bytes of {@code src}, filling {@code dest} which has the length of
+   * the original value.
+   */
+  void decompress(ByteBuffer src, byte[] dest);
+
+  /**
+   * @return the longest value {@code compressedLength} bytes can decompress to, which lets
+   *         corrupted lengths be rejected before allocating them
+   */
+  default long getMaxDecompressedLength(int compressedLength) {
+    return Long.MAX_VALUE;
+  }
+
+  /**
+   * Releases the resources held by the compressor, e.g. native memory.
+   */
+  @Override
+  default void close() {
+  }
+}
@@ -0,0 +1,147 @@
+package redis.clients.jedis.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Compresses values with the JDK's {@link Deflater}, without zlib header nor checksum. Deflaters
+ * hold native memory and are costly to create: a few are kept for reuse, the others are ended
+ * after use. {@link #close()} ends the ones kept.
+ */
+public class DeflateCompressor implements Compressor {
+
+  public static final byte ID = 1;
+
+  /**
+   * Deflate cannot shrink data by more than 1032 to 1.
+   */
+  private static final int MAX_RATIO = 1032;
+
+  private final int level;
+  private final BlockingQueue<Deflater> deflaters;
+  private final BlockingQueue<Inflater> inflaters;
+  private volatile boolean closed;
+
+  public DeflateCompressor() {
+    this(Deflater.BEST_SPEED);
+  }
+
+  /**
+   * @param level from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+   */
+  public DeflateCompressor(final int level) {
+    this(level, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param level from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+   * @param maxIdle how many deflaters and inflaters are kept for reuse
+   */
+  public DeflateCompressor(final int level, final int maxIdle) {
+    if (maxIdle <= 0) {
+      throw new IllegalArgumentException("maxIdle must be positive.");
+    }
+    this.level = level;
+    this.deflaters = new ArrayBlockingQueue<>(maxIdle);
+    this.inflaters = new ArrayBlockingQueue<>(maxIdle);
+  }
+
+  @Override
+  public byte getId() {
+    return ID;
+  }
+
+  @Override
+  public byte[] compress(final ByteBuffer src) {
+    final Deflater deflater = borrow(deflaters, () -> new Deflater(level, true));
+    try {
+      final int len = src.remaining();
+      if (src.hasArray()) {
+        deflater.setInput(src.array(), src.arrayOffset() + src.position(), len);
+      } else {
+        deflater.setInput(Codecs.toByteArray(src));
+      }
+      deflater.finish();
+      final ByteArrayOutputStream out = new ByteArrayOutputStream(len / 2 + 16);
+      final byte[] chunk = new byte[Math.min(Math.max(len, 64), 8192)];
+      while (!deflater.finished()) {
+        out.write(chunk, 0, deflater.deflate(chunk));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.reset();
+      release(deflaters, deflater, Deflater::end);
+    }
+  }
+
+  @Override
+  public void decompress(final ByteBuffer src, final byte[] dest) {
+    final Inflater inflater = borrow(inflaters, () -> new Inflater(true));
+    try {
+      if (src.hasArray()) {
+        inflater.setInput(src.array(), src.arrayOffset() + src.position(), src.remaining());
+      } else {
+        inflater.setInput(Codecs.toByteArray(src));
+      }
+      int offset = 0;
+      while (offset < dest.length && !inflater.finished()) {
+        final int inflated = inflater.inflate(dest, offset, dest.length - offset);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        offset += inflated;
+      }
+      if (offset != dest.length) {
+        throw new JedisDataException("Compressed value is truncated.");
+      }
+    } catch (DataFormatException e) {
+      throw new JedisDataException("Compressed value is corrupted.", e);
+    } finally {
+      inflater.reset();
+      release(inflaters, inflater, Inflater::end);
+    }
+  }
+
+  @Override
+  public long getMaxDecompressedLength(final int compressedLength) {
+    return (long) compressedLength * MAX_RATIO;
+  }
+
+  /**
+   * Ends the deflaters and inflaters kept for reuse, and those in use once they are released.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    endAll(deflaters, Deflater::end);
+    endAll(inflaters, Inflater::end);
+  }
+
+  private static <T> T borrow(final BlockingQueue<T> idle, final Supplier<T> factory) {
+    final T instance = idle.poll();
+    return instance != null ? instance : factory.get();
+  }
+
+  private <T> void release(final BlockingQueue<T> idle, final T instance, final Consumer<T> end) {
+    if (!idle.offer(instance)) {
+      end.accept(instance);
+    } else if (closed) {
+      endAll(idle, end);
+    }
+  }
+
+  private static <T> void endAll(final BlockingQueue<T> idle, final Consumer<T> end) {
+    for (T instance = idle.poll(); instance != null; instance = idle.poll()) {
+      end.accept(instance);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package redis.clients.jedis.codec;
+
+import java.nio.ByteBuffer;
+
+import redis.clients.jedis.args.BulkSource;
+
+/**
+ * Encodes the keys and the values of a typed client. Hash fields are encoded as keys.
+ * @see Codec
+ */
+public interface RedisCodec<K, V> {
+
+  BulkSource encodeKey(K key);
+
+  K decodeKey(ByteBuffer bytes);
+
+  BulkSource encodeValue(V value);
+
+  V decodeValue(ByteBuffer bytes);
+
+  static <T> RedisCodec<T, T> of(final Codec<T> codec) {
+    return of(codec, codec);
+  }
+
+  static <K, V> RedisCodec<K, V> of(final Codec<K> keyCodec, final Codec<V> valueCodec) {
+    return new RedisCodec<K, V>() {
+      @Override
+      public BulkSource encodeKey(K key) {
+        return keyCodec.encode(key);
+      }
+
+      @Override
+      public K decodeKey(ByteBuffer bytes) {
+        return keyCodec.decode(bytes);
+      }
+
+      @Override
+      public BulkSource encodeValue(V value) {
+        return valueCodec.encode(value);
+      }
+
+      @Override
+      public V decodeValue(ByteBuffer bytes) {
+        return valueCodec.decode(bytes);
+      }
+    };
+  }
+}
@@ -0,0 +1,4 @@
+/*
+ * This package contains the codecs converting keys and values to and from their Redis encoding.
+ */
+package redis.clients.jedis.codec;
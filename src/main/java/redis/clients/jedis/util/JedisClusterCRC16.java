@@ -42,9 +42,12 @@ public final class JedisClusterCRC16 {
       throw new JedisClusterOperationException("Slot calculation of null is impossible");
     }
 
-    key = JedisClusterHashTagUtil.getHashTag(key);
+    long tag = KeyTags.findHashTag(key);
     // optimization with modulo operator with power of 2 equivalent to getCRC16(key) % 16384
-    return getCRC16(key) & (16384 - 1);
+    if (tag != KeyTags.NO_TAG) {
+      return getCRC16(key, KeyTags.start(tag), KeyTags.end(tag)) & (16384 - 1);
+    }
+    return getCRC16(key, 0, key.length()) & (16384 - 1);
   }
 
   public static int getSlot(byte[] key) {
@@ -52,21 +55,9 @@ public final class JedisClusterCRC16 {
       throw new JedisClusterOperationException("Slot calculation of null is impossible");
     }
 
-    int s = -1;
-    int e = -1;
-    boolean sFound = false;
-    for (int i = 0; i < key.length; i++) {
-      if (key[i] == '{' && !sFound) {
-        s = i;
-        sFound = true;
-      }
-      if (key[i] == '}' && sFound) {
-        e = i;
-        break;
-      }
-    }
-    if (s > -1 && e > -1 && e != s + 1) {
-      return getCRC16(key, s + 1, e) & (16384 - 1);
+    long tag = KeyTags.findHashTag(key);
+    if (tag != KeyTags.NO_TAG) {
+      return getCRC16(key, KeyTags.start(tag), KeyTags.end(tag)) & (16384 - 1);
     }
     return getCRC16(key) & (16384 - 1);
   }
@@ -94,7 +85,42 @@ public final class JedisClusterCRC16 {
   }
 
   public static int getCRC16(String key) {
-    byte[] bytesKey = SafeEncoder.encode(key);
-    return getCRC16(bytesKey, 0, bytesKey.length);
+    return getCRC16(key, 0, key.length());
+  }
+
+  /**
+   * Same as {@link #getCRC16(byte[], int, int)} on the UTF-8 encoding of the characters, encoded
+   * as they are read. Unpaired surrogates are encoded as '?', like {@link SafeEncoder} does.
+   */
+  private static int getCRC16(String key, int s, int e) {
+    int crc = 0x0000;
+
+    for (int i = s; i < e; i++) {
+      char c = key.charAt(i);
+      if (c < 0x80) {
+        crc = update(crc, c);
+      } else if (c < 0x800) {
+        crc = update(crc, 0xC0 | c >> 6);
+        crc = update(crc, 0x80 | c & 0x3F);
+      } else if (!Character.isSurrogate(c)) {
+        crc = update(crc, 0xE0 | c >> 12);
+        crc = update(crc, 0x80 | c >> 6 & 0x3F);
+        crc = update(crc, 0x80 | c & 0x3F);
+      } else if (Character.isHighSurrogate(c) && i + 1 < e
+          && Character.isLowSurrogate(key.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, key.charAt(++i));
+        crc = update(crc, 0xF0 | codePoint >> 18);
+        crc = update(crc, 0x80 | codePoint >> 12 & 0x3F);
+        crc = update(crc, 0x80 | codePoint >> 6 & 0x3F);
+        crc = update(crc, 0x80 | codePoint & 0x3F);
+      } else {
+        crc = update(crc, '?');
+      }
+    }
+    return crc & 0xFFFF;
+  }
+
+  private static int update(int crc, int b) {
+    return (crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ b) & 0xFF];
   }
 }
@@ -15,21 +15,17 @@ public final class JedisClusterHashTagUtil {
   }
 
   public static boolean isClusterCompliantMatchPattern(byte[] matchPattern) {
-    return isClusterCompliantMatchPattern(SafeEncoder.encode(matchPattern));
+    return KeyTags.findHashTag(matchPattern) != KeyTags.NO_TAG;
   }
 
   public static boolean isClusterCompliantMatchPattern(String matchPattern) {
-    String tag = extractHashTag(matchPattern, false);
-    return tag != null && !tag.isEmpty();
+    return KeyTags.findHashTag(matchPattern) != KeyTags.NO_TAG;
   }
 
   private static String extractHashTag(String key, boolean returnKeyOnAbsence) {
-    int s = key.indexOf("{");
-    if (s > -1) {
-      int e = key.indexOf("}", s + 1);
-      if (e > -1 && e != s + 1) {
-        return key.substring(s + 1, e);
-      }
+    long tag = KeyTags.findHashTag(key);
+    if (tag != KeyTags.NO_TAG) {
+      return key.substring(KeyTags.start(tag), KeyTags.end(tag));
     }
     return returnKeyOnAbsence ? key : null;
   }
@@ -0,0 +1,39 @@
+package redis.clients.jedis.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @see ShardingStrategy#JUMP_CONSISTENT_HASH
+ */
+class JumpConsistentHashStrategy implements ShardingStrategy {
+
+  @Override
+  public <S extends ShardInfo<?>> Placement<S> place(List<S> shards, Hashing algo) {
+    List<S> buckets = new ArrayList<>();
+    for (S shardInfo : shards) {
+      for (int n = 0; n < shardInfo.getWeight(); n++) {
+        buckets.add(shardInfo);
+      }
+    }
+    final Object[] shardOfBucket = buckets.toArray();
+    return new Placement<S>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public S getShardInfo(long hash) {
+        return (S) shardOfBucket[bucket(hash, shardOfBucket.length)];
+      }
+    };
+  }
+
+  static int bucket(long key, int buckets) {
+    long b = -1;
+    long j = 0;
+    while (j < buckets) {
+      b = j;
+      key = key * 2862933555777941757L + 1;
+      j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+    }
+    return (int) b;
+  }
+}
@@ -0,0 +1,72 @@
+package redis.clients.jedis.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @see ShardingStrategy#KETAMA
+ */
+class KetamaStrategy implements ShardingStrategy {
+
+  @Override
+  public <S extends ShardInfo<?>> Placement<S> place(List<S> shards, Hashing algo) {
+    TreeMap<Long, S> nodes = new TreeMap<>();
+    for (int i = 0; i != shards.size(); ++i) {
+      final S shardInfo = shards.get(i);
+      int N = 160 * shardInfo.getWeight();
+      if (shardInfo.getName() == null) for (int n = 0; n < N; n++) {
+        nodes.put(algo.hash("SHARD-" + i + "-NODE-" + n), shardInfo);
+      }
+      else for (int n = 0; n < N; n++) {
+        nodes.put(algo.hash(shardInfo.getName() + "*" + n), shardInfo);
+      }
+    }
+    return new Ring<>(nodes);
+  }
+
+  /**
+   * The virtual nodes: their hashes sorted, and the shard of each one at the same index.
+   */
+  private static class Ring<S> implements Placement<S> {
+    private final long[] nodeHashes;
+    private final Object[] nodeShards;
+
+    Ring(TreeMap<Long, S> nodes) {
+      nodeHashes = new long[nodes.size()];
+      nodeShards = new Object[nodes.size()];
+      int i = 0;
+      for (Map.Entry<Long, S> node : nodes.entrySet()) {
+        nodeHashes[i] = node.getKey();
+        nodeShards[i] = node.getValue();
+        i++;
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public S getShardInfo(long hash) {
+      // the first node whose hash is at least the hash of the key, wrapping around the ring
+      int i = Arrays.binarySearch(nodeHashes, hash);
+      if (i < 0) {
+        i = -i - 1;
+        if (i == nodeHashes.length) {
+          i = 0;
+        }
+      }
+      return (S) nodeShards[i];
+    }
+
+    /**
+     * @return the shard of every virtual node, in the order of their hashes, as earlier versions
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<S> getAllShardInfo(List<S> shards) {
+      return Collections.unmodifiableList((List<S>) Arrays.asList(nodeShards));
+    }
+  }
+}
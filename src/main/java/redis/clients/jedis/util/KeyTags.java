@@ -0,0 +1,86 @@
+package redis.clients.jedis.util;
+
+/**
+ * Finds the tags of keys in a single pass, without regular expressions nor encoding the key. The
+ * bounds of a tag are returned packed in a long, the index of its first character in the upper 32
+ * bits and the index after its last one in the lower 32, and -1 when the key has no tag.
+ */
+final class KeyTags {
+
+  static final long NO_TAG = -1;
+
+  private KeyTags() {
+    throw new InstantiationError("Must not instantiate this class");
+  }
+
+  static int start(long tag) {
+    return (int) (tag >>> 32);
+  }
+
+  static int end(long tag) {
+    return (int) tag;
+  }
+
+  /**
+   * The hash tag of a cluster key: what is between its first '{' and the first '}' after it, when
+   * not empty.
+   */
+  static long findHashTag(String key) {
+    int s = key.indexOf('{');
+    if (s > -1) {
+      int e = key.indexOf('}', s + 1);
+      if (e > s + 1) {
+        return bounds(s + 1, e);
+      }
+    }
+    return NO_TAG;
+  }
+
+  /**
+   * @see #findHashTag(String)
+   */
+  static long findHashTag(byte[] key) {
+    for (int s = 0; s < key.length; s++) {
+      if (key[s] == '{') {
+        for (int e = s + 1; e < key.length; e++) {
+          if (key[e] == '}') {
+            return e > s + 1 ? bounds(s + 1, e) : NO_TAG;
+          }
+        }
+        return NO_TAG;
+      }
+    }
+    return NO_TAG;
+  }
+
+  /**
+   * The tag {@link Sharded#DEFAULT_KEY_TAG_PATTERN} finds, what is between the first '{' followed
+   * by at least one character and a '}', none of them ending a line.
+   */
+  static long findKeyTag(String key) {
+    int length = key.length();
+    for (int s = key.indexOf('{'); s > -1; s = key.indexOf('{', s + 1)) {
+      if (s + 1 == length || isLineTerminator(key.charAt(s + 1))) {
+        continue;
+      }
+      for (int e = s + 2; e < length; e++) {
+        char c = key.charAt(e);
+        if (c == '}') {
+          return bounds(s + 1, e);
+        }
+        if (isLineTerminator(c)) {
+          break;
+        }
+      }
+    }
+    return NO_TAG;
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  private static long bounds(int start, int end) {
+    return (long) start << 32 | end;
+  }
+}
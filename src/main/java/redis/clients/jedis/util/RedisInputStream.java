@@ -13,6 +13,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import redis.clients.jedis.exceptions.JedisConnectionException;
 
@@ -27,6 +30,8 @@ public class RedisInputStream extends FilterInputStream {
 
   protected int count, limit;
 
+  private ByteBuffer view;
+
   public RedisInputStream(InputStream in, int size) {
     super(in);
     if (size <= 0) {
@@ -44,27 +49,27 @@ public class RedisInputStream extends FilterInputStream {
     return buf[count++];
   }
 
-  public String readLine() {
-    final StringBuilder sb = new StringBuilder();
-    while (true) {
-      ensureFill();
+  /**
+   * @return true if the next byte to read is {@code b}, which is left in the stream
+   */
+  public boolean peek(byte b) throws JedisConnectionException {
+    ensureFill();
+    return buf[count] == b;
+  }
 
-      byte b = buf[count++];
-      if (b == '\r') {
-        ensureFill(); // Must be one more byte
+  public String readLine() {
+    ensureFill();
 
-        byte c = buf[count++];
-        if (c == '\n') {
-          break;
-        }
-        sb.append((char) b);
-        sb.append((char) c);
-      } else {
-        sb.append((char) b);
-      }
+    final String reply;
+    final int end = bufferedLineEnd();
+    if (end != -1) {
+      // decoded straight from the buffer, the typical case
+      reply = new String(buf, count, end - count, StandardCharsets.UTF_8);
+      count = end + 2;
+    } else {
+      reply = SafeEncoder.encode(readLineBytesSlowly());
     }
 
-    final String reply = sb.toString();
     if (reply.length() == 0) {
       throw new JedisConnectionException("It seems like server has closed the connection.");
     }
@@ -82,31 +87,69 @@ public class RedisInputStream extends FilterInputStream {
 
     ensureFill();
 
-    int pos = count;
-    final byte[] buf = this.buf;
-    while (true) {
-      if (pos == limit) {
-        return readLineBytesSlowly();
-      }
+    final int end = bufferedLineEnd();
+    if (end == -1) {
+      return readLineBytesSlowly();
+    }
 
-      if (buf[pos++] == '\r') {
-        if (pos == limit) {
-          return readLineBytesSlowly();
-        }
+    final int N = end - count;
+    final byte[] line = new byte[N];
+    System.arraycopy(buf, count, line, 0, N);
+    count = end + 2;
+    return line;
+  }
 
-        if (buf[pos++] == '\n') {
-          break;
-        }
+  /**
+   * Same as {@link #readLineBytes()}, but returns the given instance instead of a copy when the line
+   * is equal to one of the canned lines, so that frequent replies such as {@code OK} are read
+   * without allocating.
+   */
+  public byte[] readLineBytes(final byte[][] cannedLines) {
+    ensureFill();
+
+    final int end = bufferedLineEnd();
+    if (end == -1) {
+      return readLineBytesSlowly();
+    }
+
+    final int N = end - count;
+    for (final byte[] canned : cannedLines) {
+      if (canned.length == N && regionEquals(canned)) {
+        count = end + 2;
+        return canned;
       }
     }
 
-    final int N = (pos - count) - 2;
     final byte[] line = new byte[N];
     System.arraycopy(buf, count, line, 0, N);
-    count = pos;
+    count = end + 2;
     return line;
   }
 
+  private boolean regionEquals(final byte[] bytes) {
+    for (int i = 0; i < bytes.length; i++) {
+      if (buf[count + i] != bytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the position of the CR ending the current line, or -1 when the line does not end within
+   *         the buffer
+   */
+  private int bufferedLineEnd() {
+    final byte[] buf = this.buf;
+    final int last = limit - 1;
+    for (int pos = count; pos < last; pos++) {
+      if (buf[pos] == '\r' && buf[pos + 1] == '\n') {
+        return pos;
+      }
+    }
+    return -1;
+  }
+
   /**
    * Slow path in case a line of bytes cannot be read in one #fill() operation. This is still faster
    * than creating the StrinbBuilder, String, then encoding as byte[] in Protocol, then decoding
@@ -179,6 +222,90 @@ public class RedisInputStream extends FilterInputStream {
     return (isNeg ? -value : value);
   }
 
+  /**
+   * Reads a value of {@code len} bytes followed by CRLF, as the bulk string readers do, without
+   * copying it when it fits the buffer: the returned buffer is then a view of the internal buffer,
+   * valid until the next read from this stream, which must not be written to. Its backing array is
+   * accessible so that decoders can read it in place. Larger values are copied.
+   */
+  public ByteBuffer readBulkView(final int len) throws JedisConnectionException {
+    if (len + 2 > buf.length) {
+      final byte[] value = new byte[len];
+      int offset = 0;
+      while (offset < len) {
+        offset += read(value, offset, len - offset);
+      }
+      readByte();
+      readByte();
+      return ByteBuffer.wrap(value);
+    }
+
+    ensureBuffered(len + 2);
+    if (view == null) {
+      view = ByteBuffer.wrap(buf);
+    }
+    view.clear();
+    view.position(count).limit(count + len);
+    count += len + 2;
+    return view;
+  }
+
+  /**
+   * Copies a value of {@code len} bytes followed by CRLF to {@code out}, one buffer at a time. When
+   * {@code out} fails the rest of the value is skipped, so that the stream stays usable, before the
+   * failure is thrown.
+   */
+  public void readBulkTo(final int len, final OutputStream out) throws IOException {
+    Exception failure = null;
+    int remaining = len;
+    while (remaining > 0) {
+      ensureFill();
+      final int chunk = Math.min(limit - count, remaining);
+      if (failure == null) {
+        try {
+          out.write(buf, count, chunk);
+        } catch (IOException | RuntimeException e) {
+          failure = e;
+        }
+      }
+      count += chunk;
+      remaining -= chunk;
+    }
+    readByte();
+    readByte();
+    if (failure instanceof IOException) {
+      throw (IOException) failure;
+    } else if (failure != null) {
+      throw (RuntimeException) failure;
+    }
+  }
+
+  /**
+   * Moves the unread bytes to the start of the buffer if needed, and reads until at least
+   * {@code needed} bytes are buffered.
+   */
+  private void ensureBuffered(final int needed) throws JedisConnectionException {
+    if (limit - count >= needed) {
+      return;
+    }
+    if (count + needed > buf.length) {
+      System.arraycopy(buf, count, buf, 0, limit - count);
+      limit -= count;
+      count = 0;
+    }
+    try {
+      while (limit - count < needed) {
+        final int read = in.read(buf, limit, buf.length - limit);
+        if (read == -1) {
+          throw new JedisConnectionException("Unexpected end of stream.");
+        }
+        limit += read;
+      }
+    } catch (IOException e) {
+      throw new JedisConnectionException(e);
+    }
+  }
+
   @Override
   public int read(byte[] b, int off, int len) throws JedisConnectionException {
     ensureFill();
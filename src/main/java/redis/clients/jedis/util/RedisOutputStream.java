@@ -1,8 +1,13 @@
 package redis.clients.jedis.util;
 
+import java.io.EOFException;
 import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 
 /**
  * The class implements a buffered output stream without synchronization There are also special
@@ -14,6 +19,8 @@ public final class RedisOutputStream extends FilterOutputStream {
 
   protected int count;
 
+  private long written;
+
   private final static int[] sizeTable = { 9, 99, 999, 9999, 99999, 999999, 9999999, 99999999,
       999999999, Integer.MAX_VALUE };
 
@@ -50,6 +57,7 @@ public final class RedisOutputStream extends FilterOutputStream {
   private void flushBuffer() throws IOException {
     if (count > 0) {
       out.write(buf, 0, count);
+      written += count;
       count = 0;
     }
   }
@@ -71,6 +79,7 @@ public final class RedisOutputStream extends FilterOutputStream {
     if (len >= buf.length) {
       flushBuffer();
       out.write(b, off, len);
+      written += len;
     } else {
       if (len >= buf.length - count) {
         flushBuffer();
@@ -81,6 +90,168 @@ public final class RedisOutputStream extends FilterOutputStream {
     }
   }
 
+  /**
+   * Writes exactly {@code length} bytes read from {@code in}, through the buffer of this stream.
+   * @throws EOFException if {@code in} ends before
+   */
+  public void write(final InputStream in, long length) throws IOException {
+    while (length > 0) {
+      if (count == buf.length) {
+        flushBuffer();
+      }
+      final int read = in.read(buf, count, (int) Math.min(buf.length - count, length));
+      if (read == -1) {
+        throw new EOFException("Stream ended " + length + " bytes before the announced length.");
+      }
+      count += read;
+      length -= read;
+    }
+  }
+
+  /**
+   * Writes the remaining bytes of {@code src}, without copying them when it is backed by an array.
+   */
+  public void write(final ByteBuffer src) throws IOException {
+    if (src.hasArray()) {
+      write(src.array(), src.arrayOffset() + src.position(), src.remaining());
+      src.position(src.limit());
+      return;
+    }
+    while (src.hasRemaining()) {
+      if (count == buf.length) {
+        flushBuffer();
+      }
+      final int chunk = Math.min(buf.length - count, src.remaining());
+      src.get(buf, count, chunk);
+      count += chunk;
+    }
+  }
+
+  /**
+   * Writes {@code length} bytes of the file starting at {@code position}, read straight into the
+   * buffer of this stream. The position of the channel is not changed.
+   * @throws EOFException if the file ends before
+   */
+  public void write(final FileChannel channel, long position, long length) throws IOException {
+    while (length > 0) {
+      if (count == buf.length) {
+        flushBuffer();
+      }
+      final int chunk = (int) Math.min(buf.length - count, length);
+      final int read = channel.read(ByteBuffer.wrap(buf, count, chunk), position);
+      if (read == -1) {
+        throw new EOFException("File ended " + length + " bytes before the announced length.");
+      }
+      count += read;
+      position += read;
+      length -= read;
+    }
+  }
+
+  /**
+   * Encodes {@code str} in UTF-8 straight into the buffer of this stream, writing
+   * {@link #utf8Length(String)} bytes. Unpaired surrogates are written as '?', as
+   * {@link String#getBytes(java.nio.charset.Charset)} does.
+   */
+  public void writeUtf8(final String str) throws IOException {
+    final int strLen = str.length();
+    for (int i = 0; i < strLen; i++) {
+      if (buf.length - count < 4) {
+        flushBuffer();
+      }
+      final char c = str.charAt(i);
+      if (c < 0x80) {
+        buf[count++] = (byte) c;
+      } else if (c < 0x800) {
+        buf[count++] = (byte) (0xc0 | (c >> 6));
+        buf[count++] = (byte) (0x80 | (c & 0x3f));
+      } else if (!Character.isSurrogate(c)) {
+        buf[count++] = (byte) (0xe0 | (c >> 12));
+        buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buf[count++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < strLen
+          && Character.isLowSurrogate(str.charAt(i + 1))) {
+        final int cp = Character.toCodePoint(c, str.charAt(++i));
+        buf[count++] = (byte) (0xf0 | (cp >> 18));
+        buf[count++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        buf[count++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        buf[count++] = (byte) (0x80 | (cp & 0x3f));
+      } else {
+        buf[count++] = '?';
+      }
+    }
+  }
+
+  /**
+   * @return the number of bytes {@link #writeUtf8(String)} writes for {@code str}
+   */
+  public static int utf8Length(final String str) {
+    final int strLen = str.length();
+    int len = strLen;
+    for (int i = 0; i < strLen; i++) {
+      final char c = str.charAt(i);
+      if (c < 0x80) {
+        continue;
+      }
+      if (c < 0x800) {
+        len += 1;
+      } else if (!Character.isSurrogate(c)) {
+        len += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < strLen
+          && Character.isLowSurrogate(str.charAt(i + 1))) {
+        // four bytes for the two chars
+        len += 2;
+        i++;
+      }
+    }
+    return len;
+  }
+
+  /**
+   * Writes the decimal representation of {@code value}, {@link #longLength(long)} bytes.
+   */
+  public void writeLong(final long value) throws IOException {
+    final int size = longLength(value);
+    if (size > buf.length - count) {
+      flushBuffer();
+      if (size > buf.length) {
+        write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+        return;
+      }
+    }
+    int charPos = count + size;
+    // negative values cover Long.MIN_VALUE as well
+    long negative = value < 0 ? value : -value;
+    do {
+      buf[--charPos] = digits[(int) -(negative % 10)];
+      negative /= 10;
+    } while (negative != 0);
+    if (value < 0) {
+      buf[--charPos] = '-';
+    }
+    count += size;
+  }
+
+  /**
+   * @return the number of bytes {@link #writeLong(long)} writes for {@code value}
+   */
+  public static int longLength(final long value) {
+    int size = value < 0 ? 2 : 1;
+    long negative = value < 0 ? value : -value;
+    while (negative <= -10) {
+      negative /= 10;
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * @return the number of bytes written to this stream so far, buffered ones included
+   */
+  public long getWrittenBytes() {
+    return written + count;
+  }
+
   public void writeCrLf() throws IOException {
     if (2 >= buf.length - count) {
       flushBuffer();
@@ -0,0 +1,72 @@
+package redis.clients.jedis.util;
+
+import java.util.List;
+
+/**
+ * @see ShardingStrategy#RENDEZVOUS
+ */
+class RendezvousStrategy implements ShardingStrategy {
+
+  @Override
+  public <S extends ShardInfo<?>> Placement<S> place(List<S> shards, Hashing algo) {
+    final long[] seeds = new long[shards.size()];
+    final double[] weights = new double[shards.size()];
+    final Object[] shardInfos = shards.toArray();
+    boolean weighted = false;
+    for (int i = 0; i < seeds.length; i++) {
+      S shardInfo = shards.get(i);
+      seeds[i] = mix(algo.hash(shardInfo.getName() == null ? "SHARD-" + i
+          : shardInfo.getName()));
+      weights[i] = shardInfo.getWeight();
+      weighted |= weights[i] != weights[0];
+    }
+
+    if (!weighted) {
+      // the scores of equal weights are in the order of the hashes
+      return new Placement<S>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public S getShardInfo(long hash) {
+          int best = 0;
+          long bestScore = Long.MIN_VALUE;
+          for (int i = 0; i < seeds.length; i++) {
+            long score = mix(hash ^ seeds[i]);
+            if (score >= bestScore) {
+              best = i;
+              bestScore = score;
+            }
+          }
+          return (S) shardInfos[best];
+        }
+      };
+    }
+
+    return new Placement<S>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public S getShardInfo(long hash) {
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < seeds.length; i++) {
+          // a uniform draw in (0, 1), -weight / log(draw) being the logarithmic method
+          double draw = ((mix(hash ^ seeds[i]) >>> 11) + 0.5) / (1L << 53);
+          double score = -weights[i] / Math.log(draw);
+          if (score > bestScore) {
+            best = i;
+            bestScore = score;
+          }
+        }
+        return (S) shardInfos[best];
+      }
+    };
+  }
+
+  /**
+   * The finalizer of SplitMix64, spreading the bits of the hashes which only use the lowest ones.
+   */
+  static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -1,19 +1,19 @@
 package redis.clients.jedis.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class Sharded<R, S extends ShardInfo<R>> {
 
   public static final int DEFAULT_WEIGHT = 1;
-  private TreeMap<Long, S> nodes;
+  private final List<S> shards;
+  private final ShardingStrategy.Placement<S> placement;
   private final Hashing algo;
   private final Map<ShardInfo<R>, R> resources = new LinkedHashMap<>();
 
@@ -21,6 +21,7 @@ public class Sharded<R, S extends ShardInfo<R>> {
    * The default pattern used for extracting a key tag. The pattern must have a group (between
    * parenthesis), which delimits the tag to be hashed. A null pattern avoids applying the regular
    * expression for each lookup, improving performance a little bit is key tags aren't being used.
+   * The default pattern is looked for without a regular expression.
    */
   private Pattern tagPattern = null;
   // the tag is anything between {}
@@ -32,8 +33,11 @@ public class Sharded<R, S extends ShardInfo<R>> {
   }
 
   public Sharded(List<S> shards, Hashing algo) {
-    this.algo = algo;
-    initialize(shards);
+    this(shards, ShardingStrategy.KETAMA, algo, null);
+  }
+
+  public Sharded(List<S> shards, ShardingStrategy strategy) {
+    this(shards, strategy, Hashing.MURMUR_HASH, null);
   }
 
   public Sharded(List<S> shards, Pattern tagPattern) {
@@ -43,23 +47,15 @@ public class Sharded<R, S extends ShardInfo<R>> {
   }
 
   public Sharded(List<S> shards, Hashing algo, Pattern tagPattern) {
-    this.algo = algo;
-    this.tagPattern = tagPattern;
-    initialize(shards);
+    this(shards, ShardingStrategy.KETAMA, algo, tagPattern);
   }
 
-  private void initialize(List<S> shards) {
-    nodes = new TreeMap<>();
-
-    for (int i = 0; i != shards.size(); ++i) {
-      final S shardInfo = shards.get(i);
-      int N = 160 * shardInfo.getWeight();
-      if (shardInfo.getName() == null) for (int n = 0; n < N; n++) {
-        nodes.put(this.algo.hash("SHARD-" + i + "-NODE-" + n), shardInfo);
-      }
-      else for (int n = 0; n < N; n++) {
-        nodes.put(this.algo.hash(shardInfo.getName() + "*" + n), shardInfo);
-      }
+  public Sharded(List<S> shards, ShardingStrategy strategy, Hashing algo, Pattern tagPattern) {
+    this.algo = algo;
+    this.tagPattern = tagPattern;
+    this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+    this.placement = strategy.place(this.shards, algo);
+    for (S shardInfo : shards) {
       resources.put(shardInfo, shardInfo.createResource());
     }
   }
@@ -73,11 +69,7 @@ public class Sharded<R, S extends ShardInfo<R>> {
   }
 
   public S getShardInfo(byte[] key) {
-    SortedMap<Long, S> tail = nodes.tailMap(algo.hash(key));
-    if (tail.isEmpty()) {
-      return nodes.get(nodes.firstKey());
-    }
-    return tail.get(tail.firstKey());
+    return placement.getShardInfo(algo.hash(key));
   }
 
   public S getShardInfo(String key) {
@@ -92,15 +84,24 @@ public class Sharded<R, S extends ShardInfo<R>> {
    * @return The tag if it exists, or the original key
    */
   public String getKeyTag(String key) {
-    if (tagPattern != null) {
+    if (tagPattern == DEFAULT_KEY_TAG_PATTERN) {
+      long tag = KeyTags.findKeyTag(key);
+      if (tag != KeyTags.NO_TAG) {
+        return key.substring(KeyTags.start(tag), KeyTags.end(tag));
+      }
+    } else if (tagPattern != null) {
       Matcher m = tagPattern.matcher(key);
       if (m.find()) return m.group(1);
     }
     return key;
   }
 
+  /**
+   * @return with {@link ShardingStrategy#KETAMA} the shard of every virtual node, so each shard as
+   *         many times as it has nodes, with the other strategies every shard once
+   */
   public Collection<S> getAllShardInfo() {
-    return Collections.unmodifiableCollection(nodes.values());
+    return placement.getAllShardInfo(shards);
   }
 
   public Collection<R> getAllShards() {
@@ -0,0 +1,52 @@
+package redis.clients.jedis.util;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Places keys on the shards of a {@link Sharded}. The strategy is given the shards once, when the
+ * {@link Sharded} is created, and returns the placement the hashes of the keys are then looked up
+ * in.
+ */
+public interface ShardingStrategy {
+
+  /**
+   * A ring of 160 virtual nodes per unit of weight, named after the shard or its position. The
+   * default, compatible with the placement of earlier versions.
+   */
+  ShardingStrategy KETAMA = new KetamaStrategy();
+
+  /**
+   * Jump consistent hash, which keeps no ring and spreads keys evenly. Keys stay in place only when
+   * shards are added or removed at the end of the list, and a shard of weight n takes n buckets.
+   * @see <a href="https://arxiv.org/abs/1406.2294">A Fast, Minimal Memory, Consistent Hash
+   *      Algorithm</a>
+   */
+  ShardingStrategy JUMP_CONSISTENT_HASH = new JumpConsistentHashStrategy();
+
+  /**
+   * Weighted rendezvous hashing: the shard with the highest score for the key, scores being drawn
+   * from the hash of the key and of the shard name or position. When every shard is named, only the
+   * keys of a removed shard move, whatever its position, at the cost of a lookup linear in the
+   * number of shards. Shards without a name are identified by their position, removing one moves
+   * the keys of the shards after it too.
+   */
+  ShardingStrategy RENDEZVOUS = new RendezvousStrategy();
+
+  <S extends ShardInfo<?>> Placement<S> place(List<S> shards, Hashing algo);
+
+  interface Placement<S> {
+    /**
+     * @param hash the hash of the key, or of its tag
+     */
+    S getShardInfo(long hash);
+
+    /**
+     * @param shards the shards which were placed
+     * @return the shard infos returned by {@link Sharded#getAllShardInfo()}, the shards by default
+     */
+    default Collection<S> getAllShardInfo(List<S> shards) {
+      return shards;
+    }
+  }
+}
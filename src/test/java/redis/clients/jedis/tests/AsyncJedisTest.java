@@ -0,0 +1,115 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.AsyncJedis;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+public class AsyncJedisTest {
+
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private AsyncJedis async;
+
+  @Before
+  public void setUp() {
+    try (Jedis jedis = new Jedis(hnp)) {
+      jedis.auth("foobared");
+      jedis.flushAll();
+    }
+    async = new AsyncJedis(hnp, DefaultJedisClientConfig.builder().password("foobared").build());
+  }
+
+  @After
+  public void tearDown() {
+    async.close();
+  }
+
+  @Test
+  public void commands() throws Exception {
+    assertEquals("OK", async.set("foo", "bar").get());
+    assertEquals("bar", async.get("foo").get());
+    assertNull(async.get("missing").get());
+    assertArrayEquals("bar".getBytes(), async.get("foo".getBytes()).get());
+    assertEquals(Long.valueOf(1), async.incr("counter").get());
+    assertTrue(async.exists("foo").get());
+
+    async.sadd("set", "a", "b");
+    ScanResult<String> scan = async.sscan("set", ScanParams.SCAN_POINTER_START,
+      new ScanParams()).get();
+    assertEquals(2, scan.getResult().size());
+  }
+
+  @Test
+  public void repliesMatchCommandsAcrossThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      final String key = "counter" + t;
+      workers.add(executor.submit(() -> {
+        List<CompletableFuture<Long>> replies = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+          replies.add(async.incr(key));
+        }
+        for (int i = 0; i < replies.size(); i++) {
+          assertEquals(Long.valueOf(i + 1), replies.get(i).join());
+        }
+        return null;
+      }));
+    }
+    for (Future<?> worker : workers) {
+      worker.get();
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  public void errorReplyFailsOnlyItsFuture() throws Exception {
+    async.set("foo", "bar");
+    CompletableFuture<Long> wrongType = async.incr("foo");
+    CompletableFuture<String> next = async.get("foo");
+    try {
+      wrongType.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof JedisDataException);
+    }
+    assertEquals("bar", next.get());
+    assertFalse(async.isBroken());
+  }
+
+  @Test
+  public void closeFailsLaterCommands() throws Exception {
+    async.close();
+    assertTrue(async.isBroken());
+    try {
+      async.get("foo").get();
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof JedisConnectionException);
+    }
+  }
+}
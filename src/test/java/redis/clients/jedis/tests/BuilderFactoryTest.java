@@ -1,10 +1,18 @@
 package redis.clients.jedis.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Test;
 
 import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Tuple;
 
 public class BuilderFactoryTest {
   @Test
@@ -18,4 +26,22 @@ public class BuilderFactoryTest {
     build = BuilderFactory.DOUBLE.build("-inf".getBytes());
     assertEquals(Double.valueOf(Double.NEGATIVE_INFINITY), build);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void buildFromResp3() {
+    assertEquals(Double.valueOf(2.5), BuilderFactory.DOUBLE.build(2.5));
+    assertEquals("2.5", BuilderFactory.STRING.build(2.5));
+    assertEquals(Long.valueOf(1), BuilderFactory.LONG.build(true));
+    assertTrue(BuilderFactory.BOOLEAN.build(true));
+
+    Map<Object, Object> hash = new LinkedHashMap<>();
+    hash.put("field".getBytes(), "value".getBytes());
+    assertEquals("value", BuilderFactory.STRING_MAP.build(hash).get("field"));
+
+    Set<Tuple> tuples = BuilderFactory.TUPLE_ZSET.build(Arrays.asList(
+      Arrays.asList("a".getBytes(), 1.0), Arrays.asList("b".getBytes(), 2.0)));
+    Iterator<Tuple> iterator = tuples.iterator();
+    assertEquals(new Tuple("a", 1.0), iterator.next());
+    assertEquals(new Tuple("b", 2.0), iterator.next());
+  }
+}
@@ -0,0 +1,85 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.CachedJedis;
+import redis.clients.jedis.ClientSideCache;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.RedisProtocol;
+
+public class CachedJedisTest {
+
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private Jedis jedis;
+  private JedisPool pool;
+  private ClientSideCache cache;
+
+  @Before
+  public void setUp() throws InterruptedException {
+    JedisClientConfig config = DefaultJedisClientConfig.builder().password("foobared")
+        .protocol(RedisProtocol.RESP3).build();
+    jedis = new Jedis(hnp, config);
+    jedis.flushAll();
+    pool = new JedisPool(new JedisPoolConfig(), hnp, config);
+    cache = new ClientSideCache(100);
+    cache.track(hnp, config);
+    while (!cache.isTracking()) {
+      Thread.sleep(10);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    cache.close();
+    pool.close();
+    jedis.close();
+  }
+
+  @Test
+  public void readsFromCache() {
+    CachedJedis cached = new CachedJedis(pool, cache);
+    jedis.set("foo", "bar");
+    jedis.hset("hash", "field", "value");
+    for (int i = 0; i < 10; i++) {
+      assertEquals("bar", cached.get("foo"));
+      assertEquals(Collections.singletonMap("field", "value"), cached.hgetAll("hash"));
+    }
+    assertEquals(2, cache.getMisses());
+    assertEquals(18, cache.getHits());
+  }
+
+  @Test
+  public void invalidatedByWrites() throws InterruptedException {
+    CachedJedis cached = new CachedJedis(pool, cache);
+    jedis.set("foo", "bar");
+    assertEquals("bar", cached.get("foo"));
+    jedis.set("foo", "baz");
+    waitForInvalidation();
+    assertEquals("baz", cached.get("foo"));
+
+    jedis.flushAll();
+    waitForInvalidation();
+    assertNull(cached.get("foo"));
+    assertTrue(cache.getInvalidations() >= 2);
+  }
+
+  private void waitForInvalidation() throws InterruptedException {
+    for (int i = 0; i < 100 && cache.size() > 0; i++) {
+      Thread.sleep(10);
+    }
+  }
+}
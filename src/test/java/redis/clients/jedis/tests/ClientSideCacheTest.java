@@ -0,0 +1,107 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import redis.clients.jedis.ClientSideCache;
+import redis.clients.jedis.ClientSideCache.EvictionPolicy;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+public class ClientSideCacheTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private String read(ClientSideCache cache, String key) {
+    return cache.get(key, Command.GET, () -> {
+      loads.incrementAndGet();
+      return key.startsWith("missing") ? null : key + "-value";
+    });
+  }
+
+  @Test
+  public void cachesReplies() {
+    ClientSideCache cache = new ClientSideCache(10);
+    assertEquals("foo-value", read(cache, "foo"));
+    assertEquals("foo-value", read(cache, "foo"));
+    assertNull(read(cache, "missing"));
+    assertNull(read(cache, "missing"));
+    assertEquals(2, loads.get());
+    assertEquals(2, cache.getHits());
+    assertEquals(2, cache.getMisses());
+    assertEquals(0.5, cache.getHitRatio(), 0);
+  }
+
+  @Test
+  public void invalidate() {
+    ClientSideCache cache = new ClientSideCache(10);
+    read(cache, "foo");
+    cache.get("foo", Command.STRLEN, () -> 9L);
+    cache.invalidate("foo");
+    assertEquals(0, cache.size());
+    read(cache, "foo");
+    assertEquals(2, loads.get());
+    assertEquals(1, cache.getInvalidations());
+  }
+
+  @Test
+  public void invalidatedWhileLoading() {
+    ClientSideCache cache = new ClientSideCache(10);
+    cache.get("foo", Command.GET, () -> {
+      cache.invalidate("foo");
+      return "stale";
+    });
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void failedLoadIsNotCached() {
+    ClientSideCache cache = new ClientSideCache(10);
+    try {
+      cache.get("foo", Command.GET, () -> {
+        throw new JedisDataException("WRONGTYPE Operation against a key holding the wrong kind");
+      });
+      fail("The loader's exception should be thrown");
+    } catch (JedisDataException e) {
+      assertEquals(0, cache.size());
+    }
+    // the next read goes back to the server
+    assertEquals("foo-value", read(cache, "foo"));
+    assertEquals(1, loads.get());
+    assertEquals("foo-value", read(cache, "foo"));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsed() {
+    ClientSideCache cache = new ClientSideCache(2, EvictionPolicy.LRU);
+    read(cache, "a");
+    read(cache, "b");
+    read(cache, "a");
+    read(cache, "c");
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictions());
+    read(cache, "a");
+    assertEquals(3, loads.get());
+    read(cache, "b");
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  public void evictsLeastFrequentlyUsed() {
+    ClientSideCache cache = new ClientSideCache(2, EvictionPolicy.LFU);
+    read(cache, "a");
+    read(cache, "a");
+    read(cache, "b");
+    read(cache, "c");
+    read(cache, "a");
+    assertEquals(3, loads.get());
+    read(cache, "b");
+    assertEquals(4, loads.get());
+  }
+}
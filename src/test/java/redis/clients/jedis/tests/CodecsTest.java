@@ -0,0 +1,155 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import redis.clients.jedis.args.BulkSource;
+import redis.clients.jedis.codec.Codec;
+import redis.clients.jedis.codec.Codecs;
+import redis.clients.jedis.codec.CompressingCodec;
+import redis.clients.jedis.codec.DeflateCompressor;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.RedisOutputStream;
+
+public class CodecsTest {
+
+  private static byte[] encode(BulkSource source) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    // a small buffer so that values are written across flushes
+    RedisOutputStream out = new RedisOutputStream(bytes, 5);
+    source.writeTo(out);
+    out.flush();
+    assertEquals(source.length(), bytes.size());
+    return bytes.toByteArray();
+  }
+
+  private static <T> T roundTrip(Codec<T> codec, T value) throws IOException {
+    byte[] encoded = encode(codec.encode(value));
+    // decoded from a view in the middle of a larger buffer
+    ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 4);
+    buffer.position(2);
+    buffer.put(encoded);
+    buffer.position(2).limit(2 + encoded.length);
+    return codec.decode(buffer);
+  }
+
+  @Test
+  public void utf8() throws IOException {
+    String[] values = { "", "foo", "h\u00e9llo", "\u20ac10", "\ud83d\ude00 smile",
+        "lone \ud83d surrogate", "reversed \ude00\ud83d" };
+    for (String value : values) {
+      assertArrayEquals(value.getBytes(StandardCharsets.UTF_8), encode(Codecs.UTF8.encode(value)));
+      assertEquals(new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+        roundTrip(Codecs.UTF8, value));
+    }
+    assertEquals("foo", Codecs.UTF8.decode(ByteBuffer.wrap("foo".getBytes()).asReadOnlyBuffer()));
+  }
+
+  @Test
+  public void bytes() throws IOException {
+    byte[] value = { 0, 1, -1, '\r', '\n' };
+    assertArrayEquals(value, roundTrip(Codecs.BYTES, value));
+  }
+
+  @Test
+  public void longs() throws IOException {
+    long[] values = { 0, 7, -7, 10, -10, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE };
+    for (long value : values) {
+      assertArrayEquals(Long.toString(value).getBytes(), encode(Codecs.LONG.encode(value)));
+      assertEquals(Long.valueOf(value), roundTrip(Codecs.LONG, value));
+    }
+    for (String invalid : new String[] { "", "-", "1.5", "9223372036854775808",
+        "-9223372036854775809" }) {
+      try {
+        Codecs.LONG.decode(ByteBuffer.wrap(invalid.getBytes()));
+        fail(invalid);
+      } catch (JedisDataException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void doubles() throws IOException {
+    assertEquals(Double.valueOf(1.5), roundTrip(Codecs.DOUBLE, 1.5));
+    assertEquals(Double.valueOf(-1e300), roundTrip(Codecs.DOUBLE, -1e300));
+    assertEquals(Double.valueOf(Double.POSITIVE_INFINITY),
+      roundTrip(Codecs.DOUBLE, Double.POSITIVE_INFINITY));
+    assertEquals(Double.valueOf(Double.NEGATIVE_INFINITY),
+      Codecs.DOUBLE.decode(ByteBuffer.wrap("-inf".getBytes())));
+    assertEquals(Double.valueOf(10.5), Codecs.DOUBLE.decode(ByteBuffer.wrap("10.5".getBytes())));
+  }
+
+  @Test
+  public void compressing() throws IOException {
+    CompressingCodec<String> codec = new CompressingCodec<>(Codecs.UTF8, new DeflateCompressor(),
+        100);
+    assertArrayEquals(new byte[] { 0, 'f', 'o', 'o' }, encode(codec.encode("foo")));
+    assertEquals("foo", roundTrip(codec, "foo"));
+
+    StringBuilder json = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      json.append("{\"id\":").append(i).append(",\"name\":\"caf\u00e9\"},");
+    }
+    byte[] compressed = encode(codec.encode(json.toString()));
+    assertEquals(DeflateCompressor.ID, compressed[0]);
+    assertTrue(compressed.length < json.length() / 4);
+    assertEquals(json.toString(), roundTrip(codec, json.toString()));
+
+    // random bytes do not shrink and are stored as they are
+    byte[] random = new byte[1000];
+    new Random(7).nextBytes(random);
+    CompressingCodec<byte[]> bytes = new CompressingCodec<>(Codecs.BYTES);
+    byte[] stored = Codecs.toByteArray(bytes.encode(random));
+    assertEquals(0, stored[0]);
+    assertArrayEquals(random, bytes.decode(ByteBuffer.wrap(stored)));
+  }
+
+  @Test
+  public void compressingRejectsInvalidLength() throws IOException {
+    CompressingCodec<String> codec = new CompressingCodec<>(Codecs.UTF8, new DeflateCompressor(),
+        100, 10000);
+    StringBuilder json = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      json.append('a');
+    }
+    byte[] compressed = encode(new CompressingCodec<>(Codecs.UTF8).encode(json.toString()));
+    byte[][] corrupted = { compressed.clone(), compressed.clone() };
+    // longer than the maximum
+    corrupted[0][1] = 0x7f;
+    // within the maximum, but more than 5 bytes can decompress to
+    corrupted[1] = new byte[] { DeflateCompressor.ID, 0, 0, 0x27, 0x0f, 1, 2, 3, 4, 5 };
+    for (byte[] value : corrupted) {
+      try {
+        codec.decode(ByteBuffer.wrap(value));
+        fail();
+      } catch (JedisDataException e) {
+        assertTrue(e.getMessage().startsWith("Invalid compressed length"));
+      }
+    }
+    codec.close();
+  }
+
+  @Test
+  public void compressingRejectsUnknownHeader() {
+    CompressingCodec<String> codec = new CompressingCodec<>(Codecs.UTF8);
+    for (byte[] value : new byte[][] { {}, { 'f', 'o', 'o' }, { DeflateCompressor.ID, 0, 0 } }) {
+      try {
+        codec.decode(ByteBuffer.wrap(value));
+        fail();
+      } catch (JedisDataException e) {
+        // expected
+      }
+    }
+  }
+}
@@ -2,6 +2,7 @@ package redis.clients.jedis.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -14,17 +15,24 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongConsumer;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisClusterCommand;
 import redis.clients.jedis.JedisClusterConnectionHandler;
+import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisSlotBasedConnectionHandler;
+import redis.clients.jedis.ReadFrom;
 import redis.clients.jedis.exceptions.JedisAskDataException;
 import redis.clients.jedis.exceptions.JedisClusterMaxAttemptsException;
 import redis.clients.jedis.exceptions.JedisClusterOperationException;
@@ -312,6 +320,83 @@ public class JedisClusterCommandTest {
     assertTrue(totalSleepMs.get() > 0);
   }
 
+  @Test
+  public void runReadOnlyReplicaFailingFallsBackToMaster() {
+    final Jedis master = mock(Jedis.class);
+    when(master.toString()).thenReturn("master");
+
+    final Jedis replica = mock(Jedis.class);
+    when(replica.toString()).thenReturn("replica");
+
+    JedisSlotBasedConnectionHandler connectionHandler = mock(JedisSlotBasedConnectionHandler.class);
+    when(connectionHandler.getReadConnectionFromSlot(anyInt())).thenReturn(replica);
+    when(connectionHandler.getConnectionFromSlot(anyInt())).thenReturn(master);
+
+    JedisClusterCommand<String> testMe = new JedisClusterCommand<String>(connectionHandler, 10,
+        ONE_SECOND) {
+      @Override
+      public String execute(Jedis connection) {
+        if (connection == replica) {
+          throw new JedisConnectionException("Replica is down");
+        }
+        return "foo";
+      }
+
+      @Override
+      protected void sleep(long ignored) {
+        throw new RuntimeException("This test should never sleep");
+      }
+    };
+
+    assertEquals("foo", testMe.runReadOnly(""));
+    InOrder inOrder = inOrder(connectionHandler);
+    inOrder.verify(connectionHandler).getReadConnectionFromSlot(anyInt());
+    inOrder.verify(connectionHandler).getConnectionFromSlot(anyInt());
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void readFromReplicasRotatesAndSkipsFailedReplica() {
+    final Jedis master = mock(Jedis.class);
+    final Jedis replica1 = mock(Jedis.class);
+    final Jedis replica3 = mock(Jedis.class);
+    final List<JedisPool> replicas = new ArrayList<>();
+    for (Jedis replica : new Jedis[] { replica1, null, replica3 }) {
+      JedisPool pool = mock(JedisPool.class);
+      if (replica != null) {
+        when(pool.getResource()).thenReturn(replica);
+      } else {
+        when(pool.getResource()).thenThrow(new JedisConnectionException("Replica is down"));
+      }
+      replicas.add(pool);
+    }
+
+    JedisSlotBasedConnectionHandler connectionHandler = new JedisSlotBasedConnectionHandler(
+        Collections.<HostAndPort> emptySet(), new GenericObjectPoolConfig<Jedis>(),
+        DefaultJedisClientConfig.builder().build(), ReadFrom.REPLICA_PREFERRED) {
+      @Override
+      public Jedis getConnectionFromSlot(int slot) {
+        return master;
+      }
+
+      @Override
+      protected List<JedisPool> getSlotReplicaPools(int slot) {
+        return replicas;
+      }
+    };
+
+    // the second replica is down, the third one serves its turn as well
+    assertSame(replica1, connectionHandler.getReadConnectionFromSlot(0));
+    assertSame(replica3, connectionHandler.getReadConnectionFromSlot(0));
+    assertSame(replica3, connectionHandler.getReadConnectionFromSlot(0));
+    assertSame(replica1, connectionHandler.getReadConnectionFromSlot(0));
+
+    // the master serves the reads when no replica can be reached
+    replicas.remove(2);
+    replicas.remove(0);
+    assertSame(master, connectionHandler.getReadConnectionFromSlot(0));
+  }
+
   @Test(expected = JedisNoReachableClusterNodeException.class)
   public void runRethrowsJedisNoReachableClusterNodeException() {
     JedisSlotBasedConnectionHandler connectionHandler = mock(JedisSlotBasedConnectionHandler.class);
@@ -0,0 +1,66 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import org.junit.Test;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClusterConnectionHandler;
+import redis.clients.jedis.JedisClusterPipeline;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class JedisClusterPipelineTest {
+
+  @Test
+  public void failingNodeBreaksUnreadConnectionsAndFailsPendingResponses() {
+    JedisClusterConnectionHandler connectionHandler = mock(JedisClusterConnectionHandler.class);
+    Client readClient = mockNode(connectionHandler, "a");
+    Client failingClient = mockNode(connectionHandler, "b");
+    when(readClient.getMany(1)).thenReturn(
+      Collections.<Object> singletonList(SafeEncoder.encode("1")));
+    JedisConnectionException failure = new JedisConnectionException("Unexpected end of stream.");
+    when(failingClient.getMany(1)).thenThrow(failure);
+
+    JedisClusterPipeline pipeline = new JedisClusterPipeline(connectionHandler, 5);
+    Response<String> a = pipeline.get("a");
+    Response<String> b = pipeline.get("b");
+    try {
+      pipeline.sync();
+      fail("The failure should be thrown");
+    } catch (JedisConnectionException e) {
+      assertSame(failure, e);
+    }
+
+    assertEquals("1", a.get());
+    try {
+      b.get();
+      fail("The failure should be thrown");
+    } catch (JedisConnectionException e) {
+      assertSame(failure, e);
+    }
+    // the connection left with a reply to read is destroyed rather than lent again
+    verify(readClient, never()).setBroken();
+    verify(failingClient).setBroken();
+  }
+
+  private static Client mockNode(JedisClusterConnectionHandler connectionHandler, String key) {
+    JedisPool pool = mock(JedisPool.class);
+    Jedis connection = mock(Jedis.class);
+    Client client = mock(Client.class);
+    when(connectionHandler.getPoolFromSlot(JedisClusterCRC16.getSlot(key))).thenReturn(pool);
+    when(pool.getResource()).thenReturn(connection);
+    when(connection.getClient()).thenReturn(client);
+    return client;
+  }
+}
@@ -1,5 +1,6 @@
 package redis.clients.jedis.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -10,6 +11,7 @@ import static redis.clients.jedis.tests.utils.AssertUtil.assertByteArraySetEqual
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -41,8 +43,10 @@ import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.ClusterReset;
 import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.JedisClusterInfoCache;
+import redis.clients.jedis.JedisClusterPipeline;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.*;
 import redis.clients.jedis.params.GeoRadiusParam;
 import redis.clients.jedis.params.GeoRadiusStoreParam;
@@ -443,6 +447,103 @@ public class JedisClusterTest {
     }
   }
 
+  @Test
+  public void testMultiKeyCommandsAcrossSlots() {
+    try (JedisCluster jc = new JedisCluster(Collections.singleton(nodeInfo1),
+        DEFAULT_CLIENT_CONFIG, DEFAULT_REDIRECTIONS, DEFAULT_POOL_CONFIG)) {
+      // "b" is served by node1, "test" by node2, "foo" and "{foo}bar" by node3
+      assertEquals("OK", jc.mset("foo", "1", "test", "2", "b", "3", "{foo}bar", "4"));
+      assertEquals("2", node2.get("test"));
+      assertEquals(Arrays.asList("3", null, "1", "4", "2", "3"),
+        jc.mget("b", "missing", "foo", "{foo}bar", "test", "b"));
+      assertEquals(3, jc.exists("foo", "test", "b", "missing"));
+      assertEquals(2, jc.touch("foo", "test", "missing"));
+      assertEquals(2, jc.unlink("foo", "b"));
+      assertEquals(2, jc.del("test", "{foo}bar", "foo"));
+      assertEquals(0, jc.exists("foo", "test", "b", "{foo}bar"));
+
+      assertEquals("OK", jc.mset("foo".getBytes(), "1".getBytes(), "b".getBytes(), "2".getBytes()));
+      List<byte[]> values = jc.mget("b".getBytes(), "foo".getBytes());
+      assertArrayEquals("2".getBytes(), values.get(0));
+      assertArrayEquals("1".getBytes(), values.get(1));
+      assertEquals(2, jc.del("foo".getBytes(), "b".getBytes()));
+    }
+  }
+
+  @Test
+  public void msetWithoutValueAcrossSlots() {
+    try (JedisCluster jc = new JedisCluster(Collections.singleton(nodeInfo1),
+        DEFAULT_CLIENT_CONFIG, DEFAULT_REDIRECTIONS, DEFAULT_POOL_CONFIG)) {
+      try {
+        jc.mset("foo", "1", "test");
+        fail();
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      try {
+        jc.mset("foo".getBytes(), "1".getBytes(), "b".getBytes());
+        fail();
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      assertNull(node3.get("foo"));
+    }
+  }
+
+  @Test
+  public void testPipelined() {
+    try (JedisCluster jc = new JedisCluster(Collections.singleton(nodeInfo1),
+        DEFAULT_CLIENT_CONFIG, DEFAULT_REDIRECTIONS, DEFAULT_POOL_CONFIG)) {
+      JedisClusterPipeline p = jc.pipelined();
+      // "foo" is served by node3, "test" by node2 and "b" by node1
+      Response<String> setFoo = p.set("foo", "bar");
+      Response<Long> incr = p.incr("b");
+      p.set("test", "test");
+      Response<String> getFoo = p.get("foo");
+      Response<String> getTest = p.get("test");
+      Response<Long> wrongType = p.incr("foo");
+      p.sync();
+
+      assertEquals("OK", setFoo.get());
+      assertEquals(Long.valueOf(1), incr.get());
+      assertEquals("bar", getFoo.get());
+      assertEquals("test", getTest.get());
+      try {
+        wrongType.get();
+        fail();
+      } catch (JedisDataException e) {
+        // expected
+      }
+      assertEquals("bar", node3.get("foo"));
+      assertEquals("test", node2.get("test"));
+    }
+  }
+
+  @Test
+  public void testPipelinedFollowsRedirections() throws InterruptedException {
+    try (JedisCluster jc = new JedisCluster(Collections.singleton(nodeInfo1),
+        DEFAULT_CLIENT_CONFIG, DEFAULT_REDIRECTIONS, DEFAULT_POOL_CONFIG)) {
+      int slot51 = JedisClusterCRC16.getSlot("51");
+      node3.clusterSetSlotImporting(slot51, JedisClusterTestUtil.getNodeId(node2.clusterNodes()));
+      node2.clusterSetSlotMigrating(slot51, JedisClusterTestUtil.getNodeId(node3.clusterNodes()));
+
+      JedisClusterPipeline p = jc.pipelined();
+      p.set("51", "foo");
+      p.set("foo", "bar");
+      assertEquals(Arrays.<Object> asList("OK", "OK"), p.syncAndReturnAll());
+      assertEquals("foo", node3.get("51"));
+
+      node2.clusterSetSlotNode(slot51, JedisClusterTestUtil.getNodeId(node3.clusterNodes()));
+      node3.clusterSetSlotNode(slot51, JedisClusterTestUtil.getNodeId(node3.clusterNodes()));
+      JedisClusterTestUtil.waitForClusterReady(node1, node2, node3);
+
+      p = jc.pipelined();
+      Response<String> moved = p.get("51");
+      p.sync();
+      assertEquals("foo", moved.get());
+    }
+  }
+
   @Test(expected = JedisClusterMaxAttemptsException.class)
   public void testRedisClusterMaxRedirections() {
     Set<HostAndPort> jedisClusterNode = new HashSet<HostAndPort>();
@@ -0,0 +1,85 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.MultiplexedJedis;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+public class MultiplexedJedisTest {
+
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private MultiplexedJedis multiplexed;
+
+  @Before
+  public void setUp() {
+    try (Jedis jedis = new Jedis(hnp)) {
+      jedis.auth("foobared");
+      jedis.flushAll();
+    }
+    multiplexed = new MultiplexedJedis(hnp, DefaultJedisClientConfig.builder()
+        .password("foobared").build());
+  }
+
+  @After
+  public void tearDown() {
+    multiplexed.close();
+  }
+
+  @Test
+  public void sharedByManyThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(50);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < 50; t++) {
+      final String key = "counter" + t;
+      workers.add(executor.submit(() -> {
+        for (long i = 1; i <= 200; i++) {
+          assertEquals(i, multiplexed.incr(key));
+        }
+        return null;
+      }));
+    }
+    for (Future<?> worker : workers) {
+      worker.get();
+    }
+    executor.shutdown();
+
+    try (Jedis jedis = new Jedis(hnp)) {
+      jedis.auth("foobared");
+      assertEquals("200", jedis.get("counter0"));
+      assertTrue(jedis.clientList().split("\n").length <= 2);
+    }
+  }
+
+  @Test
+  public void errorReply() {
+    multiplexed.set("foo", "bar");
+    try {
+      multiplexed.incr("foo");
+      fail();
+    } catch (JedisDataException e) {
+      // expected
+    }
+    assertEquals("bar", multiplexed.get("foo"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void blockingCommand() {
+    multiplexed.blpop(1, "list");
+  }
+}
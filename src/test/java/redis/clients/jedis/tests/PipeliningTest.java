@@ -20,15 +20,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
+import redis.clients.jedis.AutoFlushPipeline;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Response;
 import redis.clients.jedis.Tuple;
+import redis.clients.jedis.WindowedPipeline;
 import redis.clients.jedis.exceptions.AbortedTransactionException;
 import redis.clients.jedis.exceptions.JedisBusyException;
 import redis.clients.jedis.exceptions.JedisDataException;
@@ -771,6 +775,132 @@ public class PipeliningTest extends JedisCommandTestBase {
     }
   }
 
+  @Test
+  public void autoFlushPipeline() {
+    final List<String> values = new ArrayList<>();
+    AutoFlushPipeline p = jedis.pipelined(100, 1024 * 1024);
+    for (int i = 0; i < 1000; i++) {
+      p.set("key" + i, "value" + i);
+      p.onReply(p.get("key" + i), values::add);
+      assertTrue(values.size() > i - 50);
+    }
+    p.sync();
+    assertEquals(1000, values.size());
+    assertEquals("value999", values.get(999));
+
+    // large values are read back by size
+    final List<String> replies = new ArrayList<>();
+    p = jedis.pipelined(1000, 10 * 1024);
+    char[] large = new char[4 * 1024];
+    Arrays.fill(large, 'x');
+    for (int i = 0; i < 10; i++) {
+      p.onReply(p.set("large" + i, new String(large)), replies::add);
+      assertTrue(replies.size() > i - 3);
+    }
+    p.sync();
+    assertEquals(10, replies.size());
+  }
+
+  @Test
+  public void autoFlushPipelineErrors() {
+    jedis.set("string", "foo");
+    final List<JedisDataException> errors = new ArrayList<>();
+    final List<Long> lengths = new ArrayList<>();
+    AutoFlushPipeline p = jedis.pipelined(10, 1024);
+    p.onReply(p.llen("string"), lengths::add, errors::add);
+    p.onReply(p.rpush("list", "a"), lengths::add);
+    p.sync();
+    assertEquals(1, errors.size());
+    assertEquals(Arrays.asList(1L), lengths);
+
+    p.onReply(p.llen("string"), lengths::add);
+    p.onReply(p.rpush("list", "b"), lengths::add);
+    try {
+      p.sync();
+      fail();
+    } catch (JedisDataException e) {
+      assertEquals(Arrays.asList(1L, 2L), lengths);
+    }
+
+    // read by the command which reached the threshold, thrown by the next sync
+    p = jedis.pipelined(2, 1024);
+    p.onReply(p.llen("string"), lengths::add);
+    Response<Long> pushed = p.rpush("list", "c");
+    assertEquals(Long.valueOf(3), pushed.get());
+    try {
+      p.sync();
+      fail();
+    } catch (JedisDataException e) {
+      assertTrue(e.getMessage().startsWith("WRONGTYPE"));
+    }
+    p.sync();
+  }
+
+  @Test
+  public void responseListeners() throws Exception {
+    jedis.set("string", "foo");
+    final List<Object> replies = new ArrayList<>();
+    Pipeline p = jedis.pipelined();
+    p.get("string").thenAccept(replies::add);
+    CompletableFuture<Long> error = p.incr("string").toCompletableFuture();
+    p.multi();
+    p.set("foo", "bar").thenAccept(replies::add);
+    CompletableFuture<String> queued = p.get("foo").toCompletableFuture();
+    p.exec();
+    assertTrue(replies.isEmpty());
+    p.sync();
+
+    assertEquals(Arrays.asList("foo", "OK"), replies);
+    assertTrue(error.isCompletedExceptionally());
+    assertEquals("bar", queued.get());
+  }
+
+  @Test
+  public void windowedPipeline() {
+    WindowedPipeline p = jedis.pipelinedWithWindow(100);
+    List<Response<String>> values = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      p.set("key" + i, "value" + i);
+      values.add(p.get("key" + i));
+    }
+    Response<Long> error = p.incr("key0");
+    p.sync();
+    for (int i = 0; i < 10000; i++) {
+      assertEquals("value" + i, values.get(i).get());
+    }
+    try {
+      error.get();
+      fail();
+    } catch (JedisDataException e) {
+      // expected
+    }
+    assertEquals("value1", jedis.get("key1"));
+  }
+
+  @Test
+  public void windowedPipelineListeners() {
+    for (int i = 0; i < 10000; i++) {
+      jedis.set("key" + i, "value" + i);
+    }
+    WindowedPipeline p = jedis.pipelinedWithWindow(10);
+    ConcurrentLinkedQueue<String> mismatches = new ConcurrentLinkedQueue<>();
+    for (int i = 0; i < 10000; i++) {
+      String expected = "value" + i;
+      // the reader thread may read the reply while the listener is added
+      p.get("key" + i).whenComplete((value, error) -> {
+        if (!expected.equals(value)) {
+          mismatches.add(expected + " != " + value);
+        }
+      }).thenAccept(value -> {
+        if (!expected.equals(value)) {
+          mismatches.add(expected + " != " + value);
+        }
+      });
+    }
+    p.sync();
+    assertTrue(mismatches.toString(), mismatches.isEmpty());
+  }
+
   private void verifyHasBothValues(String firstKey, String secondKey, String value1, String value2) {
     assertFalse(firstKey.equals(secondKey));
     assertTrue(firstKey.equals(value1) || firstKey.equals(value2));
@@ -3,23 +3,37 @@ package redis.clients.jedis.tests;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static redis.clients.jedis.tests.utils.AssertUtil.assertByteArrayListEquals;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.args.BulkSource;
 import redis.clients.jedis.exceptions.JedisBusyException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.RedisInputStream;
 import redis.clients.jedis.util.RedisOutputStream;
 import redis.clients.jedis.util.SafeEncoder;
@@ -46,6 +60,35 @@ public class ProtocolTest {
     assertEquals(expectedCommand, sb.toString());
   }
 
+  @Test
+  public void buildACommandFromSources() throws IOException {
+    File file = File.createTempFile("jedis", ".value");
+    file.deleteOnExit();
+    Files.write(file.toPath(), "file value".getBytes());
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    // a small buffer, so that the values are written in several chunks
+    RedisOutputStream ros = new RedisOutputStream(bos, 4);
+    ByteBuffer direct = ByteBuffer.allocateDirect(12);
+    direct.put("direct value".getBytes()).flip();
+    try (FileChannel channel = FileChannel.open(file.toPath())) {
+      Protocol.sendCommand(ros, Protocol.Command.MSET, BulkSource.of("key".getBytes()),
+        BulkSource.of(new ByteArrayInputStream("stream value".getBytes()), 12),
+        BulkSource.of(direct), BulkSource.of(channel, 5, 5));
+    }
+    ros.flush();
+
+    assertEquals("*5\r\n$4\r\nMSET\r\n$3\r\nkey\r\n$12\r\nstream value\r\n"
+        + "$12\r\ndirect value\r\n$5\r\nvalue\r\n", bos.toString());
+  }
+
+  @Test(expected = JedisConnectionException.class)
+  public void sourceEndingEarly() {
+    RedisOutputStream ros = new RedisOutputStream(new ByteArrayOutputStream());
+    Protocol.sendCommand(ros, Protocol.Command.SET, BulkSource.of("key".getBytes()),
+      BulkSource.of(new ByteArrayInputStream("short".getBytes()), 10));
+  }
+
   @Test(expected = IOException.class)
   public void writeOverflow() throws IOException {
     RedisOutputStream ros = new RedisOutputStream(new OutputStream() {
@@ -97,6 +140,30 @@ public class ProtocolTest {
     assertArrayEquals(SafeEncoder.encode("OK"), response);
   }
 
+  @Test
+  public void cannedStatusReply() {
+    InputStream is = new ByteArrayInputStream("+OK\r\n+OKAY\r\n+OK\r\n+OK\r\n".getBytes());
+    RedisInputStream ris = new RedisInputStream(is);
+    assertSame("OK", Protocol.readStatusCodeReply(ris, null));
+    assertEquals("OKAY", Protocol.readStatusCodeReply(ris, null));
+
+    // raw replies are copies, altering one does not alter the next
+    byte[] reply = (byte[]) Protocol.read(ris);
+    reply[0] = 'N';
+    assertArrayEquals(SafeEncoder.encode("OK"), (byte[]) Protocol.read(ris));
+  }
+
+  @Test
+  public void fragmentedErrorReply() {
+    InputStream fis = new FragmentedByteArrayInputStream("-ERR some\rthing wrong\r\n".getBytes());
+    try {
+      Protocol.read(new RedisInputStream(fis, 4));
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      assertEquals("ERR some\rthing wrong", e.getMessage());
+    }
+  }
+
   @Test
   public void integerReply() {
     InputStream is = new ByteArrayInputStream(":123\r\n".getBytes());
@@ -118,6 +185,20 @@ public class ProtocolTest {
     assertByteArrayListEquals(expected, response);
   }
 
+  @Test
+  public void integerReplyAsLong() {
+    InputStream is = new ByteArrayInputStream(":1234567\r\n#t\r\n-ERR no\r\n".getBytes());
+    RedisInputStream ris = new RedisInputStream(is);
+    assertEquals(1234567L, Protocol.readIntegerReply(ris, null));
+    assertEquals(1L, Protocol.readIntegerReply(ris, null));
+    try {
+      Protocol.readIntegerReply(ris, null);
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      assertEquals("ERR no", e.getMessage());
+    }
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   public void nullMultiBulkReply() {
@@ -138,4 +219,169 @@ public class ProtocolTest {
     }
     fail("Expected a JedisBusyException to be thrown.");
   }
+
+  @Test
+  public void bulkReplyViews() {
+    InputStream fis = new FragmentedByteArrayInputStream(
+        "*4\r\n$3\r\nfoo\r\n$-1\r\n$13\r\nbarbarbarfooz\r\n$20\r\ntwenty bytes of valu\r\n"
+            .getBytes());
+    List<String> values = new ArrayList<>();
+    // 16 bytes of buffer: the 13 byte value needs compacting, the 20 byte one is copied
+    int count = Protocol.readMultiBulkReplyViews(new RedisInputStream(fis, 16), null, view -> {
+      if (view == null) {
+        values.add(null);
+      } else {
+        byte[] copy = new byte[view.remaining()];
+        view.get(copy);
+        values.add(SafeEncoder.encode(copy));
+      }
+    });
+    assertEquals(4, count);
+    assertEquals(Arrays.asList("foo", null, "barbarbarfooz", "twenty bytes of valu"), values);
+  }
+
+  @Test
+  public void bulkReplyToStream() {
+    InputStream fis = new FragmentedByteArrayInputStream(
+        "$13\r\nbarbarbarfooz\r\n$-1\r\n$3\r\nfoo\r\n:1\r\n".getBytes());
+    RedisInputStream ris = new RedisInputStream(fis, 4);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(13, Protocol.readBulkReplyTo(ris, null, out));
+    assertEquals("barbarbarfooz", SafeEncoder.encode(out.toByteArray()));
+    assertEquals(-1, Protocol.readBulkReplyTo(ris, null, out));
+
+    OutputStream failing = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("disk full");
+      }
+    };
+    try {
+      Protocol.readBulkReplyTo(ris, null, failing);
+      fail("Expected a JedisException to be thrown.");
+    } catch (JedisException e) {
+      assertEquals("disk full", e.getCause().getMessage());
+    }
+    // the failed value was skipped
+    assertEquals(1L, Protocol.read(ris));
+  }
+
+  @Test
+  public void resp3ReplyToStream() {
+    InputStream is = new ByteArrayInputStream(
+        "_\r\n=15\r\ntxt:Some string\r\n$6\r\nfoobar\r\n:1\r\n".getBytes());
+    RedisInputStream ris = new RedisInputStream(is, 4);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(-1, Protocol.readBulkReplyTo(ris, null, out));
+    assertEquals(11, Protocol.readBulkReplyTo(ris, null, out));
+    assertEquals("Some string", SafeEncoder.encode(out.toByteArray()));
+
+    OutputStream failing = new OutputStream() {
+      @Override
+      public void write(int b) {
+        throw new IllegalStateException("closed");
+      }
+    };
+    try {
+      Protocol.readBulkReplyTo(ris, null, failing);
+      fail("Expected the stream's exception to be thrown.");
+    } catch (IllegalStateException e) {
+      assertEquals("closed", e.getMessage());
+    }
+    // the failed value was skipped
+    assertEquals(1L, Protocol.read(ris));
+  }
+
+  @Test
+  public void scanReplyViews() {
+    InputStream is = new ByteArrayInputStream(
+        "*2\r\n$2\r\n17\r\n*2\r\n$1\r\na\r\n$1\r\nb\r\n".getBytes());
+    List<String> keys = new ArrayList<>();
+    byte[] cursor = Protocol.readScanReplyViews(new RedisInputStream(is), null,
+      view -> keys.add(Protocol.CHARSET.decode(view).toString()));
+    assertArrayEquals(SafeEncoder.encode("17"), cursor);
+    assertEquals(Arrays.asList("a", "b"), keys);
+  }
+
+  @Test
+  public void failingElementConsumer() {
+    InputStream is = new ByteArrayInputStream(
+        "*2\r\n$2\r\n17\r\n*3\r\n$1\r\na\r\n$1\r\nb\r\n$1\r\nc\r\n:1\r\n".getBytes());
+    RedisInputStream ris = new RedisInputStream(is);
+    List<String> keys = new ArrayList<>();
+    try {
+      Protocol.readScanReplyViews(ris, null, view -> {
+        keys.add(Protocol.CHARSET.decode(view).toString());
+        throw new IllegalStateException("cannot decode");
+      });
+      fail("Expected the consumer's exception to be thrown.");
+    } catch (IllegalStateException e) {
+      assertEquals("cannot decode", e.getMessage());
+    }
+    // the elements after the failure were read but not handed over
+    assertEquals(Arrays.asList("a"), keys);
+    assertEquals(1L, Protocol.read(ris));
+  }
+
+  @Test
+  public void resp3Scalars() {
+    InputStream is = new ByteArrayInputStream(("_\r\n,1.5\r\n,-inf\r\n#t\r\n#f\r\n"
+        + "(3492890328409238509324850943850943825024385\r\n=15\r\ntxt:Some string\r\n")
+        .getBytes());
+    RedisInputStream ris = new RedisInputStream(is);
+    assertNull(Protocol.read(ris));
+    assertEquals(1.5, Protocol.read(ris));
+    assertEquals(Double.NEGATIVE_INFINITY, Protocol.read(ris));
+    assertEquals(Boolean.TRUE, Protocol.read(ris));
+    assertEquals(Boolean.FALSE, Protocol.read(ris));
+    assertEquals(new BigInteger("3492890328409238509324850943850943825024385"),
+      Protocol.read(ris));
+    assertArrayEquals(SafeEncoder.encode("Some string"), (byte[]) Protocol.read(ris));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void resp3Aggregates() {
+    InputStream is = new ByteArrayInputStream(("%2\r\n$5\r\nfirst\r\n:1\r\n+second\r\n"
+        + "-ERR wrong\r\n~2\r\n+a\r\n+b\r\n|1\r\n+ttl\r\n:10\r\n:7\r\n").getBytes());
+    RedisInputStream ris = new RedisInputStream(is);
+    Map<Object, Object> map = (Map<Object, Object>) Protocol.read(ris);
+    assertEquals(2, map.size());
+    List<Object> keys = new ArrayList<>(map.keySet());
+    assertArrayEquals(SafeEncoder.encode("first"), (byte[]) keys.get(0));
+    assertEquals(1L, map.get(keys.get(0)));
+    assertTrue(map.get(keys.get(1)) instanceof JedisDataException);
+
+    assertByteArrayListEquals(Arrays.asList(SafeEncoder.encode("a"), SafeEncoder.encode("b")),
+      (List<byte[]>) Protocol.read(ris));
+    // the attribute is skipped
+    assertEquals(7L, Protocol.read(ris));
+  }
+
+  @Test
+  public void blobErrorReply() {
+    InputStream is = new ByteArrayInputStream("!21\r\nSYNTAX invalid syntax\r\n".getBytes());
+    try {
+      Protocol.read(new RedisInputStream(is));
+      fail("Expected a JedisDataException to be thrown.");
+    } catch (JedisDataException e) {
+      assertEquals("SYNTAX invalid syntax", e.getMessage());
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void pushMessages() {
+    String push = ">2\r\n$10\r\ninvalidate\r\n*1\r\n$3\r\nfoo\r\n";
+    InputStream is = new ByteArrayInputStream((push + ":1\r\n" + push).getBytes());
+    RedisInputStream ris = new RedisInputStream(is);
+    List<List<Object>> pushed = new ArrayList<>();
+    assertEquals(1L, Protocol.read(ris, pushed::add));
+    assertEquals(1, pushed.size());
+    assertArrayEquals(SafeEncoder.encode("invalidate"), (byte[]) pushed.get(0).get(0));
+
+    // without a consumer, e.g. when subscribed, the push message is the reply
+    List<Object> reply = (List<Object>) Protocol.read(ris, null);
+    assertArrayEquals(SafeEncoder.encode("invalidate"), (byte[]) reply.get(0));
+  }
 }
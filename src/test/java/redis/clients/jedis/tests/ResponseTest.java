@@ -0,0 +1,101 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+public class ResponseTest {
+
+  @Test
+  public void listenersAreCalledWhenSet() {
+    List<Object> calls = new ArrayList<>();
+    Response<Long> response = new Response<>(BuilderFactory.LONG);
+    response.thenAccept(calls::add);
+    response.whenComplete((value, error) -> calls.add(error));
+    assertTrue(calls.isEmpty());
+
+    response.set(42L);
+    assertEquals(Arrays.asList(42L, null), calls);
+
+    // added once set
+    response.thenAccept(calls::add);
+    assertEquals(Arrays.asList(42L, null, 42L), calls);
+  }
+
+  @Test
+  public void errorReply() {
+    List<Object> calls = new ArrayList<>();
+    Response<String> response = new Response<>(BuilderFactory.STRING);
+    response.thenAccept(calls::add);
+    response.whenComplete((value, error) -> calls.add(error.getMessage()));
+    response.set(new JedisDataException("ERR wrong"));
+    assertEquals(Arrays.asList("ERR wrong"), calls);
+  }
+
+  @Test
+  public void failingListenerDoesNotStopTheOthers() {
+    List<Object> calls = new ArrayList<>();
+    Response<String> response = new Response<>(BuilderFactory.STRING);
+    response.thenAccept(value -> {
+      throw new IllegalStateException();
+    });
+    response.thenAccept(calls::add);
+    response.set("OK".getBytes());
+    assertEquals(Arrays.asList("OK"), calls);
+  }
+
+  @Test
+  public void completableFuture() throws Exception {
+    Response<String> response = new Response<>(BuilderFactory.STRING);
+    CompletableFuture<String> future = response.toCompletableFuture();
+    assertFalse(future.isDone());
+    response.set("bar".getBytes());
+    assertEquals("bar", future.get());
+
+    Response<String> error = new Response<>(BuilderFactory.STRING);
+    CompletableFuture<String> failed = error.toCompletableFuture();
+    error.set(new JedisDataException("ERR"));
+    try {
+      failed.get();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof JedisDataException);
+    }
+    assertTrue(failed.isCompletedExceptionally());
+  }
+
+  @Test
+  public void dependentResponses() {
+    // as the responses of the commands of a MULTI block depend on the EXEC response
+    final Response<String> queued = new Response<>(BuilderFactory.STRING);
+    Response<Object> exec = new Response<>(new Builder<Object>() {
+      @Override
+      public Object build(Object data) {
+        queued.set(((List<?>) data).get(0));
+        return data;
+      }
+    });
+    List<String> calls = new ArrayList<>();
+    queued.thenAccept(calls::add);
+    queued.setDependency(exec);
+    assertTrue(calls.isEmpty());
+
+    exec.set(Arrays.asList("foo".getBytes()));
+    assertEquals(Arrays.asList("foo"), calls);
+    assertEquals("foo", queued.get());
+    assertNull(new Response<>(BuilderFactory.STRING).toCompletableFuture().getNow(null));
+  }
+}
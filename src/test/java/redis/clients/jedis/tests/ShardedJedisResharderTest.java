@@ -0,0 +1,184 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+import redis.clients.jedis.ShardedJedisPool;
+import redis.clients.jedis.ShardedJedisResharder;
+
+public class ShardedJedisResharderTest {
+  private static HostAndPort redis1 = HostAndPortUtil.getRedisServers().get(0);
+  private static HostAndPort redis2 = HostAndPortUtil.getRedisServers().get(1);
+
+  private ShardedJedisPool oldPool;
+  private ShardedJedisPool newPool;
+
+  @Before
+  public void startUp() {
+    List<JedisShardInfo> oldShards = new ArrayList<>();
+    oldShards.add(new JedisShardInfo(redis1));
+    List<JedisShardInfo> newShards = new ArrayList<>();
+    newShards.add(new JedisShardInfo(redis1));
+    newShards.add(new JedisShardInfo(redis2));
+    for (JedisShardInfo shard : newShards) {
+      shard.setPassword("foobared");
+      try (Jedis j = new Jedis(shard)) {
+        j.flushAll();
+      }
+    }
+    oldShards.get(0).setPassword("foobared");
+
+    oldPool = new ShardedJedisPool(new GenericObjectPoolConfig<ShardedJedis>(), oldShards);
+    newPool = new ShardedJedisPool(new GenericObjectPoolConfig<ShardedJedis>(), newShards);
+  }
+
+  @After
+  public void tearDown() {
+    oldPool.destroy();
+    newPool.destroy();
+  }
+
+  @Test
+  public void reshard() {
+    try (ShardedJedis jedis = oldPool.getResource()) {
+      for (int i = 0; i < 1000; i++) {
+        jedis.set("foo" + i, "bar" + i);
+      }
+      jedis.expire("foo0", 1000);
+      jedis.expire("foo1", 1000);
+    }
+
+    ShardedJedisResharder resharder = new ShardedJedisResharder(oldPool, newPool);
+    resharder.setBatchSize(100);
+    assertEquals("bar0", resharder.get("foo0"));
+    assertNull(resharder.get("missing"));
+
+    long moved = resharder.reshard();
+    assertTrue(moved > 300 && moved < 700);
+    assertEquals(1000, resharder.getScannedKeys());
+    assertEquals(0, resharder.reshard());
+
+    try (ShardedJedis jedis = newPool.getResource()) {
+      for (int i = 0; i < 1000; i++) {
+        assertEquals("bar" + i, jedis.get("foo" + i));
+      }
+      assertTrue(jedis.ttl("foo0") > 0);
+      assertTrue(jedis.ttl("foo1") > 0);
+    }
+    try (Jedis jedis = new Jedis(redis1)) {
+      jedis.auth("foobared");
+      assertEquals(1000 - moved, jedis.dbSize());
+    }
+  }
+
+  @Test
+  public void keepsKeysWrittenToTheirNewShard() {
+    String key = null;
+    try (ShardedJedis oldJedis = oldPool.getResource();
+        ShardedJedis newJedis = newPool.getResource()) {
+      for (int i = 0; key == null; i++) {
+        if (newJedis.getShardInfo("foo" + i).getPort() == redis2.getPort()) {
+          key = "foo" + i;
+        }
+      }
+      oldJedis.set(key, "old");
+      newJedis.set(key, "new");
+    }
+
+    ShardedJedisResharder resharder = new ShardedJedisResharder(oldPool, newPool);
+    assertEquals("new", resharder.get(key));
+    assertEquals(0, resharder.reshard());
+    assertEquals(1, resharder.getDroppedKeys());
+    assertEquals("new", resharder.get(key));
+    try (ShardedJedis jedis = oldPool.getResource()) {
+      assertNull(jedis.get(key));
+    }
+  }
+
+  @Test
+  public void deleteOnBothShards() {
+    String key = null;
+    try (ShardedJedis oldJedis = oldPool.getResource();
+        ShardedJedis newJedis = newPool.getResource()) {
+      for (int i = 0; key == null; i++) {
+        if (newJedis.getShardInfo("foo" + i).getPort() == redis2.getPort()) {
+          key = "foo" + i;
+        }
+      }
+      oldJedis.set(key, "old");
+    }
+
+    ShardedJedisResharder resharder = new ShardedJedisResharder(oldPool, newPool);
+    assertEquals(1, resharder.del(key));
+    assertNull(resharder.get(key));
+    assertEquals(0, resharder.reshard());
+    assertNull(resharder.get(key));
+  }
+
+  @Test
+  public void movesKeysWrittenAgainAfterDelete() {
+    String key = null;
+    try (ShardedJedis oldJedis = oldPool.getResource();
+        ShardedJedis newJedis = newPool.getResource()) {
+      for (int i = 0; key == null; i++) {
+        if (newJedis.getShardInfo("foo" + i).getPort() == redis2.getPort()) {
+          key = "foo" + i;
+        }
+      }
+      oldJedis.set(key, "old");
+    }
+
+    ShardedJedisResharder resharder = new ShardedJedisResharder(oldPool, newPool);
+    assertEquals(1, resharder.del(key));
+    try (ShardedJedis oldJedis = oldPool.getResource()) {
+      oldJedis.set(key, "again");
+    }
+    assertEquals(1, resharder.reshard());
+    assertEquals("again", resharder.get(key));
+  }
+
+  @Test
+  public void movesKeysWhichAreNotUtf8() {
+    byte[] key = { 'f', 'o', 'o', (byte) 0xff };
+    try (ShardedJedis jedis = oldPool.getResource()) {
+      jedis.set(key, "bar".getBytes());
+    }
+
+    ShardedJedisResharder resharder = new ShardedJedisResharder(oldPool, newPool);
+    resharder.reshard();
+    try (ShardedJedis jedis = newPool.getResource()) {
+      assertArrayEquals("bar".getBytes(), jedis.get(key));
+    }
+  }
+
+  @Test
+  public void rateLimit() {
+    try (ShardedJedis jedis = oldPool.getResource()) {
+      for (int i = 0; i < 1000; i++) {
+        jedis.set("foo" + i, "bar" + i);
+      }
+    }
+
+    ShardedJedisResharder resharder = new ShardedJedisResharder(oldPool, newPool);
+    resharder.setBatchSize(10);
+    resharder.setMaxKeysPerSecond(1000);
+    long begin = System.currentTimeMillis();
+    long moved = resharder.reshard();
+    // the last batch goes once the ones before it have had their share of time
+    assertTrue(System.currentTimeMillis() - begin >= moved - 50);
+  }
+}
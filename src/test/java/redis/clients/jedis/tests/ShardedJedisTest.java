@@ -11,6 +11,7 @@ import static redis.clients.jedis.Protocol.Command.PING;
 import static redis.clients.jedis.Protocol.Command.SET;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -20,11 +21,15 @@ import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisShardInfo;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ShardedJedis;
+import redis.clients.jedis.ShardedJedisPipeline;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.tests.utils.ClientKillerUtil;
 import redis.clients.jedis.util.Hashing;
 import redis.clients.jedis.util.SafeEncoder;
 import redis.clients.jedis.util.Sharded;
+import redis.clients.jedis.util.ShardingStrategy;
 
 public class ShardedJedisTest {
   private static HostAndPort redis1 = HostAndPortUtil.getRedisServers().get(0);
@@ -136,6 +141,66 @@ public class ShardedJedisTest {
     j.disconnect();
   }
 
+  @Test
+  public void pipeline() {
+    List<JedisShardInfo> shards = new ArrayList<JedisShardInfo>();
+    for (HostAndPort hnp : new HostAndPort[] { redis1, redis2 }) {
+      JedisShardInfo si = new JedisShardInfo(hnp);
+      si.setPassword("foobared");
+      shards.add(si);
+    }
+    ShardedJedis jedis = new ShardedJedis(shards);
+    List<String> keys = getKeysDifferentShard(jedis);
+
+    ShardedJedisPipeline p = jedis.pipelined();
+    p.set(keys.get(0), "a");
+    p.set(keys.get(1), "b");
+    Response<String> a = p.get(keys.get(0));
+    p.incr(keys.get(1));
+    Response<String> b = p.get(keys.get(1));
+    List<Object> replies = p.syncAndReturnAll();
+
+    assertEquals("a", a.get());
+    assertEquals("b", b.get());
+    assertEquals(5, replies.size());
+    assertEquals("OK", replies.get(0));
+    assertEquals("a", replies.get(2));
+    assertTrue(replies.get(3) instanceof JedisDataException);
+    assertEquals("b", replies.get(4));
+    // the shards are usable again
+    assertEquals("a", jedis.get(keys.get(0)));
+    jedis.disconnect();
+  }
+
+  @Test
+  public void multiShardCommands() {
+    List<JedisShardInfo> shards = new ArrayList<JedisShardInfo>();
+    for (HostAndPort hnp : new HostAndPort[] { redis1, redis2 }) {
+      JedisShardInfo si = new JedisShardInfo(hnp);
+      si.setPassword("foobared");
+      shards.add(si);
+    }
+    ShardedJedis jedis = new ShardedJedis(shards);
+    List<String> keys = getKeysDifferentShard(jedis);
+
+    assertEquals("OK", jedis.mset(keys.get(0), "a", keys.get(1), "b"));
+    assertEquals("a", jedis.get(keys.get(0)));
+    assertEquals(Arrays.asList("b", null, "a"), jedis.mget(keys.get(1), "missing", keys.get(0)));
+    assertEquals(2, jedis.exists(keys.get(0), keys.get(1), "missing"));
+    assertEquals(1, jedis.del(keys.get(1), "missing"));
+    assertEquals(1, jedis.exists(keys.get(0), keys.get(1)));
+
+    assertEquals(0, jedis.mget(new String[0]).size());
+    assertEquals(0, jedis.del(new String[0]));
+    try {
+      jedis.mset(keys.get(0), "a", keys.get(1));
+      fail("A key without value should be refused");
+    } catch (IllegalArgumentException e) {
+      assertEquals(1, jedis.exists(keys.get(0), keys.get(1)));
+    }
+    jedis.disconnect();
+  }
+
   @Test
   public void tryShardingWithMurmure() {
     List<JedisShardInfo> shards = new ArrayList<JedisShardInfo>();
@@ -175,6 +240,9 @@ public class ShardedJedisTest {
     assertEquals("bar", jedis.getKeyTag("foo{bar}}")); // Default pattern is non greedy
     assertEquals("bar", jedis.getKeyTag("{bar}foo")); // Key tag may appear anywhere
     assertEquals("bar", jedis.getKeyTag("f{bar}oo")); // Key tag may appear anywhere
+    assertEquals("}x", jedis.getKeyTag("{}x}")); // The tag is never empty
+    assertEquals("bar", jedis.getKeyTag("{b\nr}{bar}")); // Nor spans lines
+    assertEquals("{bar", jedis.getKeyTag("{{bar}}"));
 
     JedisShardInfo s1 = jedis.getShardInfo("abc{bar}");
     JedisShardInfo s2 = jedis.getShardInfo("foo{bar}");
@@ -235,6 +303,8 @@ public class ShardedJedisTest {
     shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT + 2));
     Sharded<Jedis, JedisShardInfo> sharded = new Sharded<Jedis, JedisShardInfo>(shards,
         Hashing.MURMUR_HASH);
+    // the shard of every virtual node
+    assertEquals(3 * 160, sharded.getAllShardInfo().size());
     int shard_6379 = 0;
     int shard_6380 = 0;
     int shard_6381 = 0;
@@ -260,6 +330,78 @@ public class ShardedJedisTest {
     assertTrue(shard_6381 > 300 && shard_6381 < 400);
   }
 
+  @Test
+  public void jumpConsistentHashSharding() {
+    List<JedisShardInfo> shards = new ArrayList<JedisShardInfo>(4);
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT));
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT + 1));
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT + 2));
+    Sharded<Jedis, JedisShardInfo> sharded = new Sharded<Jedis, JedisShardInfo>(shards,
+        ShardingStrategy.JUMP_CONSISTENT_HASH);
+    assertBalanced(sharded, shards);
+    assertEquals(shards, new ArrayList<JedisShardInfo>(sharded.getAllShardInfo()));
+
+    // keys only move to a shard appended to the list
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT + 3));
+    Sharded<Jedis, JedisShardInfo> grown = new Sharded<Jedis, JedisShardInfo>(shards,
+        ShardingStrategy.JUMP_CONSISTENT_HASH);
+    for (int i = 0; i < 1000; i++) {
+      JedisShardInfo moved = grown.getShardInfo(Integer.toString(i));
+      if (moved != sharded.getShardInfo(Integer.toString(i))) {
+        assertSame(shards.get(3), moved);
+      }
+    }
+  }
+
+  @Test
+  public void rendezvousSharding() {
+    List<JedisShardInfo> shards = new ArrayList<JedisShardInfo>(3);
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT, "HOST1:1234"));
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT + 1, "HOST2:1234"));
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT + 2, "HOST3:1234"));
+    Sharded<Jedis, JedisShardInfo> sharded = new Sharded<Jedis, JedisShardInfo>(shards,
+        ShardingStrategy.RENDEZVOUS);
+    assertBalanced(sharded, shards);
+
+    // only the keys of a removed shard move, whatever its position
+    JedisShardInfo removed = shards.remove(0);
+    Sharded<Jedis, JedisShardInfo> shrunk = new Sharded<Jedis, JedisShardInfo>(shards,
+        ShardingStrategy.RENDEZVOUS);
+    for (int i = 0; i < 1000; i++) {
+      JedisShardInfo before = sharded.getShardInfo(Integer.toString(i));
+      if (before != removed) {
+        assertSame(before, shrunk.getShardInfo(Integer.toString(i)));
+      }
+    }
+  }
+
+  @Test
+  public void weightedRendezvousSharding() {
+    List<JedisShardInfo> shards = new ArrayList<JedisShardInfo>(2);
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT, 2000, 2000, 3));
+    shards.add(new JedisShardInfo("localhost", Protocol.DEFAULT_PORT + 1, 2000, 2000, 1));
+    Sharded<Jedis, JedisShardInfo> sharded = new Sharded<Jedis, JedisShardInfo>(shards,
+        ShardingStrategy.RENDEZVOUS);
+    int heavy = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (sharded.getShardInfo(Integer.toString(i)) == shards.get(0)) {
+        heavy++;
+      }
+    }
+    assertTrue(heavy > 700 && heavy < 800);
+  }
+
+  private void assertBalanced(Sharded<Jedis, JedisShardInfo> sharded,
+      List<JedisShardInfo> shards) {
+    int[] counts = new int[shards.size()];
+    for (int i = 0; i < 1000; i++) {
+      counts[shards.indexOf(sharded.getShardInfo(Integer.toString(i)))]++;
+    }
+    for (int count : counts) {
+      assertTrue(count > 300 && count < 400);
+    }
+  }
+
   @Test
   public void testMasterSlaveShardingConsistency() {
     List<JedisShardInfo> shards = new ArrayList<JedisShardInfo>(3);
@@ -0,0 +1,134 @@
+package redis.clients.jedis.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.TypedJedis;
+import redis.clients.jedis.codec.Codecs;
+import redis.clients.jedis.codec.RedisCodec;
+
+public class TypedJedisTest {
+
+  private static final HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+
+  private Jedis jedis;
+
+  @Before
+  public void setUp() {
+    jedis = new Jedis(hnp, DefaultJedisClientConfig.builder().password("foobared").build());
+    jedis.flushAll();
+  }
+
+  @After
+  public void tearDown() {
+    jedis.close();
+  }
+
+  @Test
+  public void strings() {
+    TypedJedis<String, String> typed = new TypedJedis<>(jedis, RedisCodec.of(Codecs.UTF8));
+    assertEquals("OK", typed.set("foo", "b\u00e4r"));
+    assertEquals("b\u00e4r", jedis.get("foo"));
+    assertEquals("b\u00e4r", typed.get("foo"));
+    assertNull(typed.get("missing"));
+    assertEquals(Arrays.asList("b\u00e4r", null), typed.mget("foo", "missing"));
+    assertTrue(typed.exists("foo"));
+    assertEquals(1, typed.del("foo", "missing"));
+    assertFalse(typed.exists("foo"));
+  }
+
+  @Test
+  public void numbers() {
+    TypedJedis<String, Long> typed = new TypedJedis<>(jedis,
+        RedisCodec.of(Codecs.UTF8, Codecs.LONG));
+    typed.set("counter", -41L);
+    jedis.incrBy("counter", 83);
+    assertEquals(Long.valueOf(42), typed.get("counter"));
+
+    TypedJedis<String, Double> doubles = new TypedJedis<>(jedis,
+        RedisCodec.of(Codecs.UTF8, Codecs.DOUBLE));
+    doubles.set("float", 10.5);
+    jedis.incrByFloat("float", 0.25);
+    assertEquals(Double.valueOf(10.75), doubles.get("float"));
+  }
+
+  @Test
+  public void collections() {
+    try (JedisPool pool = new JedisPool(new JedisPoolConfig(), hnp,
+        DefaultJedisClientConfig.builder().password("foobared").build())) {
+      TypedJedis<String, Long> typed = new TypedJedis<>(pool,
+          RedisCodec.of(Codecs.UTF8, Codecs.LONG));
+      assertEquals(3, typed.rpush("list", 1L, 2L, 3L));
+      assertEquals(Arrays.asList(1L, 2L, 3L), typed.lrange("list", 0, -1));
+      assertEquals(Long.valueOf(1), typed.lpop("list"));
+
+      Map<String, Long> hash = new HashMap<>();
+      hash.put("a", 1L);
+      hash.put("b", 2L);
+      assertEquals(2, typed.hset("hash", hash));
+      assertEquals(hash, typed.hgetAll("hash"));
+      assertEquals(Long.valueOf(2), typed.hget("hash", "b"));
+      assertEquals(1, typed.hdel("hash", "a"));
+
+      assertEquals(1, typed.sadd("set", 7L, 7L));
+      assertTrue(typed.sismember("set", 7L));
+      assertEquals(Collections.singleton(7L), typed.smembers("set"));
+    }
+  }
+
+  @Test
+  public void decodeFailureReadsTheWholeReply() {
+    jedis.rpush("list", "1", "two", "3");
+    TypedJedis<String, Long> typed = new TypedJedis<>(jedis,
+        RedisCodec.of(Codecs.UTF8, Codecs.LONG));
+    try {
+      typed.lrange("list", 0, -1);
+      fail("The decoding failure should be thrown");
+    } catch (RuntimeException e) {
+      // the reply was read to its end
+      assertEquals("PONG", jedis.ping());
+    }
+  }
+
+  @Test
+  public void refusedInPipeline() {
+    TypedJedis<String, String> typed = new TypedJedis<>(jedis, RedisCodec.of(Codecs.UTF8));
+    Pipeline pipeline = jedis.pipelined();
+    pipeline.set("foo", "bar");
+    try {
+      typed.get("foo");
+      fail("A Jedis with pipelined commands pending should be refused");
+    } catch (IllegalStateException e) {
+      pipeline.sync();
+    }
+    assertEquals("bar", typed.get("foo"));
+  }
+
+  @Test
+  public void rawBytes() {
+    TypedJedis<byte[], byte[]> typed = new TypedJedis<>(jedis, RedisCodec.of(Codecs.BYTES));
+    byte[] value = { 0, '\r', '\n', -1 };
+    typed.set("foo".getBytes(), value);
+    assertArrayEquals(value, jedis.get("foo".getBytes()));
+    assertArrayEquals(value, typed.get("foo".getBytes()));
+  }
+}
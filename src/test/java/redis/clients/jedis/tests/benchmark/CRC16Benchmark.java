@@ -1,15 +1,27 @@
 package redis.clients.jedis.tests.benchmark;
 
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
 
 import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.Sharded;
+import redis.clients.jedis.util.ShardInfo;
 
 public class CRC16Benchmark {
   private static final int TOTAL_OPERATIONS = 100000000;
+  private static final int TAG_OPERATIONS = 10000000;
 
   private static String[] TEST_SET = { "", "123456789", "sfger132515",
       "hae9Napahngaikeethievubaibogiech", "AAAAAAAAAAAAAAAAAAAAAA", "Hello, World!" };
 
+  private static String[] TAGGED_TEST_SET = { "{user1000}.following", "{user1000}.followers",
+      "session:{8f14e45fceea167a}:cart", "order:2021:{customer:42}", "no-tag-here:1234567",
+      "caf\u00e9:{\u00e9t\u00e9}" };
+
   public static void main(String[] args) {
     long begin = Calendar.getInstance().getTimeInMillis();
 
@@ -19,7 +31,81 @@ public class CRC16Benchmark {
 
     long elapsed = Calendar.getInstance().getTimeInMillis() - begin;
 
-    System.out.println(((1000 * TOTAL_OPERATIONS) / elapsed) + " ops");
+    System.out.println(((1000L * TOTAL_OPERATIONS) / elapsed) + " ops");
+
+    measureTags();
+  }
+
+  /**
+   * Compares the slots and key tags of tagged keys with the way they were found before: encoding
+   * the hash tag to compute its slot, and matching the default key tag pattern of
+   * {@link Sharded}.
+   */
+  private static void measureTags() {
+    byte[][] taggedBytes = new byte[TAGGED_TEST_SET.length][];
+    for (int i = 0; i < taggedBytes.length; i++) {
+      taggedBytes[i] = SafeEncoder.encode(TAGGED_TEST_SET[i]);
+    }
+    Sharded<Object, Shard> sharded = new Sharded<>(Arrays.asList(new Shard()),
+        Sharded.DEFAULT_KEY_TAG_PATTERN);
+
+    for (int at = 0; at != 3; ++at) {
+      measure("slot, encoded hash tag", n -> encodedSlot(TAGGED_TEST_SET[n]));
+      measure("slot, scanned hash tag", n -> JedisClusterCRC16.getSlot(TAGGED_TEST_SET[n]));
+      measure("slot of bytes", n -> JedisClusterCRC16.getSlot(taggedBytes[n]));
+      measure("key tag, regex", n -> regexKeyTag(TAGGED_TEST_SET[n]).length());
+      measure("key tag, scanned", n -> sharded.getKeyTag(TAGGED_TEST_SET[n]).length());
+    }
+  }
+
+  private static int encodedSlot(String key) {
+    int s = key.indexOf("{");
+    if (s > -1) {
+      int e = key.indexOf("}", s + 1);
+      if (e > -1 && e != s + 1) {
+        key = key.substring(s + 1, e);
+      }
+    }
+    return JedisClusterCRC16.getCRC16(SafeEncoder.encode(key)) & (16384 - 1);
+  }
+
+  private static String regexKeyTag(String key) {
+    Matcher m = Sharded.DEFAULT_KEY_TAG_PATTERN.matcher(key);
+    return m.find() ? m.group(1) : key;
   }
 
-}
\ No newline at end of file
+  private static void measure(String name, ToIntFunction<Integer> operation) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long thread = Thread.currentThread().getId();
+
+    long allocated = threads.getThreadAllocatedBytes(thread);
+    long begin = System.nanoTime();
+    int checksum = 0;
+    for (int n = 0; n < TAG_OPERATIONS; n++) {
+      checksum += operation.applyAsInt(n % TAGGED_TEST_SET.length);
+    }
+    long elapsed = Math.max(1, System.nanoTime() - begin);
+    allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+
+    System.out.println(String.format("%10d ops, %3d bytes per key, %s%s",
+      1000000000L * TAG_OPERATIONS / elapsed, allocated / TAG_OPERATIONS, name,
+      checksum == 0 ? " (empty)" : ""));
+  }
+
+  private static class Shard extends ShardInfo<Object> {
+    Shard() {
+      super(Sharded.DEFAULT_WEIGHT);
+    }
+
+    @Override
+    protected Object createResource() {
+      return new Object();
+    }
+
+    @Override
+    public String getName() {
+      return null;
+    }
+  }
+}
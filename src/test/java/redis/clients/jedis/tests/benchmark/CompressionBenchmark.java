@@ -0,0 +1,77 @@
+package redis.clients.jedis.tests.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import redis.clients.jedis.codec.Codec;
+import redis.clients.jedis.codec.Codecs;
+import redis.clients.jedis.codec.CompressingCodec;
+import redis.clients.jedis.codec.DeflateCompressor;
+
+/**
+ * Encodes and decodes JSON documents of 2 to 40 KB with and without compression, reporting the
+ * stored size and the throughput. Needs no server.
+ */
+public class CompressionBenchmark {
+  private static final int TOTAL_OPERATIONS = 20000;
+  private static final int[] SIZES = { 2 * 1024, 8 * 1024, 40 * 1024 };
+
+  public static void main(String[] args) {
+    for (int size : SIZES) {
+      String json = json(size);
+      System.out.println(json.length() + " bytes of JSON");
+      measure("utf8", Codecs.UTF8, json);
+      measure("deflate fastest", new CompressingCodec<>(Codecs.UTF8,
+          new DeflateCompressor(Deflater.BEST_SPEED), 1024), json);
+      measure("deflate default", new CompressingCodec<>(Codecs.UTF8,
+          new DeflateCompressor(Deflater.DEFAULT_COMPRESSION), 1024), json);
+    }
+  }
+
+  private static void measure(String name, Codec<String> codec, String json) {
+    byte[] stored = Codecs.toByteArray(codec.encode(json));
+    long encoding = 0;
+    long decoding = 0;
+    for (int at = 0; at != 2; ++at) {
+      long begin = System.nanoTime();
+      for (int n = 0; n < TOTAL_OPERATIONS; n++) {
+        Codecs.toByteArray(codec.encode(json));
+      }
+      encoding = System.nanoTime() - begin;
+      begin = System.nanoTime();
+      for (int n = 0; n < TOTAL_OPERATIONS; n++) {
+        codec.decode(ByteBuffer.wrap(stored));
+      }
+      decoding = System.nanoTime() - begin;
+    }
+    System.out.println(String.format("  %-16s %6d bytes stored, %7d encodes/s, %7d decodes/s",
+      name, stored.length, opsPerSecond(encoding), opsPerSecond(decoding)));
+  }
+
+  private static long opsPerSecond(long elapsedNanos) {
+    return TOTAL_OPERATIONS * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+  }
+
+  /**
+   * A list of user records, repetitive like most cached API responses.
+   */
+  private static String json(int size) {
+    Random random = new Random(42);
+    String[] cities = { "Lisbon", "Montreal", "Osaka", "Nairobi", "Lima", "Oslo" };
+    StringBuilder json = new StringBuilder("{\"users\":[");
+    for (int id = 0; json.length() < size; id++) {
+      if (id > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":").append(100000 + random.nextInt(900000))
+          .append(",\"name\":\"user").append(Long.toHexString(random.nextLong()))
+          .append("\",\"city\":\"").append(cities[random.nextInt(cities.length)])
+          .append("\",\"active\":").append(random.nextBoolean())
+          .append(",\"score\":").append(random.nextInt(10000) / 100.0)
+          .append(",\"tags\":[\"beta\",\"newsletter\"]}");
+    }
+    return json.append("]}").toString();
+  }
+}
@@ -0,0 +1,68 @@
+package redis.clients.jedis.tests.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.tests.HostAndPortUtil;
+
+/**
+ * Runs pipelines of 100k commands, reporting the throughput, the bytes allocated per command and
+ * the garbage collections they caused.
+ */
+public class PipelineGcBenchmark {
+  private static HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
+  private static final int PIPELINE_COMMANDS = 100000;
+  private static final int ROUNDS = 20;
+
+  public static void main(String[] args) {
+    try (Jedis jedis = new Jedis(hnp)) {
+      jedis.auth("foobared");
+      jedis.flushAll();
+      jedis.set("foo", "bar");
+
+      for (int round = 0; round < ROUNDS; round++) {
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long allocated = allocatedBytes();
+        long begin = System.nanoTime();
+
+        Pipeline p = jedis.pipelined();
+        for (int n = 0; n < PIPELINE_COMMANDS; n++) {
+          p.get("foo");
+        }
+        p.sync();
+
+        long elapsed = System.nanoTime() - begin;
+        System.out.println(String.format("%8d ops, %4d bytes per command, %d GCs in %d ms",
+          PIPELINE_COMMANDS * TimeUnit.SECONDS.toNanos(1) / elapsed,
+          (allocatedBytes() - allocated) / PIPELINE_COMMANDS, gcCount() - gcCount,
+          gcMillis() - gcMillis));
+      }
+    }
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private static long gcCount() {
+    long count = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += gc.getCollectionCount();
+    }
+    return count;
+  }
+
+  private static long gcMillis() {
+    long millis = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      millis += gc.getCollectionTime();
+    }
+    return millis;
+  }
+}
@@ -9,9 +9,15 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.tests.HostAndPortUtil;
 
+/**
+ * Compares a plain pipeline, which writes everything before reading, with windowed pipelines
+ * reading while they write. Run against a distant server, or one behind {@code tc qdisc ... netem
+ * delay}, to see the effect of latency.
+ */
 public class PipelinedGetSetBenchmark {
   private static HostAndPort hnp = HostAndPortUtil.getRedisServers().get(0);
   private static final int TOTAL_OPERATIONS = 200000;
+  private static final int[] WINDOWS = { 1000, 10000, 100000 };
 
   public static void main(String[] args) throws UnknownHostException, IOException {
     Jedis jedis = new Jedis(hnp);
@@ -19,9 +25,20 @@ public class PipelinedGetSetBenchmark {
     jedis.auth("foobared");
     jedis.flushAll();
 
+    System.out.println(measure(jedis.pipelined()) + " ops");
+
+    for (int window : WINDOWS) {
+      jedis.flushAll();
+      System.out.println(measure(jedis.pipelinedWithWindow(window)) + " ops with a window of "
+          + window);
+    }
+
+    jedis.disconnect();
+  }
+
+  private static long measure(Pipeline p) {
     long begin = Calendar.getInstance().getTimeInMillis();
 
-    Pipeline p = jedis.pipelined();
     for (int n = 0; n <= TOTAL_OPERATIONS; n++) {
       String key = "foo" + n;
       p.set(key, "bar" + n);
@@ -31,8 +48,6 @@ public class PipelinedGetSetBenchmark {
 
     long elapsed = Calendar.getInstance().getTimeInMillis() - begin;
 
-    jedis.disconnect();
-
-    System.out.println(((1000 * 2 * TOTAL_OPERATIONS) / elapsed) + " ops");
+    return (1000 * 2 * TOTAL_OPERATIONS) / elapsed;
   }
-}
\ No newline at end of file
+}
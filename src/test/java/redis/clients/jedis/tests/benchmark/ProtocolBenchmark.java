@@ -1,6 +1,7 @@
 package redis.clients.jedis.tests.benchmark;
 
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.util.RedisInputStream;
 import redis.clients.jedis.util.RedisOutputStream;
 
@@ -8,7 +9,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Copyright (c) 2014
@@ -38,6 +41,17 @@ public class ProtocolBenchmark {
 
     System.out.println((total / 5) + " avg");
 
+    total = 0;
+    for (int at = 0; at != 10; ++at) {
+      long elapsed = measureInputError();
+      long ops = ((1000 * 2 * TOTAL_OPERATIONS) / TimeUnit.NANOSECONDS.toMillis(elapsed));
+      if (at >= 5) {
+        total += ops;
+      }
+    }
+
+    System.out.println((total / 5) + " avg");
+
     total = 0;
     for (int at = 0; at != 10; ++at) {
       long elapsed = measureCommand();
@@ -48,6 +62,106 @@ public class ProtocolBenchmark {
     }
 
     System.out.println((total / 5) + " avg");
+
+    for (boolean primitive : new boolean[] { false, true }) {
+      total = 0;
+      for (int at = 0; at != 10; ++at) {
+        long elapsed = measureInputInteger(primitive);
+        long ops = ((1000 * 2 * TOTAL_OPERATIONS) / TimeUnit.NANOSECONDS.toMillis(elapsed));
+        if (at >= 5) {
+          total += ops;
+        }
+      }
+      System.out.println((total / 5) + " avg integer replies " + (primitive ? "as long" : "as Long"));
+    }
+
+    System.out.println(allocatedBytesPerRead("+OK\r\n") + " bytes allocated per OK status");
+    System.out.println(allocatedBytesPerRead("+QUEUED\r\n") + " bytes allocated per QUEUED status");
+    System.out.println(allocatedBytesPerRead("+FULLRESYNC\r\n")
+        + " bytes allocated per other status");
+    System.out.println(allocatedBytesPerRead("-ERR unknown command 'FOO'\r\n")
+        + " bytes allocated per error");
+    System.out.println(allocatedBytesPerRead(":1234567\r\n", Protocol::read)
+        + " bytes allocated per integer as Long");
+    System.out.println(allocatedBytesPerRead(":1234567\r\n",
+      in -> Protocol.readIntegerReply(in, null)) + " bytes allocated per integer as long");
+  }
+
+  private static long measureInputError() throws Exception {
+    long duration = 0;
+
+    InputStream is = new ByteArrayInputStream(
+        "-WRONGTYPE Operation against a key holding the wrong kind of value\r\n".getBytes());
+
+    RedisInputStream in = new RedisInputStream(is);
+    for (int n = 0; n <= TOTAL_OPERATIONS; n++) {
+      long start = System.nanoTime();
+      try {
+        Protocol.read(in);
+      } catch (JedisDataException e) {
+        // expected
+      }
+      duration += (System.nanoTime() - start);
+      in.reset();
+    }
+
+    return duration;
+  }
+
+  private static long measureInputInteger(boolean primitive) throws Exception {
+    long duration = 0;
+
+    // beyond the cache of Long.valueOf
+    InputStream is = new ByteArrayInputStream(":1234567\r\n".getBytes());
+
+    RedisInputStream in = new RedisInputStream(is);
+    long sum = 0;
+    for (int n = 0; n <= TOTAL_OPERATIONS; n++) {
+      long start = System.nanoTime();
+      if (primitive) {
+        sum += Protocol.readIntegerReply(in, null);
+      } else {
+        sum += (Long) Protocol.read(in);
+      }
+      duration += (System.nanoTime() - start);
+      in.reset();
+    }
+    if (sum == 0) {
+      throw new IllegalStateException();
+    }
+
+    return duration;
+  }
+
+  /**
+   * Bytes allocated by the current thread to read and decode the given reply, as a String unless
+   * told otherwise, as {@code Connection.getStatusCodeReply()} does. Needs a HotSpot JVM.
+   */
+  private static long allocatedBytesPerRead(String reply) throws IOException {
+    return allocatedBytesPerRead(reply, in -> Protocol.readStatusCodeReply(in, null));
+  }
+
+  private static long allocatedBytesPerRead(String reply, Consumer<RedisInputStream> read)
+      throws IOException {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long thread = Thread.currentThread().getId();
+    RedisInputStream in = new RedisInputStream(new ByteArrayInputStream(reply.getBytes()));
+
+    long before = 0;
+    for (int n = 0; n <= 2 * TOTAL_OPERATIONS; n++) {
+      if (n == TOTAL_OPERATIONS) {
+        // the first half warms up
+        before = threads.getThreadAllocatedBytes(thread);
+      }
+      try {
+        read.accept(in);
+      } catch (JedisDataException e) {
+        // expected
+      }
+      in.reset();
+    }
+    return (threads.getThreadAllocatedBytes(thread) - before) / TOTAL_OPERATIONS;
   }
 
   private static long measureInputMulti() throws Exception {
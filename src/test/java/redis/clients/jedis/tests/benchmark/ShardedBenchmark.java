@@ -1,13 +1,24 @@
 package redis.clients.jedis.tests.benchmark;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import redis.clients.jedis.util.Hashing;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.ShardInfo;
+import redis.clients.jedis.util.Sharded;
 
 public class ShardedBenchmark {
   private static final int TOTAL_OPERATIONS = 10000000;
+  private static final int SHARDS = 8;
+  private static final int KEYS = 1024;
 
   public static void main(String[] args) throws UnknownHostException, IOException {
 
@@ -33,5 +44,88 @@ public class ShardedBenchmark {
 
     System.out.println(((1000 * TOTAL_OPERATIONS) / elapsed) + " Murmur ops");
 
+    measureLookups();
   }
-}
\ No newline at end of file
+
+  /**
+   * Compares the ring lookup of {@link Sharded} with the {@code TreeMap} ring it replaced, which
+   * allocated a tail map view per lookup.
+   */
+  private static void measureLookups() {
+    List<Shard> shards = new ArrayList<>();
+    for (int i = 0; i < SHARDS; i++) {
+      shards.add(new Shard());
+    }
+    Sharded<Object, Shard> sharded = new Sharded<>(shards);
+    TreeMap<Long, Shard> nodes = new TreeMap<>();
+    for (int i = 0; i < SHARDS; i++) {
+      for (int n = 0; n < 160 * shards.get(i).getWeight(); n++) {
+        nodes.put(Hashing.MURMUR_HASH.hash("SHARD-" + i + "-NODE-" + n), shards.get(i));
+      }
+    }
+
+    byte[][] keys = new byte[KEYS][];
+    for (int i = 0; i < KEYS; i++) {
+      keys[i] = SafeEncoder.encode("foo" + i);
+    }
+    for (int i = 0; i < KEYS; i++) {
+      if (sharded.getShardInfo(keys[i]) != treeMapLookup(nodes, keys[i])) {
+        throw new IllegalStateException("The rings disagree on key " + i);
+      }
+    }
+
+    Shard any = shards.get(0);
+    for (int at = 0; at != 3; ++at) {
+      // the hash alone, the share of the lookups spent outside of the ring
+      measureLookup("hash only", keys, key -> Hashing.MURMUR_HASH.hash(key) == 0 ? null : any);
+      measureLookup("TreeMap ring", keys, key -> treeMapLookup(nodes, key));
+      measureLookup("array ring", keys, sharded::getShardInfo);
+    }
+  }
+
+  private static Shard treeMapLookup(TreeMap<Long, Shard> nodes, byte[] key) {
+    SortedMap<Long, Shard> tail = nodes.tailMap(Hashing.MURMUR_HASH.hash(key));
+    if (tail.isEmpty()) {
+      return nodes.get(nodes.firstKey());
+    }
+    return tail.get(tail.firstKey());
+  }
+
+  private static void measureLookup(String name, byte[][] keys,
+      Function<byte[], Shard> lookup) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long thread = Thread.currentThread().getId();
+
+    long allocated = threads.getThreadAllocatedBytes(thread);
+    long begin = System.nanoTime();
+    int misses = 0;
+    for (int n = 0; n < TOTAL_OPERATIONS; n++) {
+      if (lookup.apply(keys[n & (KEYS - 1)]) == null) {
+        misses++;
+      }
+    }
+    long elapsed = Math.max(1, System.nanoTime() - begin);
+    allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+
+    System.out.println(String.format("%10d ops, %3d bytes per lookup, %s%s",
+      1000000000L * TOTAL_OPERATIONS / elapsed, allocated / TOTAL_OPERATIONS, name,
+      misses > 0 ? ", " + misses + " misses" : ""));
+  }
+
+  private static class Shard extends ShardInfo<Object> {
+    Shard() {
+      super(Sharded.DEFAULT_WEIGHT);
+    }
+
+    @Override
+    protected Object createResource() {
+      return new Object();
+    }
+
+    @Override
+    public String getName() {
+      return null;
+    }
+  }
+}
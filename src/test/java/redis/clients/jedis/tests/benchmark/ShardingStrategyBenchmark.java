@@ -0,0 +1,109 @@
+package redis.clients.jedis.tests.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import redis.clients.jedis.util.Sharded;
+import redis.clients.jedis.util.ShardInfo;
+import redis.clients.jedis.util.ShardingStrategy;
+
+/**
+ * Compares the sharding strategies on 48 shards: how evenly they spread keys, how many keys move
+ * when a 49th shard is added, and how fast they look keys up. No Redis server is needed.
+ */
+public class ShardingStrategyBenchmark {
+  private static final int SHARDS = 48;
+  private static final int KEYS = 1000000;
+  private static final int TOTAL_OPERATIONS = 10000000;
+
+  public static void main(String[] args) {
+    String[] names = { "ketama", "jump consistent hash", "rendezvous" };
+    ShardingStrategy[] strategies = { ShardingStrategy.KETAMA,
+        ShardingStrategy.JUMP_CONSISTENT_HASH, ShardingStrategy.RENDEZVOUS };
+
+    for (int s = 0; s < strategies.length; s++) {
+      List<Shard> shards = new ArrayList<>();
+      for (int i = 0; i < SHARDS; i++) {
+        shards.add(new Shard(i));
+      }
+      Sharded<Object, Shard> sharded = new Sharded<>(shards, strategies[s]);
+      List<Shard> grownShards = new ArrayList<>(shards);
+      grownShards.add(new Shard(SHARDS));
+      Sharded<Object, Shard> grown = new Sharded<>(grownShards, strategies[s]);
+
+      int[] counts = new int[SHARDS];
+      int moved = 0;
+      for (int n = 0; n < KEYS; n++) {
+        String key = "foo" + n;
+        Shard shard = sharded.getShardInfo(key);
+        counts[shard.index]++;
+        if (grown.getShardInfo(key) != shard) {
+          moved++;
+        }
+      }
+      printDistribution(names[s], counts, moved);
+    }
+
+    for (int at = 0; at != 3; ++at) {
+      for (int s = 0; s < strategies.length; s++) {
+        measureLookups(names[s], strategies[s]);
+      }
+    }
+  }
+
+  private static void printDistribution(String name, int[] counts, int moved) {
+    double mean = (double) KEYS / SHARDS;
+    int min = Integer.MAX_VALUE;
+    int max = 0;
+    double variance = 0;
+    for (int count : counts) {
+      min = Math.min(min, count);
+      max = Math.max(max, count);
+      variance += (count - mean) * (count - mean) / SHARDS;
+    }
+    System.out.println(String.format(
+      "%-20s load min %5.1f%%, max %5.1f%%, stddev %4.1f%% of the mean, %4.2f%% keys moved"
+          + " (ideal %4.2f%%)", name, 100 * min / mean, 100 * max / mean,
+      100 * Math.sqrt(variance) / mean, 100.0 * moved / KEYS, 100.0 / (SHARDS + 1)));
+  }
+
+  private static void measureLookups(String name, ShardingStrategy strategy) {
+    List<Shard> shards = new ArrayList<>();
+    for (int i = 0; i < SHARDS; i++) {
+      shards.add(new Shard(i));
+    }
+    Sharded<Object, Shard> sharded = new Sharded<>(shards, strategy);
+    byte[][] keys = new byte[1024][];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = ("foo" + i).getBytes();
+    }
+
+    long begin = System.nanoTime();
+    int checksum = 0;
+    for (int n = 0; n < TOTAL_OPERATIONS; n++) {
+      checksum += sharded.getShardInfo(keys[n & (keys.length - 1)]).index;
+    }
+    long elapsed = Math.max(1, System.nanoTime() - begin);
+    System.out.println(String.format("%10d ops, %s%s", 1000000000L * TOTAL_OPERATIONS / elapsed,
+      name, checksum == 0 ? " (all keys on the first shard)" : ""));
+  }
+
+  private static class Shard extends ShardInfo<Object> {
+    private final int index;
+
+    Shard(int index) {
+      super(Sharded.DEFAULT_WEIGHT);
+      this.index = index;
+    }
+
+    @Override
+    protected Object createResource() {
+      return new Object();
+    }
+
+    @Override
+    public String getName() {
+      return "shard-" + index;
+    }
+  }
+}
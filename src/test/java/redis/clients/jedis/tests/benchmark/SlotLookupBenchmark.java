@@ -0,0 +1,120 @@
+package redis.clients.jedis.tests.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
+import redis.clients.jedis.BinaryJedisCluster;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClusterInfoCache;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Compares the slot table of {@link JedisClusterInfoCache} with the read-locked
+ * {@code HashMap<Integer, JedisPool>} it replaced, with many threads routing at once. No Redis
+ * server is needed: pools are created but never connected.
+ */
+public class SlotLookupBenchmark {
+  private static final int TOTAL_OPERATIONS = 10000000;
+  private static final int THREADS = 64;
+  private static final int NODES = 3;
+
+  public static void main(String[] args) throws Exception {
+    JedisClusterInfoCache cache = new JedisClusterInfoCache(new GenericObjectPoolConfig<Jedis>(),
+        DefaultJedisClientConfig.builder().build());
+    LockedSlotMap lockedSlots = new LockedSlotMap();
+
+    int slotsPerNode = BinaryJedisCluster.HASHSLOTS / NODES + 1;
+    for (int node = 0; node < NODES; node++) {
+      List<Integer> slots = new ArrayList<>();
+      for (int slot = node * slotsPerNode; slot < Math.min((node + 1) * slotsPerNode,
+        BinaryJedisCluster.HASHSLOTS); slot++) {
+        slots.add(slot);
+      }
+      HostAndPort hnp = new HostAndPort("localhost", 7379 + node);
+      cache.assignSlotsToNode(slots, hnp);
+      for (Integer slot : slots) {
+        lockedSlots.put(slot, cache.getSlotPool(slot));
+      }
+    }
+
+    for (int at = 0; at != 3; ++at) {
+      long locked = measure(slot -> lockedSlots.get(slot));
+      long snapshot = measure(cache::getSlotPool);
+      System.out.println(((1000L * TOTAL_OPERATIONS) / locked) + " ops locked map, "
+          + ((1000L * TOTAL_OPERATIONS) / snapshot) + " ops slot table");
+    }
+
+    cache.reset();
+  }
+
+  private static long measure(SlotLookup lookup) throws InterruptedException {
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(THREADS);
+    for (int t = 0; t < THREADS; t++) {
+      final int seed = t;
+      new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        int misses = 0;
+        for (int n = seed; n < TOTAL_OPERATIONS; n += THREADS) {
+          if (lookup.get(n & (BinaryJedisCluster.HASHSLOTS - 1)) == null) {
+            misses++;
+          }
+        }
+        if (misses > 0) {
+          System.out.println(misses + " unassigned slots");
+        }
+        done.countDown();
+      }).start();
+    }
+
+    long begin = System.currentTimeMillis();
+    start.countDown();
+    done.await();
+    return Math.max(1, System.currentTimeMillis() - begin);
+  }
+
+  private interface SlotLookup {
+    JedisPool get(int slot);
+  }
+
+  /**
+   * The slot map as it was before the lock-free table.
+   */
+  private static class LockedSlotMap {
+    private final Map<Integer, JedisPool> slots = new HashMap<>();
+    private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
+    private final Lock r = rwl.readLock();
+    private final Lock w = rwl.writeLock();
+
+    void put(int slot, JedisPool pool) {
+      w.lock();
+      try {
+        slots.put(slot, pool);
+      } finally {
+        w.unlock();
+      }
+    }
+
+    JedisPool get(int slot) {
+      r.lock();
+      try {
+        return slots.get(slot);
+      } finally {
+        r.unlock();
+      }
+    }
+  }
+}
@@ -34,6 +34,7 @@ import org.junit.Test;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 
+import redis.clients.jedis.Protocol;
 import redis.clients.jedis.Protocol.Keyword;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
@@ -744,6 +745,20 @@ public class AllKindOfValuesCommandsTest extends JedisCommandTestBase {
     assertFalse(bResult.getResult().isEmpty());
   }
 
+  @Test
+  public void scanViews() {
+    jedis.set("b", "b");
+    jedis.set("a", "a");
+
+    List<String> keys = new ArrayList<>();
+    byte[] cursor = jedis.scan(SCAN_POINTER_START_BINARY, new ScanParams(), null,
+      view -> keys.add(Protocol.CHARSET.decode(view).toString()));
+
+    assertArrayEquals(SCAN_POINTER_START_BINARY, cursor);
+    assertEquals(2, keys.size());
+    assertTrue(keys.contains("a"));
+  }
+
   @Test
   public void scanMatch() {
     ScanParams params = new ScanParams();
@@ -12,7 +12,12 @@ import static redis.clients.jedis.Protocol.Command.SET;
 import static redis.clients.jedis.params.SetParams.setParams;
 import static redis.clients.jedis.tests.utils.AssertUtil.assertByteArrayListEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
@@ -20,6 +25,7 @@ import org.junit.Test;
 import redis.clients.jedis.Protocol;
 
 import redis.clients.jedis.Protocol.Keyword;
+import redis.clients.jedis.args.BulkSource;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.params.GetExParams;
 import redis.clients.jedis.util.SafeEncoder;
@@ -202,6 +208,50 @@ public class BinaryValuesCommandsTest extends JedisCommandTestBase {
     assertByteArrayListEquals(expected, jedis.mget(bfoo, bbar));
   }
 
+  @Test
+  public void getToStream() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(-1, jedis.get(bfoo, out));
+
+    jedis.set(bfoo, binaryValue);
+    assertEquals(binaryValue.length, jedis.get(bfoo, out));
+    assertArrayEquals(binaryValue, out.toByteArray());
+
+    out.reset();
+    assertEquals(4, jedis.getrange(bfoo, 0, 3, Channels.newChannel(out)));
+    assertArrayEquals(Arrays.copyOf(binaryValue, 4), out.toByteArray());
+  }
+
+  @Test
+  public void setFromStream() {
+    assertEquals("OK", jedis.set(bfoo, BulkSource.of(new ByteArrayInputStream(binaryValue),
+      binaryValue.length)));
+    assertArrayEquals(binaryValue, jedis.get(bfoo));
+
+    assertEquals(binaryValue.length + 4, jedis.append(bfoo, BulkSource.of(ByteBuffer.wrap(bbar))));
+    assertEquals(binaryValue.length + 4, jedis.strlen(bfoo));
+  }
+
+  @Test
+  public void mgetViews() {
+    jedis.set(bfoo, binaryValue);
+    List<byte[]> values = new ArrayList<>();
+    jedis.mget(view -> {
+      if (view == null) {
+        values.add(null);
+      } else {
+        byte[] value = new byte[view.remaining()];
+        view.get(value);
+        values.add(value);
+      }
+    }, bfoo, bbar);
+
+    List<byte[]> expected = new ArrayList<>();
+    expected.add(binaryValue);
+    expected.add(null);
+    assertByteArrayListEquals(expected, values);
+  }
+
   @Test
   public void setnx() {
     assertEquals(1, jedis.setnx(bfoo, binaryValue));
@@ -53,6 +53,18 @@ public class JedisClusterCRC16Test {
     assertEquals(JedisClusterCRC16.getSlot("foo{bar}{zap}"), JedisClusterCRC16.getSlot("bar"));
   }
 
+  @Test
+  public void testNonAsciiGetSlot() {
+    // two, three and four bytes characters, and an unpaired surrogate encoded as '?'
+    for (String key : new String[] { "caf\u00e9", "\u20ac100", "smile\ud83d\ude00",
+        "{\u00e9t\u00e9}.x", "bad\ud83d", "bad\ude00{x" }) {
+      assertEquals(JedisClusterCRC16.getCRC16(SafeEncoder.encode(key)),
+        JedisClusterCRC16.getCRC16(key));
+      assertEquals(JedisClusterCRC16.getSlot(SafeEncoder.encode(key)),
+        JedisClusterCRC16.getSlot(key));
+    }
+  }
+
   @Test
   public void testBinaryHashtagGetSlot() {
     assertEquals(JedisClusterCRC16.getSlot("{bar".getBytes()),